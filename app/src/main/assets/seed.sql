@@ -38,12 +38,12 @@ VALUES
     'WORKER'
 );
 
--- 샘플 근무 기록 (2024년 1월)
-INSERT INTO Shift (employeeId, startTime, endTime)
+-- 샘플 근무 기록 (2024년 1월, 벽시계 기준 epoch 분)
+INSERT INTO Shift (employeeId, startMinute, endMinute)
 VALUES 
-(2, '2024-01-01 09:00:00', '2024-01-01 18:00:00'),
-(2, '2024-01-02 09:00:00', '2024-01-02 18:00:00'),
-(3, '2024-01-01 13:00:00', '2024-01-01 22:00:00'),
-(3, '2024-01-02 13:00:00', '2024-01-02 22:00:00'),
-(4, '2024-01-01 10:00:00', '2024-01-01 19:00:00'),
-(4, '2024-01-02 10:00:00', '2024-01-02 19:00:00'); 
\ No newline at end of file
+(2, strftime('%s', '2024-01-01 09:00:00') / 60, strftime('%s', '2024-01-01 18:00:00') / 60),
+(2, strftime('%s', '2024-01-02 09:00:00') / 60, strftime('%s', '2024-01-02 18:00:00') / 60),
+(3, strftime('%s', '2024-01-01 13:00:00') / 60, strftime('%s', '2024-01-01 22:00:00') / 60),
+(3, strftime('%s', '2024-01-02 13:00:00') / 60, strftime('%s', '2024-01-02 22:00:00') / 60),
+(4, strftime('%s', '2024-01-01 10:00:00') / 60, strftime('%s', '2024-01-01 19:00:00') / 60),
+(4, strftime('%s', '2024-01-02 10:00:00') / 60, strftime('%s', '2024-01-02 19:00:00') / 60);
\ No newline at end of file
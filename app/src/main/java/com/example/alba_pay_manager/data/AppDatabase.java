@@ -1,22 +1,31 @@
 package com.example.alba_pay_manager.data;
 
 import android.content.Context;
+import android.content.SharedPreferences;
 import android.database.Cursor;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.room.Database;
+import androidx.room.InvalidationTracker;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
 import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
+import com.example.alba_pay_manager.payroll.HolidayCalendar;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
+
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * 앱의 Room 데이터베이스
@@ -26,75 +35,445 @@ import java.io.OutputStream;
         Employee.class,
         Shift.class,
         Payroll.class,
-        MinimumWage.class
+        MinimumWage.class,
+        ShiftDailyRollup.class,
+        PayrollDirty.class,
+        PayrollAccumulator.class,
+        PayrollWeekAccumulator.class,
+        ClosureDay.class,
+        EmployeeWage.class,
+        ShiftSegment.class,
+        PublicHoliday.class
     },
-    version = 1,
-    exportSchema = false
+    version = 10,
+    exportSchema = true
 )
 @TypeConverters({Converters.class})
 public abstract class AppDatabase extends RoomDatabase {
     private static final String TAG = "AppDatabase";
     private static volatile AppDatabase INSTANCE;
     private static final String DB_NAME = "alba.db";
+    private static final int PUBLIC_HOLIDAYS_FROM_YEAR = 2000; // 공휴일 표에 옮겨 두는 첫 연도
+    private static final String PREF_NAME = "holiday_calendar";
+    private static final String KEY_PUBLIC_HOLIDAYS_VERSION = "public_holidays_version"; // 마지막으로 맞춘 HolidayCalendar.TABLE_VERSION
+    // 급여 계산에 들어가는 테이블 (바뀌면 PayrollResultCache 를 비운다)
+    private static final String[] PAYROLL_INPUT_TABLES = {
+        "Shift", "Employee", "employee_wage_history", "minimum_wages", "closure_days", "public_holidays"
+    };
+    private static final int MAX_LOGGED_REJECTED_SHIFTS = 50; // 마이그레이션에서 버리는 행을 로그에 남기는 최대 건수
 
     public abstract EmployeeDao employeeDao();
     public abstract ShiftDao shiftDao();
     public abstract PayrollDao payrollDao();
     public abstract MinimumWageDao minimumWageDao();
+    public abstract ShiftRollupDao shiftRollupDao();
+    public abstract PayrollAccumulatorDao payrollAccumulatorDao();
+    public abstract ClosureDayDao closureDayDao();
+    public abstract EmployeeWageDao employeeWageDao();
+    public abstract ShiftSegmentDao shiftSegmentDao();
 
-    @NonNull
-    public static synchronized AppDatabase getInstance(@NonNull Context context) {
-        if (INSTANCE == null) {
-            INSTANCE = Room.databaseBuilder(
-                    context.getApplicationContext(),
-                    AppDatabase.class,
-                    DB_NAME)
-                    .fallbackToDestructiveMigration() // 데이터베이스 버전이 변경되면 테이블을 재생성
-                    .allowMainThreadQueries() // 테스트를 위해 임시로 메인 스레드 쿼리 허용
-                    .build();
-
-            // 초기 데이터 확인
-            try (Cursor cursor = INSTANCE.getOpenHelper().getReadableDatabase().query(
-                "SELECT * FROM Employee")) {
-                Log.i(TAG, "Employee 테이블 데이터 확인 시작");
-                int rowCount = 0;
-                while (cursor.moveToNext()) {
-                    rowCount++;
-                    String username = cursor.getString(cursor.getColumnIndexOrThrow("username"));
-                    String role = cursor.getString(cursor.getColumnIndexOrThrow("role"));
-                    Log.i(TAG, "사용자 발견: username=" + username + ", role=" + role);
+    /**
+     * v1 -> v2: Shift.startTime/endTime(ISO 문자열)을 epoch 분 정수 컬럼으로 변환
+     * 구버전에서 epoch 초로 저장된 행(TEXT 컬럼이라 숫자 문자열로 남는다)도 함께 처리한다.
+     * 시각을 읽을 수 없거나 길이가 1~1440분이 아닌 행은 옮기지 않으며, 버리기 전에 건수와 내용을 로그로 남긴다.
+     */
+    static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            String validShift = epochMinuteSql("endTime") + " - " + epochMinuteSql("startTime") +
+                    " BETWEEN 1 AND " + Shift.MAX_DURATION_MINUTES;
+            try (Cursor cursor = db.query("SELECT `id`, `employeeId`, `startTime`, `endTime` FROM `Shift` " +
+                    "WHERE (" + validShift + ") IS NOT 1")) {
+                int rejected = cursor.getCount();
+                if (rejected > 0) {
+                    Log.w(TAG, "v1 근무 " + rejected + "건은 시각을 읽을 수 없거나 길이가 잘못되어 옮기지 않습니다.");
+                    for (int i = 0; i < MAX_LOGGED_REJECTED_SHIFTS && cursor.moveToNext(); i++) {
+                        Log.w(TAG, "버리는 근무: id=" + cursor.getLong(0) + ", employeeId=" + cursor.getLong(1) +
+                                ", startTime=" + cursor.getString(2) + ", endTime=" + cursor.getString(3));
+                    }
                 }
-                if (rowCount == 0) {
-                    Log.i(TAG, "Employee 테이블이 비어있습니다. 초기 데이터를 삽입합니다.");
-                    // 초기 관리자 계정 생성
-                    Employee owner = new Employee("admin", "admin1234", "관리자", 0, "OWNER");
-                    INSTANCE.employeeDao().insert(owner);
-                    Log.i(TAG, "초기 관리자 계정이 생성되었습니다.");
-                } else {
-                    Log.i(TAG, "Employee 테이블에 " + rowCount + "개의 데이터가 있습니다.");
+            }
+            db.execSQL("CREATE TABLE IF NOT EXISTS `Shift_new` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`startMinute` INTEGER NOT NULL, " +
+                    "`endMinute` INTEGER NOT NULL, " +
+                    "FOREIGN KEY(`employeeId`) REFERENCES `Employee`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("INSERT INTO `Shift_new` (`id`, `employeeId`, `startMinute`, `endMinute`) " +
+                    "SELECT `id`, `employeeId`, " + epochMinuteSql("startTime") + ", " +
+                    epochMinuteSql("endTime") + " FROM `Shift` " +
+                    "WHERE " + validShift);
+            db.execSQL("DROP TABLE `Shift`");
+            db.execSQL("ALTER TABLE `Shift_new` RENAME TO `Shift`");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_Shift_employeeId_startMinute` " +
+                    "ON `Shift` (`employeeId`, `startMinute`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_Shift_startMinute` " +
+                    "ON `Shift` (`startMinute`)");
+            Log.i(TAG, "Shift 테이블을 epoch 분 스키마(v2)로 마이그레이션했습니다.");
+        }
+    };
+
+    /**
+     * v2 -> v3: 일자별 근무 집계 테이블과 이를 유지하는 Shift 트리거 추가
+     */
+    static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `shift_daily_rollup` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`day` INTEGER NOT NULL, " +
+                    "`minutes` INTEGER NOT NULL, " +
+                    "`nightMinutes` INTEGER NOT NULL, " +
+                    "`weekendMinutes` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `day`))");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_shift_daily_rollup_day` " +
+                    "ON `shift_daily_rollup` (`day`)");
+            db.execSQL(ShiftSql.rollupBackfill());
+            createTriggers(db);
+            Log.i(TAG, "shift_daily_rollup 테이블을 생성하고 기존 근무로 채웠습니다.");
+        }
+    };
+
+    /**
+     * v3 -> v4: Payroll 수당별 내역 컬럼과 재계산 표시(payroll_dirty) 테이블 추가
+     */
+    static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            String[] columns = {
+                "regularMinutes", "nightMinutes", "overtimeMinutes", "holidayMinutes",
+                "weeklyAllowanceMinutes", "regularPay", "nightPay", "overtimePay",
+                "holidayPay", "weeklyAllowancePay"
+            };
+            for (String column : columns) {
+                db.execSQL("ALTER TABLE `Payroll` ADD COLUMN `" + column + "` " +
+                        "INTEGER NOT NULL DEFAULT 0");
+            }
+            db.execSQL("CREATE TABLE IF NOT EXISTS `payroll_dirty` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`year` INTEGER NOT NULL, " +
+                    "`month` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `year`, `month`))");
+            // 기존 Payroll 행에는 내역이 없으므로 근무가 있는 모든 월을 다시 계산 대상으로 표시
+            db.execSQL(ShiftSql.payrollDirtyBackfill());
+            db.execSQL("INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+                    "SELECT employeeId, year, month FROM `Payroll`");
+            createTriggers(db);
+            Log.i(TAG, "payroll_dirty 테이블을 생성했습니다.");
+        }
+    };
+
+    /**
+     * v4 -> v5: 월/주 급여 누적 테이블 추가
+     */
+    static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `payroll_accumulator` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`year` INTEGER NOT NULL, " +
+                    "`month` INTEGER NOT NULL, " +
+                    "`totalMinutes` INTEGER NOT NULL, " +
+                    "`regularMinutes` INTEGER NOT NULL, " +
+                    "`nightMinutes` INTEGER NOT NULL, " +
+                    "`overtimeMinutes` INTEGER NOT NULL, " +
+                    "`holidayMinutes` INTEGER NOT NULL, " +
+                    "`weeklyAllowanceMinutes` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `year`, `month`))");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `payroll_week_accumulator` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`year` INTEGER NOT NULL, " +
+                    "`month` INTEGER NOT NULL, " +
+                    "`week` INTEGER NOT NULL, " +
+                    "`minutes` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `year`, `month`, `week`))");
+            // 채우기와 트리거는 바로 이어지는 MIGRATION_5_6 이 v6 스키마로 만든다
+            Log.i(TAG, "급여 누적 테이블을 생성했습니다.");
+        }
+    };
+
+    /**
+     * v5 -> v6: 주휴 분을 월 경계에서 나누지 않고 온전한 주로 정산해 일요일이 속한 월에 반영
+     * 주 누적 테이블의 키를 (알바생, 주)로 바꾸고 누적과 관련 트리거를 다시 만든다.
+     */
+    static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            String[] staleTriggers = {
+                "payroll_accumulator_after_rollup_insert",
+                "payroll_accumulator_after_rollup_delete",
+                "payroll_accumulator_after_rollup_update",
+                "payroll_dirty_after_shift_insert",
+                "payroll_dirty_after_shift_delete",
+                "payroll_dirty_after_shift_update"
+            };
+            for (String trigger : staleTriggers) {
+                db.execSQL("DROP TRIGGER IF EXISTS `" + trigger + "`");
+            }
+            db.execSQL("DROP TABLE IF EXISTS `payroll_week_accumulator`");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `payroll_week_accumulator` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`week` INTEGER NOT NULL, " +
+                    "`minutes` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `week`))");
+            db.execSQL("DELETE FROM `payroll_accumulator`");
+            for (String statement : ShiftSql.accumulatorBackfill()) {
+                db.execSQL(statement);
+            }
+            // 주휴 정산 규칙이 바뀌었으므로 저장된 월 급여를 모두 다시 계산
+            db.execSQL("INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+                    "SELECT employeeId, year, month FROM `Payroll`");
+            createTriggers(db);
+            Log.i(TAG, "주 누적을 온전한 주 기준으로 다시 만들었습니다.");
+        }
+    };
+
+    /**
+     * v6 -> v7: 매장 휴무일(closure_days) 테이블 추가
+     * 공휴일이 휴일근로로 계산되도록 바뀌었으므로 저장된 월 급여를 모두 다시 계산한다.
+     */
+    static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `closure_days` (" +
+                    "`day` INTEGER NOT NULL, " +
+                    "`name` TEXT NOT NULL, " +
+                    "PRIMARY KEY(`day`))");
+            db.execSQL("INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+                    "SELECT employeeId, year, month FROM `Payroll`");
+            createTriggers(db);
+            Log.i(TAG, "closure_days 테이블을 생성했습니다.");
+        }
+    };
+
+    /**
+     * v7 -> v8: 알바생 시급 이력(employee_wage_history) 테이블 추가
+     * 지금까지는 현재 시급 하나로 계산했으므로 현재 시급을 첫 이력으로 채운다 (저장된 급여는 그대로 유효).
+     * 시급 변경 시 모든 월을 표시하던 트리거는 적용 시작 월 이후만 표시하는 이력 트리거로 바꾼다.
+     */
+    static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `employee_wage_history` (" +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`effectiveFrom` INTEGER NOT NULL, " +
+                    "`wage` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`employeeId`, `effectiveFrom`), " +
+                    "FOREIGN KEY(`employeeId`) REFERENCES `Employee`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("INSERT OR IGNORE INTO `employee_wage_history` (`employeeId`, `effectiveFrom`, `wage`) " +
+                    "SELECT id, 0, hourlyWage FROM `Employee`");
+            db.execSQL("DROP TRIGGER IF EXISTS `payroll_dirty_after_wage_update`");
+            createTriggers(db);
+            Log.i(TAG, "employee_wage_history 테이블을 생성했습니다.");
+        }
+    };
+
+    /**
+     * v8 -> v9: 근무 구간(shift_segment)과 평일 공휴일 표(public_holidays) 추가
+     * 공휴일 표는 getInstance 뒤 백그라운드에서 HolidayCalendar 와 맞추며, 그때 트리거가 기존 구간의 휴일 비트를 표시한다.
+     */
+    static final Migration MIGRATION_8_9 = new Migration(8, 9) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `public_holidays` (" +
+                    "`day` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`day`))");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `shift_segment` (" +
+                    "`shiftId` INTEGER NOT NULL, " +
+                    "`employeeId` INTEGER NOT NULL, " +
+                    "`day` INTEGER NOT NULL, " +
+                    "`startMinute` INTEGER NOT NULL, " +
+                    "`endMinute` INTEGER NOT NULL, " +
+                    "`minutes` INTEGER NOT NULL, " +
+                    "`kind` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`shiftId`, `startMinute`), " +
+                    "FOREIGN KEY(`shiftId`) REFERENCES `Shift`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_shift_segment_employeeId_day` " +
+                    "ON `shift_segment` (`employeeId`, `day`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_shift_segment_day` " +
+                    "ON `shift_segment` (`day`)");
+            for (String statement : ShiftSql.segmentBackfill()) {
+                db.execSQL(statement);
+            }
+            createTriggers(db);
+            Log.i(TAG, "shift_segment 테이블을 생성하고 기존 근무로 채웠습니다.");
+        }
+    };
+
+    /**
+     * v9 -> v10: 근무 길이(1~1440분)를 DB 에서 강제하는 트리거 추가
+     * 이전 버전은 0분 근무를 막지 않았으므로, 범위를 벗어난 행은 건수와 내용을 로그로 남기고 지운다
+     * (삭제 트리거가 집계, 구간, 재계산 표시를 함께 정리한다).
+     */
+    static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            String invalid = "NOT (" + ShiftSql.VALID_DURATION + ")";
+            try (Cursor cursor = db.query("SELECT `id`, `employeeId`, `startMinute`, `endMinute` FROM `Shift` " +
+                    "WHERE " + invalid)) {
+                int rejected = cursor.getCount();
+                if (rejected > 0) {
+                    Log.w(TAG, "길이가 1~1440분이 아닌 근무 " + rejected + "건을 지웁니다.");
+                    for (int i = 0; i < MAX_LOGGED_REJECTED_SHIFTS && cursor.moveToNext(); i++) {
+                        Log.w(TAG, "지우는 근무: id=" + cursor.getLong(0) + ", employeeId=" + cursor.getLong(1) +
+                                ", startMinute=" + cursor.getLong(2) + ", endMinute=" + cursor.getLong(3));
+                    }
                 }
             }
+            db.execSQL("DELETE FROM `Shift` WHERE " + invalid);
+            createTriggers(db);
+            Log.i(TAG, "근무 길이 검사 트리거를 추가했습니다.");
+        }
+    };
+
+    /**
+     * Room 이 만들지 않는 트리거 (새 DB 생성 시와 마이그레이션 시 모두 호출)
+     */
+    static void createTriggers(@NonNull SupportSQLiteDatabase db) {
+        for (String trigger : ShiftSql.durationCheckTriggers()) {
+            db.execSQL(trigger);
+        }
+        for (String trigger : ShiftSql.rollupTriggers()) {
+            db.execSQL(trigger);
+        }
+        if (tableExists(db, "payroll_dirty")) {
+            for (String trigger : ShiftSql.payrollDirtyTriggers()) {
+                db.execSQL(trigger);
+            }
+            if (tableExists(db, "closure_days")) {
+                for (String trigger : ShiftSql.closureDayDirtyTriggers()) {
+                    db.execSQL(trigger);
+                }
+            }
+            if (tableExists(db, "employee_wage_history")) {
+                for (String trigger : ShiftSql.wageHistoryTriggers()) {
+                    db.execSQL(trigger);
+                }
+            }
+        }
+        if (tableExists(db, "payroll_accumulator")) {
+            for (String trigger : ShiftSql.accumulatorTriggers()) {
+                db.execSQL(trigger);
+            }
+        }
+        if (tableExists(db, "shift_segment")) {
+            for (String trigger : ShiftSql.segmentTriggers()) {
+                db.execSQL(trigger);
+            }
+        }
+    }
+
+    /** 새 DB 를 만들 때 트리거를 설치하는 콜백 */
+    private static final Callback CREATE_TRIGGERS = new Callback() {
+        @Override
+        public void onCreate(@NonNull SupportSQLiteDatabase db) {
+            createTriggers(db);
+        }
+    };
+
+    /**
+     * 테스트용 메모리 DB (앱 DB 와 같은 스키마와 트리거, 공휴일 표, 초기 데이터 없음)
+     * 테스트 스레드에서 바로 조회하도록 메인 스레드 쿼리를 허용하며, 호출한 쪽이 다 쓰고 close 한다.
+     */
+    @VisibleForTesting
+    @NonNull
+    public static AppDatabase createInMemory(@NonNull Context context) {
+        AppDatabase db = Room.inMemoryDatabaseBuilder(context.getApplicationContext(), AppDatabase.class)
+                .addCallback(CREATE_TRIGGERS)
+                .allowMainThreadQueries()
+                .build();
+        syncPublicHolidays(db);
+        return db;
+    }
+
+    private static boolean tableExists(@NonNull SupportSQLiteDatabase db, @NonNull String table) {
+        try (Cursor cursor = db.query(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?",
+                new Object[] {table})) {
+            return cursor.moveToFirst();
+        }
+    }
+
+    /**
+     * v1 컬럼 값을 epoch 분으로 바꾸는 SQL 식 (ISO 문자열 또는 epoch 초)
+     * 컬럼이 TEXT 친화도라 epoch 초는 숫자 문자열로 저장되어 있으므로 숫자로만 된 값을 epoch 초로 본다.
+     */
+    private static String epochMinuteSql(String column) {
+        String value = "`" + column + "`";
+        return "(CASE WHEN typeof(" + value + ") = 'integer' " +
+               "OR (" + value + " <> '' AND " + value + " NOT GLOB '*[^0-9]*') " +
+               "THEN CAST(" + value + " AS INTEGER) / 60 " +
+               "ELSE CAST(strftime('%s', " + value + ") AS INTEGER) / 60 END)";
+    }
+
+    @NonNull
+    public static synchronized AppDatabase getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            int section = TraceSections.begin("AppDatabase.getInstance");
+            try {
+                INSTANCE = Room.databaseBuilder(
+                        context.getApplicationContext(),
+                        AppDatabase.class,
+                        DB_NAME)
+                        .addMigrations(MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4, MIGRATION_4_5, MIGRATION_5_6,
+                                MIGRATION_6_7, MIGRATION_7_8, MIGRATION_8_9, MIGRATION_9_10)
+                        .addCallback(CREATE_TRIGGERS)
+                        .openHelperFactory(new TimingOpenHelperFactory()) // 문장별 실행 시간 (QueryStats)
+                        .allowMainThreadQueries() // 테스트를 위해 임시로 메인 스레드 쿼리 허용
+                        .build();
+                watchClosureDays(INSTANCE);
+                watchMinimumWages(INSTANCE);
+                watchPayrollInputs(INSTANCE);
+                schedulePublicHolidaySync(context, INSTANCE);
 
-            // 최저시급 데이터 확인
-            try (Cursor cursor = INSTANCE.getOpenHelper().getReadableDatabase().query(
-                "SELECT * FROM minimum_wages")) {
-                Log.i(TAG, "minimum_wages 테이블 데이터 확인 시작");
-                int rowCount = 0;
-                while (cursor.moveToNext()) {
-                    rowCount++;
-                    int year = cursor.getInt(cursor.getColumnIndexOrThrow("year"));
-                    int wage = cursor.getInt(cursor.getColumnIndexOrThrow("wage"));
-                    Log.i(TAG, "최저시급 발견: year=" + year + ", wage=" + wage);
+                // 초기 데이터 확인
+                try (Cursor cursor = INSTANCE.getOpenHelper().getReadableDatabase().query(
+                    "SELECT * FROM Employee")) {
+                    Log.i(TAG, "Employee 테이블 데이터 확인 시작");
+                    int rowCount = 0;
+                    while (cursor.moveToNext()) {
+                        rowCount++;
+                        String username = cursor.getString(cursor.getColumnIndexOrThrow("username"));
+                        String role = cursor.getString(cursor.getColumnIndexOrThrow("role"));
+                        Log.i(TAG, "사용자 발견: username=" + username + ", role=" + role);
+                    }
+                    if (rowCount == 0) {
+                        Log.i(TAG, "Employee 테이블이 비어있습니다. 초기 데이터를 삽입합니다.");
+                        // 초기 관리자 계정 생성
+                        Employee owner = new Employee("admin", "admin1234", "관리자", 0, "OWNER");
+                        INSTANCE.employeeDao().insert(owner);
+                        Log.i(TAG, "초기 관리자 계정이 생성되었습니다.");
+                    } else {
+                        Log.i(TAG, "Employee 테이블에 " + rowCount + "개의 데이터가 있습니다.");
+                    }
                 }
-                if (rowCount == 0) {
-                    Log.i(TAG, "minimum_wages 테이블이 비어있습니다. 초기 데이터를 삽입합니다.");
-                    // 2024-2025년 최저시급 데이터 삽입
-                    INSTANCE.minimumWageDao().insert(new MinimumWage(2024, 9860));
-                    INSTANCE.minimumWageDao().insert(new MinimumWage(2025, 10030));
-                    Log.i(TAG, "최저시급 초기 데이터가 삽입되었습니다.");
-                } else {
-                    Log.i(TAG, "minimum_wages 테이블에 " + rowCount + "개의 데이터가 있습니다.");
+
+                // 최저시급 데이터 확인
+                try (Cursor cursor = INSTANCE.getOpenHelper().getReadableDatabase().query(
+                    "SELECT * FROM minimum_wages")) {
+                    Log.i(TAG, "minimum_wages 테이블 데이터 확인 시작");
+                    int rowCount = 0;
+                    while (cursor.moveToNext()) {
+                        rowCount++;
+                        int year = cursor.getInt(cursor.getColumnIndexOrThrow("year"));
+                        int wage = cursor.getInt(cursor.getColumnIndexOrThrow("wage"));
+                        Log.i(TAG, "최저시급 발견: year=" + year + ", wage=" + wage);
+                    }
+                    if (rowCount == 0) {
+                        Log.i(TAG, "minimum_wages 테이블이 비어있습니다. 초기 데이터를 삽입합니다.");
+                        // 2024-2025년 최저시급 데이터 삽입
+                        INSTANCE.minimumWageDao().insert(new MinimumWage(2024, 9860));
+                        INSTANCE.minimumWageDao().insert(new MinimumWage(2025, 10030));
+                        Log.i(TAG, "최저시급 초기 데이터가 삽입되었습니다.");
+                    } else {
+                        Log.i(TAG, "minimum_wages 테이블에 " + rowCount + "개의 데이터가 있습니다.");
+                    }
                 }
+            } finally {
+                TraceSections.end(section);
             }
         }
         return INSTANCE;
@@ -156,6 +535,89 @@ public abstract class AppDatabase extends RoomDatabase {
         }
     }
 
+    /**
+     * 최저시급 스냅샷을 읽어 두고, DAO 의 insert 를 거치지 않은 변경(에셋 DB 등)에도 다시 읽는다
+     */
+    private static void watchMinimumWages(@NonNull AppDatabase db) {
+        MinimumWageSnapshot.reload(db.minimumWageDao());
+        db.getInvalidationTracker().addObserver(new InvalidationTracker.Observer("minimum_wages") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                MinimumWageSnapshot.reload(db.minimumWageDao());
+            }
+        });
+    }
+
+    /**
+     * 급여 계산 입력 테이블이 바뀌면 화면 계산 결과 캐시를 비운다 (트리거 등 DAO 밖의 변경 포함)
+     */
+    private static void watchPayrollInputs(@NonNull AppDatabase db) {
+        db.getInvalidationTracker().addObserver(new InvalidationTracker.Observer(PAYROLL_INPUT_TABLES) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                PayrollResultCache.dataChanged();
+            }
+        });
+    }
+
+    /**
+     * 공휴일 표 버전이 마지막으로 맞춘 버전과 다를 때만 Room 의 쿼리 실행기에서 공휴일 표를 맞춘다
+     * (getInstance 의 잠금을 잡은 채 수십 년치 달력을 만들지 않는다)
+     * 음력 공휴일 표가 끝나 가면 매번 경고를 남긴다.
+     */
+    private static void schedulePublicHolidaySync(@NonNull Context context, @NonNull AppDatabase db) {
+        int thisYear = LocalDate.now().getYear();
+        if (thisYear + 1 > HolidayCalendar.LAST_LUNAR_YEAR) {
+            Log.w(TAG, "음력 공휴일 표가 " + HolidayCalendar.LAST_LUNAR_YEAR + "년까지만 있습니다. "
+                    + "이후 설날, 부처님오신날, 추석은 매장 휴무일로 등록해야 휴일로 계산됩니다.");
+        }
+        SharedPreferences prefs = context.getApplicationContext()
+                .getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        if (prefs.getInt(KEY_PUBLIC_HOLIDAYS_VERSION, 0) == HolidayCalendar.TABLE_VERSION) {
+            return;
+        }
+        db.getQueryExecutor().execute(() -> {
+            try {
+                syncPublicHolidays(db);
+                prefs.edit().putInt(KEY_PUBLIC_HOLIDAYS_VERSION, HolidayCalendar.TABLE_VERSION).apply();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "평일 공휴일 표를 맞추지 못했습니다. 다음 실행에서 다시 시도합니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 평일 공휴일 표를 HolidayCalendar 와 맞춘다
+     */
+    private static void syncPublicHolidays(@NonNull AppDatabase db) {
+        int changed = db.closureDayDao().syncPublicHolidays(HolidayCalendar.publicWeekdayHolidays(
+                PUBLIC_HOLIDAYS_FROM_YEAR, HolidayCalendar.LAST_LUNAR_YEAR));
+        if (changed > 0) {
+            Log.i(TAG, "평일 공휴일 표를 " + changed + "건 갱신했습니다.");
+        }
+    }
+
+    /**
+     * 매장 휴무일을 읽어 휴일 달력에 넘겨 두고, 테이블이 바뀔 때마다 다시 읽어 넘긴다
+     * 달력은 넘겨받은 배열만 보므로 급여 계산 중에는 DB 에 접근하지 않는다.
+     */
+    private static void watchClosureDays(@NonNull AppDatabase db) {
+        reloadClosureDays(db);
+        db.getInvalidationTracker().addObserver(new InvalidationTracker.Observer("closure_days") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                reloadClosureDays(db);
+            }
+        });
+    }
+
+    /**
+     * 읽기와 교체를 직렬화해 늦게 끝난 오래된 읽기가 새 휴무일을 덮지 않게 한다
+     */
+    private static synchronized void reloadClosureDays(@NonNull AppDatabase db) {
+        HolidayCalendar.setClosureDays(db.closureDayDao().getAllClosureDayNumbers());
+    }
+
     /**
      * 데이터베이스 파일이 유효한지 확인
      */
@@ -0,0 +1,21 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Embedded;
+
+/**
+ * 조회 구간으로 잘라낸 근무 시간을 함께 담는 조회 결과
+ */
+public class ClippedShift {
+    @NonNull
+    @Embedded
+    public final Shift shift;
+
+    /** 조회 구간 안에 포함된 근무 시간(분) */
+    public final int clippedMinutes;
+
+    public ClippedShift(@NonNull Shift shift, int clippedMinutes) {
+        this.shift = shift;
+        this.clippedMinutes = clippedMinutes;
+    }
+}
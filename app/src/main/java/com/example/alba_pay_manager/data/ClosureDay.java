@@ -0,0 +1,40 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * 매장 휴무일 (휴일근로수당 계산에서 휴일로 본다)
+ *
+ * 임시공휴일, 선거일 등 공휴일 표에 없는 날도 여기에 등록한다.
+ */
+@Entity(tableName = "closure_days")
+public class ClosureDay {
+    @PrimaryKey
+    private long day; // epoch 일
+    @NonNull
+    private String name;
+
+    public ClosureDay(long day, @NonNull String name) {
+        this.day = day;
+        this.name = name;
+    }
+
+    public long getDay() {
+        return day;
+    }
+
+    public void setDay(long day) {
+        this.day = day;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public void setName(@NonNull String name) {
+        this.name = name;
+    }
+}
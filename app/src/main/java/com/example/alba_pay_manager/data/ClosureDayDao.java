@@ -0,0 +1,77 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 매장 휴무일과 평일 공휴일 표 데이터 접근 객체
+ * 기간은 epoch 일 기준 [fromDay, toDay) 이다.
+ */
+@Dao
+public interface ClosureDayDao {
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(ClosureDay closureDay);
+
+    @Query("DELETE FROM closure_days WHERE day = :day")
+    void delete(long day);
+
+    @Query("SELECT * FROM closure_days WHERE day >= :fromDay AND day < :toDay ORDER BY day")
+    @NonNull
+    List<ClosureDay> getClosureDays(long fromDay, long toDay);
+
+    @Query("SELECT day FROM closure_days ORDER BY day")
+    @NonNull
+    long[] getAllClosureDayNumbers();
+
+    @Query("SELECT day FROM public_holidays ORDER BY day")
+    @NonNull
+    long[] getPublicHolidayDays();
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertPublicHolidays(@NonNull List<PublicHoliday> holidays);
+
+    @Query("DELETE FROM public_holidays WHERE day IN (:days)")
+    void deletePublicHolidays(@NonNull long[] days);
+
+    /**
+     * 공휴일 표를 주어진 날짜들과 같게 맞춘다 (달라진 날만 쓰므로 보통은 읽기 한 번으로 끝난다)
+     *
+     * @param days 평일 공휴일 (epoch 일, 오름차순)
+     * @return 바뀐 행 수
+     */
+    @Transaction
+    default int syncPublicHolidays(@NonNull long[] days) {
+        long[] stored = getPublicHolidayDays();
+        if (Arrays.equals(stored, days)) {
+            return 0;
+        }
+        List<PublicHoliday> added = new ArrayList<>();
+        for (long day : days) {
+            if (Arrays.binarySearch(stored, day) < 0) {
+                added.add(new PublicHoliday(day));
+            }
+        }
+        long[] removed = new long[stored.length];
+        int removedCount = 0;
+        for (long day : stored) {
+            if (Arrays.binarySearch(days, day) < 0) {
+                removed[removedCount++] = day;
+            }
+        }
+        if (!added.isEmpty()) {
+            insertPublicHolidays(added);
+        }
+        if (removedCount > 0) {
+            deletePublicHolidays(Arrays.copyOf(removed, removedCount));
+        }
+        return added.size() + removedCount;
+    }
+}
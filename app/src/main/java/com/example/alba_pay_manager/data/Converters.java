@@ -1,5 +1,6 @@
 package com.example.alba_pay_manager.data;
 
+import androidx.annotation.NonNull;
 import androidx.room.TypeConverter;
 import android.util.Base64;
 import android.util.Log;
@@ -15,16 +16,6 @@ import java.time.ZoneOffset;
 public class Converters {
     private static final String TAG = "Converters";
 
-    @TypeConverter
-    public static LocalDateTime fromTimestamp(String value) {
-        return value == null ? null : LocalDateTime.parse(value);
-    }
-
-    @TypeConverter
-    public static String dateTimeToTimestamp(LocalDateTime dateTime) {
-        return dateTime == null ? null : dateTime.toString();
-    }
-
     @TypeConverter
     public static LocalDate fromDateString(String value) {
         return value == null ? null : LocalDate.parse(value);
@@ -45,15 +36,27 @@ public class Converters {
         return time == null ? null : time.toString();
     }
 
+    /**
+     * LocalDateTime은 벽시계 기준 epoch 분(INTEGER)으로만 변환한다.
+     * Shift.startMinute/endMinute 컬럼과 DAO 범위 파라미터가 같은 단위를 쓰도록 하기 위함
+     */
     @TypeConverter
     public static LocalDateTime fromTimestamp(Long value) {
-        return value == null ? null : 
-            LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC);
+        return value == null ? null : fromEpochMinute(value);
     }
 
     @TypeConverter
     public static Long dateToTimestamp(LocalDateTime date) {
-        return date == null ? null : date.toEpochSecond(ZoneOffset.UTC);
+        return date == null ? null : toEpochMinute(date);
+    }
+
+    public static long toEpochMinute(@NonNull LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+
+    @NonNull
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
     }
 
     @TypeConverter
@@ -0,0 +1,56 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+
+/**
+ * 알바생 시급 이력 (적용 시작일부터 다음 이력 전날까지 이 시급을 쓴다)
+ *
+ * effectiveFrom 은 epoch 일이며, 첫 이력은 그보다 이른 날에도 적용된다.
+ * Employee.hourlyWage 는 현재 시급이고, 바뀌면 트리거가 오늘부터의 이력을 추가한다.
+ */
+@Entity(
+    tableName = "employee_wage_history",
+    primaryKeys = {"employeeId", "effectiveFrom"},
+    foreignKeys = @ForeignKey(
+        entity = Employee.class,
+        parentColumns = "id",
+        childColumns = "employeeId",
+        onDelete = ForeignKey.CASCADE
+    )
+)
+public class EmployeeWage {
+    private long employeeId;
+    private long effectiveFrom; // 적용 시작일 (epoch 일)
+    private int wage;
+
+    public EmployeeWage(long employeeId, long effectiveFrom, int wage) {
+        this.employeeId = employeeId;
+        this.effectiveFrom = effectiveFrom;
+        this.wage = wage;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public long getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public void setEffectiveFrom(long effectiveFrom) {
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public int getWage() {
+        return wage;
+    }
+
+    public void setWage(int wage) {
+        this.wage = wage;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+/**
+ * 알바생 시급 이력 데이터 접근 객체
+ * 이력을 추가/삭제하면 트리거가 적용 시작 월 이후의 저장된 급여를 dirty 로 표시한다.
+ */
+@Dao
+public interface EmployeeWageDao {
+    /**
+     * 적용 시작일부터의 시급 등록 (같은 날 이력이 있으면 바꾼다, 소급 인상에도 쓴다)
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(EmployeeWage employeeWage);
+
+    @Query("DELETE FROM employee_wage_history WHERE employeeId = :employeeId AND effectiveFrom = :effectiveFrom")
+    void delete(long employeeId, long effectiveFrom);
+
+    /**
+     * 알바생 한 명의 이력 (적용 시작일 오름차순)
+     */
+    @Query("SELECT * FROM employee_wage_history WHERE employeeId = :employeeId ORDER BY effectiveFrom")
+    @NonNull
+    List<EmployeeWage> getWageHistory(long employeeId);
+
+    /**
+     * toDay 이전에 시작한 모든 알바생의 이력 ((employeeId, 적용 시작일) 순, 일괄 계산의 병합용)
+     */
+    @Query("SELECT * FROM employee_wage_history WHERE effectiveFrom < :toDay " +
+           "ORDER BY employeeId, effectiveFrom")
+    @NonNull
+    List<EmployeeWage> getWageHistoriesBefore(long toDay);
+}
@@ -1,10 +1,13 @@
 package com.example.alba_pay_manager.data;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.Query;
 
+import java.util.List;
+
 /**
  * 최저시급 데이터 접근 객체
  */
@@ -27,8 +30,23 @@ public interface MinimumWageDao {
     @Query("SELECT * FROM minimum_wages ORDER BY year DESC LIMIT 1")
     MinimumWage getLatestMinimumWage();
 
+    /**
+     * 전체 최저시급 (연도 오름차순, 스냅샷 갱신용)
+     */
+    @NonNull
+    @Query("SELECT * FROM minimum_wages ORDER BY year")
+    List<MinimumWage> getAllMinimumWages();
+
     @Insert
-    void insert(MinimumWage minimumWage);
+    void insertRow(MinimumWage minimumWage);
+
+    /**
+     * 최저시급을 저장하고 메모리 스냅샷을 바꾼다
+     */
+    default void insert(MinimumWage minimumWage) {
+        insertRow(minimumWage);
+        MinimumWageSnapshot.reload(this);
+    }
 
     @Query("SELECT EXISTS(SELECT 1 FROM minimum_wages WHERE year = :year)")
     boolean hasMinimumWageForYear(int year);
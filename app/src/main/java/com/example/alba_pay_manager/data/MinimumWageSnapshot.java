@@ -0,0 +1,65 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 최저시급 표 (연도 -> 시급) 의 불변 스냅샷
+ *
+ * 앱 시작 시 한 번 읽고, {@link MinimumWageDao#insert(MinimumWage)} 가 실행될 때마다
+ * 표 전체를 다시 읽어 통째로 바꾼다. 조회는 정렬된 연도 배열을 이진 탐색할 뿐 DB 에 접근하지 않는다.
+ */
+public final class MinimumWageSnapshot {
+    private static final MinimumWageSnapshot EMPTY = new MinimumWageSnapshot(new int[0], new int[0]);
+    private static final AtomicReference<MinimumWageSnapshot> current = new AtomicReference<>(EMPTY);
+
+    private final int[] years; // 오름차순
+    private final int[] wages;
+
+    private MinimumWageSnapshot(int[] years, int[] wages) {
+        this.years = years;
+        this.wages = wages;
+    }
+
+    /** 현재 스냅샷 */
+    @NonNull
+    public static MinimumWageSnapshot get() {
+        return current.get();
+    }
+
+    /**
+     * 최저시급 표를 다시 읽어 스냅샷을 바꾼다
+     * 읽기와 교체를 직렬화해 늦게 끝난 오래된 읽기가 새 스냅샷을 덮지 않게 한다.
+     */
+    static synchronized void reload(@NonNull MinimumWageDao dao) {
+        current.set(of(dao.getAllMinimumWages()));
+    }
+
+    private static MinimumWageSnapshot of(List<MinimumWage> rows) {
+        int[] years = new int[rows.size()];
+        int[] wages = new int[rows.size()];
+        for (int i = 0; i < years.length; i++) {
+            years[i] = rows.get(i).getYear();
+            wages[i] = rows.get(i).getHourlyWage();
+        }
+        return new MinimumWageSnapshot(years, wages);
+    }
+
+    /**
+     * 해당 연도의 최저시급 (없으면 0)
+     */
+    public int wageOf(int year) {
+        int index = Arrays.binarySearch(years, year);
+        return index >= 0 ? wages[index] : 0;
+    }
+
+    /**
+     * 가장 최근 연도의 최저시급 (없으면 0)
+     */
+    public int latestWage() {
+        return wages.length > 0 ? wages[wages.length - 1] : 0;
+    }
+}
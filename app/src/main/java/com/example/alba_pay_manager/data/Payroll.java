@@ -1,6 +1,7 @@
 package com.example.alba_pay_manager.data;
 
 import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
 import androidx.room.Index;
@@ -37,6 +38,28 @@ public class Payroll {
     private int incomeTax;       // 소득세
     private int localTax;        // 지방소득세
 
+    // 수당별 내역 (급여 내역 화면을 재계산 없이 보여주기 위해 저장)
+    @ColumnInfo(defaultValue = "0")
+    private int regularMinutes;         // 일반 근무시간(분)
+    @ColumnInfo(defaultValue = "0")
+    private int nightMinutes;           // 야간 근무시간(분)
+    @ColumnInfo(defaultValue = "0")
+    private int overtimeMinutes;        // 연장 근무시간(분)
+    @ColumnInfo(defaultValue = "0")
+    private int holidayMinutes;         // 휴일 근무시간(분)
+    @ColumnInfo(defaultValue = "0")
+    private int weeklyAllowanceMinutes; // 주휴수당 시간(분)
+    @ColumnInfo(defaultValue = "0")
+    private int regularPay;             // 일반 급여
+    @ColumnInfo(defaultValue = "0")
+    private int nightPay;               // 야간수당
+    @ColumnInfo(defaultValue = "0")
+    private int overtimePay;            // 연장근로수당
+    @ColumnInfo(defaultValue = "0")
+    private int holidayPay;             // 휴일근로수당
+    @ColumnInfo(defaultValue = "0")
+    private int weeklyAllowancePay;     // 주휴수당
+
     public Payroll(long employeeId, int year, int month, 
                   int totalMinutes, int grossPay, int netPay,
                   int insurance, int incomeTax, int localTax) {
@@ -94,4 +117,84 @@ public class Payroll {
     public int getLocalTax() {
         return localTax;
     }
-} 
\ No newline at end of file
+
+    public int getRegularMinutes() {
+        return regularMinutes;
+    }
+
+    public void setRegularMinutes(int regularMinutes) {
+        this.regularMinutes = regularMinutes;
+    }
+
+    public int getNightMinutes() {
+        return nightMinutes;
+    }
+
+    public void setNightMinutes(int nightMinutes) {
+        this.nightMinutes = nightMinutes;
+    }
+
+    public int getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public void setOvertimeMinutes(int overtimeMinutes) {
+        this.overtimeMinutes = overtimeMinutes;
+    }
+
+    public int getHolidayMinutes() {
+        return holidayMinutes;
+    }
+
+    public void setHolidayMinutes(int holidayMinutes) {
+        this.holidayMinutes = holidayMinutes;
+    }
+
+    public int getWeeklyAllowanceMinutes() {
+        return weeklyAllowanceMinutes;
+    }
+
+    public void setWeeklyAllowanceMinutes(int weeklyAllowanceMinutes) {
+        this.weeklyAllowanceMinutes = weeklyAllowanceMinutes;
+    }
+
+    public int getRegularPay() {
+        return regularPay;
+    }
+
+    public void setRegularPay(int regularPay) {
+        this.regularPay = regularPay;
+    }
+
+    public int getNightPay() {
+        return nightPay;
+    }
+
+    public void setNightPay(int nightPay) {
+        this.nightPay = nightPay;
+    }
+
+    public int getOvertimePay() {
+        return overtimePay;
+    }
+
+    public void setOvertimePay(int overtimePay) {
+        this.overtimePay = overtimePay;
+    }
+
+    public int getHolidayPay() {
+        return holidayPay;
+    }
+
+    public void setHolidayPay(int holidayPay) {
+        this.holidayPay = holidayPay;
+    }
+
+    public int getWeeklyAllowancePay() {
+        return weeklyAllowancePay;
+    }
+
+    public void setWeeklyAllowancePay(int weeklyAllowancePay) {
+        this.weeklyAllowancePay = weeklyAllowancePay;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+
+/**
+ * 알바생별 월 급여 계산 입력 누적 (shift_daily_rollup 트리거가 유지한다)
+ *
+ * 근무가 추가/삭제/수정될 때마다 변화량만큼 갱신되므로 월 급여 내역을 재계산 없이 바로 읽을 수 있다.
+ * 시급과 무관한 분 단위 값만 담고, 금액은 조회 시점의 시급으로 환산한다.
+ * 앱 코드에서 직접 INSERT/UPDATE 하지 않는다.
+ */
+@Entity(
+    tableName = "payroll_accumulator",
+    primaryKeys = {"employeeId", "year", "month"}
+)
+public class PayrollAccumulator {
+    private long employeeId;
+    private int year;
+    private int month;
+    private int totalMinutes;           // 총 근무시간(분)
+    private int regularMinutes;         // 일반 근무시간(분)
+    private int nightMinutes;           // 야간 근무시간(분)
+    private int overtimeMinutes;        // 연장 근무시간(분)
+    private int holidayMinutes;         // 휴일 근무시간(분)
+    private int weeklyAllowanceMinutes; // 주휴수당 시간(분)
+
+    public PayrollAccumulator(long employeeId, int year, int month, int totalMinutes,
+                              int regularMinutes, int nightMinutes, int overtimeMinutes,
+                              int holidayMinutes, int weeklyAllowanceMinutes) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.month = month;
+        this.totalMinutes = totalMinutes;
+        this.regularMinutes = regularMinutes;
+        this.nightMinutes = nightMinutes;
+        this.overtimeMinutes = overtimeMinutes;
+        this.holidayMinutes = holidayMinutes;
+        this.weeklyAllowanceMinutes = weeklyAllowanceMinutes;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    public int getRegularMinutes() {
+        return regularMinutes;
+    }
+
+    public int getNightMinutes() {
+        return nightMinutes;
+    }
+
+    public int getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public int getHolidayMinutes() {
+        return holidayMinutes;
+    }
+
+    public int getWeeklyAllowanceMinutes() {
+        return weeklyAllowanceMinutes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.util.List;
+
+/**
+ * 월 급여 누적(payroll_accumulator) 조회
+ */
+@Dao
+public interface PayrollAccumulatorDao {
+    @Query("SELECT * FROM payroll_accumulator WHERE employeeId = :employeeId " +
+           "AND year = :year AND month = :month")
+    @Nullable
+    PayrollAccumulator getAccumulator(long employeeId, int year, int month);
+
+    @Query("SELECT * FROM payroll_accumulator WHERE year = :year AND month = :month " +
+           "ORDER BY employeeId")
+    @NonNull
+    List<PayrollAccumulator> getAccumulatorsByMonth(int year, int month);
+}
@@ -33,4 +33,22 @@ public interface PayrollDao {
            "ORDER BY year DESC, month DESC")
     @NonNull
     List<Payroll> getPayrollHistory(long employeeId);
-} 
\ No newline at end of file
+
+    /**
+     * 다시 계산해야 하는 알바생 id (해당 월)
+     */
+    @Query("SELECT employeeId FROM payroll_dirty WHERE year = :year AND month = :month")
+    @NonNull
+    List<Long> getDirtyEmployeeIds(int year, int month);
+
+    /**
+     * 저장된 모든 월을 다시 계산 대상으로 표시 (수당 규칙 변경 등)
+     */
+    @Query("INSERT OR IGNORE INTO payroll_dirty (employeeId, year, month) " +
+           "SELECT employeeId, year, month FROM Payroll")
+    void markAllDirty();
+
+    @Query("DELETE FROM payroll_dirty WHERE employeeId = :employeeId " +
+           "AND year = :year AND month = :month")
+    void clearDirty(long employeeId, int year, int month);
+}
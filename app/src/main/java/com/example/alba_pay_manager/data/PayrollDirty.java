@@ -0,0 +1,37 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+
+/**
+ * 저장된 Payroll 을 다시 계산해야 하는 (알바생, 연, 월) 표시
+ *
+ * Shift 변경, 시급 변경, 최저시급 등록 시 트리거가 행을 추가하고
+ * 해당 월을 다시 계산해 저장할 때 지운다.
+ */
+@Entity(
+    tableName = "payroll_dirty",
+    primaryKeys = {"employeeId", "year", "month"}
+)
+public class PayrollDirty {
+    private long employeeId;
+    private int year;
+    private int month;
+
+    public PayrollDirty(long employeeId, int year, int month) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.month = month;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+
+/**
+ * 알바생별 주별 근무시간 누적 (주휴 분 정산용, 트리거가 유지한다)
+ *
+ * week 는 월요일 시작 epoch 주((epoch 일 + 3) / 7)이다. 월 경계에 걸친 주도 한 주로 세고
+ * 주휴 분은 그 주 일요일(week * 7 + 3)이 속한 월에 반영된다.
+ */
+@Entity(
+    tableName = "payroll_week_accumulator",
+    primaryKeys = {"employeeId", "week"}
+)
+public class PayrollWeekAccumulator {
+    private long employeeId;
+    private long week;
+    private int minutes; // 해당 주의 근무시간(분)
+
+    public PayrollWeekAccumulator(long employeeId, long week, int minutes) {
+        this.employeeId = employeeId;
+        this.week = week;
+        this.minutes = minutes;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public long getWeek() {
+        return week;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+}
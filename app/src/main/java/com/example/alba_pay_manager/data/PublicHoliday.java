@@ -0,0 +1,28 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * 평일 공휴일/대체공휴일 표 (HolidayCalendar 를 앱 시작 시 옮겨 둔다)
+ *
+ * 근무 구간(shift_segment) 트리거가 SQL 만으로 휴일을 표시할 수 있게 하려는 것이며,
+ * 앱 코드는 {@link ClosureDayDao#syncPublicHolidays(long[])} 로만 바꾼다.
+ */
+@Entity(tableName = "public_holidays")
+public class PublicHoliday {
+    @PrimaryKey
+    private long day; // epoch 일
+
+    public PublicHoliday(long day) {
+        this.day = day;
+    }
+
+    public long getDay() {
+        return day;
+    }
+
+    public void setDay(long day) {
+        this.day = day;
+    }
+}
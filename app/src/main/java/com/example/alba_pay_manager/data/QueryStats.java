@@ -0,0 +1,184 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+
+import com.example.alba_pay_manager.util.LatencyHistogram;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 문장별 SQL 실행 시간 통계 (앱 전체 공유)
+ *
+ * {@link TimingOpenHelperFactory} 가 실행마다 (SQL, 바인딩 수, 걸린 시간, 행 수)를 넘기면
+ * 리터럴과 IN 목록 길이를 지운 정규화 SQL 별로 횟수, 행 수, 지연시간 히스토그램을 모은다.
+ * 기록 경로는 잠금 없이 동작하며, 정규화 결과는 원본 SQL 별로 기억해 두어 같은 문장은 한 번만 정규화한다.
+ */
+public final class QueryStats {
+    private static final QueryStats INSTANCE = new QueryStats();
+
+    /** 원본 SQL → 통계 캐시 상한 (동적 SQL 이 많아도 메모리가 늘지 않도록) */
+    private static final int MAX_RAW_ENTRIES = 1_024;
+    private static final String HEADER = "sql,binds,count,rows,total_ms,mean_us,p50_us,p95_us,p99_us,max_us";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w`\"])-?\\d+(?:\\.\\d+)?");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ConcurrentHashMap<String, Statement> byRawSql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Statement> byNormalizedSql = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    private QueryStats() {}
+
+    @NonNull
+    public static QueryStats get() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 끄면 TimingOpenHelperFactory 가 시간을 재지 않고 바로 위임한다 */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 한 번의 실행을 기록한다
+     *
+     * @param binds 바인딩 인자 수
+     * @param rows  조회는 결과 행 수, 쓰기는 바뀐 행 수
+     */
+    public void record(@NonNull String sql, int binds, long nanos, long rows) {
+        Statement statement = byRawSql.get(sql);
+        if (statement == null) {
+            statement = byNormalizedSql.computeIfAbsent(normalize(sql), Statement::new);
+            if (byRawSql.size() < MAX_RAW_ENTRIES) {
+                byRawSql.putIfAbsent(sql, statement);
+            }
+        }
+        statement.record(binds, nanos, rows);
+    }
+
+    /**
+     * 문장별 통계 (총 시간이 긴 순서)
+     */
+    @NonNull
+    public List<Statement> snapshot() {
+        List<Statement> statements = new ArrayList<>(byNormalizedSql.values());
+        Collections.sort(statements, (a, b) -> Long.compare(b.histogram.getSum(), a.histogram.getSum()));
+        return statements;
+    }
+
+    public void reset() {
+        byRawSql.clear();
+        byNormalizedSql.clear();
+    }
+
+    /**
+     * 문장별 통계를 CSV 로 쓴다
+     *
+     * @return 쓴 문장 수
+     */
+    public int dump(@NonNull Writer out) throws IOException {
+        List<Statement> statements = snapshot();
+        out.write(HEADER);
+        out.write('\n');
+        for (Statement statement : statements) {
+            LatencyHistogram histogram = statement.histogram;
+            long count = histogram.getCount();
+            out.write(String.format(Locale.ROOT, "\"%s\",%d,%d,%d,%.3f,%d,%d,%d,%d,%d\n",
+                    statement.sql.replace("\"", "\"\""), statement.getBinds(), count, statement.getRows(),
+                    histogram.getSum() / 1e3, count == 0 ? 0 : histogram.getSum() / count,
+                    histogram.percentile(50), histogram.percentile(95), histogram.percentile(99),
+                    histogram.getMax()));
+        }
+        return statements.size();
+    }
+
+    /**
+     * 문장별 통계를 CSV 파일로 쓴다
+     *
+     * @return 쓴 문장 수
+     */
+    public int dump(@NonNull File csv) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(csv), StandardCharsets.UTF_8)) {
+            return dump(out);
+        }
+    }
+
+    /**
+     * 문자열/숫자 리터럴을 ? 로, IN (?, ?, ...) 을 IN (?...) 로 바꾸고 공백을 줄인다
+     */
+    @NonNull
+    static String normalize(@NonNull String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 정규화 SQL 하나의 누적 통계
+     */
+    public static final class Statement {
+        private final String sql;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicInteger binds = new AtomicInteger();
+
+        Statement(String sql) {
+            this.sql = sql;
+        }
+
+        void record(int binds, long nanos, long rows) {
+            histogram.recordNanos(nanos);
+            this.rows.add(rows);
+            this.binds.lazySet(binds);
+        }
+
+        @NonNull
+        public String getSql() {
+            return sql;
+        }
+
+        /** 마지막 실행의 바인딩 인자 수 (IN 목록은 실행마다 다를 수 있다) */
+        public int getBinds() {
+            return binds.get();
+        }
+
+        /** 누적 행 수 */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        @NonNull
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            long count = histogram.getCount();
+            return String.format(Locale.ROOT, "%s\n  binds=%d rows=%d total=%.1fms avgRows=%.1f %s",
+                    sql, getBinds(), getRows(), histogram.getSum() / 1e3,
+                    count == 0 ? 0.0 : (double) getRows() / count, histogram);
+        }
+    }
+}
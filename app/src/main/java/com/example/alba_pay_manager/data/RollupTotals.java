@@ -0,0 +1,18 @@
+package com.example.alba_pay_manager.data;
+
+/**
+ * shift_daily_rollup 기간 합계
+ */
+public class RollupTotals {
+    public final long employeeId;
+    public final long minutes;
+    public final long nightMinutes;
+    public final long weekendMinutes;
+
+    public RollupTotals(long employeeId, long minutes, long nightMinutes, long weekendMinutes) {
+        this.employeeId = employeeId;
+        this.minutes = minutes;
+        this.nightMinutes = nightMinutes;
+        this.weekendMinutes = weekendMinutes;
+    }
+}
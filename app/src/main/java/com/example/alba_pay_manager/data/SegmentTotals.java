@@ -0,0 +1,16 @@
+package com.example.alba_pay_manager.data;
+
+/**
+ * shift_segment 의 (일, 구간 속성)별 합계
+ */
+public class SegmentTotals {
+    public final long day;
+    public final int kind;
+    public final long minutes;
+
+    public SegmentTotals(long day, int kind, long minutes) {
+        this.day = day;
+        this.kind = kind;
+        this.minutes = minutes;
+    }
+}
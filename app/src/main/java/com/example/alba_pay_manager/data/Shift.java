@@ -1,16 +1,20 @@
 package com.example.alba_pay_manager.data;
 
 import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
+import androidx.room.Ignore;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 import java.time.LocalDateTime;
-import java.time.Duration;
 
 /**
  * 근무 기록 엔티티
+ *
+ * 시작/종료 시각은 벽시계(로컬) 기준 epoch 분으로 저장한다.
+ * (LocalDateTime을 UTC 오프셋으로 환산한 값이므로 분 % 1440 이 곧 하루 중 시각이다)
  */
 @Entity(
     tableName = "Shift",
@@ -20,30 +24,45 @@ import java.time.Duration;
         childColumns = "employeeId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = @Index("employeeId")
+    indices = {
+        @Index(value = {"employeeId", "startMinute"}),
+        @Index("startMinute")
+    }
 )
 public class Shift {
+    /** 1회 근무의 최대 길이(분) */
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+
     @PrimaryKey(autoGenerate = true)
     private long id;
-    
+
     private long employeeId;
-    
-    @NonNull
-    private LocalDateTime startTime;
-    
-    @NonNull
-    private LocalDateTime endTime;
 
-    public Shift(long employeeId, @NonNull LocalDateTime startTime, @NonNull LocalDateTime endTime) {
-        if (startTime.isAfter(endTime)) {
+    @ColumnInfo(name = "startMinute")
+    private long startMinute;
+
+    @ColumnInfo(name = "endMinute")
+    private long endMinute;
+
+    /**
+     * Room 이 쓰는 생성자 (저장된 값을 복원할 때도 길이를 검증한다)
+     * 겹침 쿼리(ShiftSql.OVERLAPS_RANGE)가 24시간 이하를 전제로 하므로 길이가 1~1440분이 아니면 거부한다.
+     */
+    public Shift(long employeeId, long startMinute, long endMinute) {
+        if (endMinute <= startMinute) {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다.");
         }
-        if (Duration.between(startTime, endTime).toHours() > 24) {
+        if (endMinute - startMinute > MAX_DURATION_MINUTES) {
             throw new IllegalArgumentException("근무 시간은 24시간을 초과할 수 없습니다.");
         }
         this.employeeId = employeeId;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    @Ignore
+    public Shift(long employeeId, @NonNull LocalDateTime startTime, @NonNull LocalDateTime endTime) {
+        this(employeeId, Converters.toEpochMinute(startTime), Converters.toEpochMinute(endTime));
     }
 
     public long getId() {
@@ -58,28 +77,36 @@ public class Shift {
         return employeeId;
     }
 
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public long getEndMinute() {
+        return endMinute;
+    }
+
     @NonNull
     public LocalDateTime getStartTime() {
-        return startTime;
+        return Converters.fromEpochMinute(startMinute);
     }
 
     @NonNull
     public LocalDateTime getEndTime() {
-        return endTime;
+        return Converters.fromEpochMinute(endMinute);
     }
 
     /**
      * 근무 시간을 분 단위로 계산
      */
     public int getDurationMinutes() {
-        return (int) Duration.between(startTime, endTime).toMinutes();
+        return (int) (endMinute - startMinute);
     }
 
     /**
      * 근무 시간이 유효한지 검증
      */
     public boolean isValid() {
-        return !startTime.isAfter(endTime) && 
-               Duration.between(startTime, endTime).toHours() <= 24;
+        return startMinute < endMinute &&
+               endMinute - startMinute <= MAX_DURATION_MINUTES;
     }
-} 
\ No newline at end of file
+}
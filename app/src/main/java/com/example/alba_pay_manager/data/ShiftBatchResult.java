@@ -0,0 +1,54 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 근무 일괄 등록 결과 (입력 순서와 같은 인덱스로 행별 id/검증 결과를 담는다)
+ */
+public final class ShiftBatchResult {
+    /** 검증에 실패해 저장되지 않은 행의 id */
+    public static final long NOT_INSERTED = -1L;
+
+    private final long[] ids;
+    private final String[] errors;
+
+    ShiftBatchResult(@NonNull long[] ids, @NonNull String[] errors) {
+        this.ids = ids;
+        this.errors = errors;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return 저장된 행의 id (저장되지 않았으면 NOT_INSERTED)
+     */
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public boolean isInserted(int index) {
+        return ids[index] != NOT_INSERTED;
+    }
+
+    /**
+     * @return 검증 오류 메시지 (정상이면 빈 문자열)
+     */
+    @NonNull
+    public String getError(int index) {
+        return errors[index];
+    }
+
+    public int getInsertedCount() {
+        int count = 0;
+        for (long id : ids) {
+            if (id != NOT_INSERTED) count++;
+        }
+        return count;
+    }
+
+    public int getRejectedCount() {
+        return ids.length - getInsertedCount();
+    }
+}
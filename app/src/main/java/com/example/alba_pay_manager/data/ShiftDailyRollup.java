@@ -0,0 +1,52 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+import androidx.room.Index;
+
+/**
+ * 알바생별 일자별 근무 집계 (Shift 테이블 트리거가 유지한다)
+ *
+ * day 는 epoch 일(LocalDate.toEpochDay)이고, 자정을 넘는 근무는 두 날짜로 나뉘어 누적된다.
+ * 앱 코드에서 직접 INSERT/UPDATE 하지 않는다.
+ */
+@Entity(
+    tableName = "shift_daily_rollup",
+    primaryKeys = {"employeeId", "day"},
+    indices = @Index("day")
+)
+public class ShiftDailyRollup {
+    private long employeeId;
+    private long day;
+    private int minutes;        // 해당 일의 근무시간(분)
+    private int nightMinutes;   // 그중 야간(22:00~06:00) 분
+    private int weekendMinutes; // 그중 토/일요일 분
+
+    public ShiftDailyRollup(long employeeId, long day, int minutes,
+                            int nightMinutes, int weekendMinutes) {
+        this.employeeId = employeeId;
+        this.day = day;
+        this.minutes = minutes;
+        this.nightMinutes = nightMinutes;
+        this.weekendMinutes = weekendMinutes;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public long getDay() {
+        return day;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public int getNightMinutes() {
+        return nightMinutes;
+    }
+
+    public int getWeekendMinutes() {
+        return weekendMinutes;
+    }
+}
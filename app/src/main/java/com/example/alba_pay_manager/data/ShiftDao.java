@@ -5,8 +5,10 @@ import androidx.annotation.Nullable;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.Query;
+import androidx.room.Transaction;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Dao
@@ -14,22 +16,170 @@ public interface ShiftDao {
     @Insert
     long insert(@NonNull Shift shift);
 
+    /**
+     * 한 트랜잭션 안에서 컴파일된 INSERT 문 하나를 재사용해 일괄 저장
+     */
+    @Insert
+    @NonNull
+    long[] insertAll(@NonNull List<Shift> shifts);
+
+    /**
+     * 호출한 쪽이 검증한 결과에 따라 통과한 행만 한 트랜잭션으로 일괄 저장
+     * 검증에 실패한 행(오류 메시지가 비어 있지 않은 행)은 저장하지 않고 결과에 그 메시지를 남긴다.
+     *
+     * @param errors shifts 와 같은 인덱스의 검증 오류 메시지 (정상이면 빈 문자열)
+     */
+    @Transaction
+    @NonNull
+    default ShiftBatchResult insertBatch(@NonNull List<Shift> shifts, @NonNull String[] errors) {
+        if (errors.length != shifts.size()) {
+            throw new IllegalArgumentException("검증 결과 수가 근무 수와 다릅니다.");
+        }
+        long[] ids = new long[shifts.size()];
+        List<Shift> valid = new ArrayList<>(shifts.size());
+        for (int i = 0; i < shifts.size(); i++) {
+            if (errors[i].isEmpty()) {
+                valid.add(shifts.get(i));
+            } else {
+                ids[i] = ShiftBatchResult.NOT_INSERTED;
+            }
+        }
+
+        long[] insertedIds = valid.isEmpty() ? new long[0] : insertAll(valid);
+        for (int i = 0, next = 0; i < shifts.size(); i++) {
+            if (errors[i].isEmpty()) {
+                ids[i] = insertedIds[next++];
+                shifts.get(i).setId(ids[i]);
+            }
+        }
+        return new ShiftBatchResult(ids, errors.clone());
+    }
+
+    /**
+     * 구간과 겹치는 근무 조회 (자정/월 경계를 넘는 근무 포함)
+     */
     @Query("SELECT * FROM Shift WHERE employeeId = :employeeId " +
-           "AND startTime >= :start AND endTime <= :end " +
-           "ORDER BY startTime")
+           "AND " + ShiftSql.OVERLAPS_RANGE + " " +
+           "ORDER BY startMinute")
+    @NonNull
+    List<Shift> getShiftsOverlappingByEmployee(long employeeId,
+                                               @NonNull LocalDateTime start,
+                                               @NonNull LocalDateTime end);
+
+    @Query("SELECT * FROM Shift WHERE " + ShiftSql.OVERLAPS_RANGE + " " +
+           "ORDER BY startMinute")
+    @NonNull
+    List<Shift> getShiftsOverlapping(@NonNull LocalDateTime start,
+                                     @NonNull LocalDateTime end);
+
+    /**
+     * 구간과 겹치는 근무와 구간 안으로 잘라낸 근무 시간(분)
+     */
+    @Query("SELECT *, " + ShiftSql.CLIPPED_MINUTES + " AS clippedMinutes " +
+           "FROM Shift WHERE employeeId = :employeeId " +
+           "AND " + ShiftSql.OVERLAPS_RANGE + " " +
+           "ORDER BY startMinute")
     @NonNull
-    List<Shift> getShiftsByEmployeeAndDateRange(long employeeId, 
-                                              @NonNull LocalDateTime start, 
-                                              @NonNull LocalDateTime end);
+    List<ClippedShift> getClippedShiftsByEmployee(long employeeId,
+                                                  @NonNull LocalDateTime start,
+                                                  @NonNull LocalDateTime end);
 
-    @Query("SELECT * FROM Shift WHERE startTime >= :start AND endTime <= :end " +
-           "ORDER BY startTime")
+    @Query("SELECT *, " + ShiftSql.CLIPPED_MINUTES + " AS clippedMinutes " +
+           "FROM Shift WHERE " + ShiftSql.OVERLAPS_RANGE + " " +
+           "ORDER BY startMinute")
     @NonNull
-    List<Shift> getShiftsByDateRange(@NonNull LocalDateTime start, 
+    List<ClippedShift> getClippedShifts(@NonNull LocalDateTime start,
+                                        @NonNull LocalDateTime end);
+
+    /**
+     * 구간과 겹치는 근무를 (startMinute, id) 기준 keyset 으로 나눈 페이지 (키 다음 행부터 오름차순)
+     * afterStart/afterId 는 직전 페이지의 마지막 행 (첫 페이지는 ShiftPageKey.FIRST)
+     */
+    @Query("SELECT * FROM Shift WHERE " + ShiftSql.OVERLAPS_RANGE + " " +
+           "AND startMinute >= :afterStart " +
+           "AND (startMinute > :afterStart OR id > :afterId) " +
+           "ORDER BY startMinute, id LIMIT :limit")
+    @NonNull
+    List<Shift> getShiftPageByDateRange(@NonNull LocalDateTime start,
+                                        @NonNull LocalDateTime end,
+                                        long afterStart, long afterId, int limit);
+
+    @Query("SELECT * FROM Shift WHERE employeeId = :employeeId " +
+           "AND " + ShiftSql.OVERLAPS_RANGE + " " +
+           "AND startMinute >= :afterStart " +
+           "AND (startMinute > :afterStart OR id > :afterId) " +
+           "ORDER BY startMinute, id LIMIT :limit")
+    @NonNull
+    List<Shift> getShiftPageByEmployeeAndDateRange(long employeeId,
+                                                   @NonNull LocalDateTime start,
+                                                   @NonNull LocalDateTime end,
+                                                   long afterStart, long afterId, int limit);
+
+    /**
+     * 키 앞쪽 페이지 (키 바로 앞 행부터 내림차순, 호출한 쪽이 뒤집어 쓴다)
+     * beforeStart/beforeId 는 현재 첫 페이지의 첫 행
+     */
+    @Query("SELECT * FROM Shift WHERE " + ShiftSql.OVERLAPS_RANGE + " " +
+           "AND startMinute <= :beforeStart " +
+           "AND (startMinute < :beforeStart OR id < :beforeId) " +
+           "ORDER BY startMinute DESC, id DESC LIMIT :limit")
+    @NonNull
+    List<Shift> getShiftPageBeforeByDateRange(@NonNull LocalDateTime start,
+                                              @NonNull LocalDateTime end,
+                                              long beforeStart, long beforeId, int limit);
+
+    @Query("SELECT * FROM Shift WHERE employeeId = :employeeId " +
+           "AND " + ShiftSql.OVERLAPS_RANGE + " " +
+           "AND startMinute <= :beforeStart " +
+           "AND (startMinute < :beforeStart OR id < :beforeId) " +
+           "ORDER BY startMinute DESC, id DESC LIMIT :limit")
+    @NonNull
+    List<Shift> getShiftPageBeforeByEmployeeAndDateRange(long employeeId,
+                                                         @NonNull LocalDateTime start,
+                                                         @NonNull LocalDateTime end,
+                                                         long beforeStart, long beforeId, int limit);
+
+    /**
+     * 구간과 겹치는 근무를 구간 안으로 잘라낸 총 시간(분) (근무 목록 페이지와 같은 범위)
+     */
+    @Query("SELECT COALESCE(SUM(" + ShiftSql.CLIPPED_MINUTES + "), 0) FROM Shift " +
+           "WHERE " + ShiftSql.OVERLAPS_RANGE)
+    long getTotalMinutesByDateRange(@NonNull LocalDateTime start,
                                     @NonNull LocalDateTime end);
 
+    @Query("SELECT COALESCE(SUM(" + ShiftSql.CLIPPED_MINUTES + "), 0) FROM Shift " +
+           "WHERE employeeId = :employeeId AND " + ShiftSql.OVERLAPS_RANGE)
+    long getTotalMinutesByEmployeeAndDateRange(long employeeId,
+                                               @NonNull LocalDateTime start,
+                                               @NonNull LocalDateTime end);
+
+    /**
+     * 구간 안 근무를 알바생별로 한 번에 집계 (총 시간/건수/야간/주말 분)
+     */
+    @Query("SELECT employeeId, COUNT(*) AS shiftCount, SUM(e - s) AS totalMinutes, " +
+           "SUM(" + ShiftSql.NIGHT_MINUTES + ") AS nightMinutes, " +
+           "SUM(" + ShiftSql.WEEKEND_MINUTES + ") AS weekendMinutes " +
+           "FROM (" + ShiftSql.CLIPPED_ROWS + ") " +
+           "GROUP BY employeeId ORDER BY employeeId")
+    @NonNull
+    List<ShiftTotals> getTotalsByDateRange(@NonNull LocalDateTime start,
+                                           @NonNull LocalDateTime end);
+
+    /**
+     * @return 해당 알바생의 구간 집계 (근무가 없으면 null)
+     */
+    @Query("SELECT employeeId, COUNT(*) AS shiftCount, SUM(e - s) AS totalMinutes, " +
+           "SUM(" + ShiftSql.NIGHT_MINUTES + ") AS nightMinutes, " +
+           "SUM(" + ShiftSql.WEEKEND_MINUTES + ") AS weekendMinutes " +
+           "FROM (" + ShiftSql.CLIPPED_ROWS + " AND employeeId = :employeeId) " +
+           "GROUP BY employeeId")
+    @Nullable
+    ShiftTotals getTotalsByEmployeeAndDateRange(long employeeId,
+                                                @NonNull LocalDateTime start,
+                                                @NonNull LocalDateTime end);
+
     @Query("SELECT * FROM Shift WHERE employeeId = :employeeId " +
-           "ORDER BY startTime DESC LIMIT 1")
+           "ORDER BY startMinute DESC LIMIT 1")
     @Nullable
     Shift getLatestShift(long employeeId);
 
@@ -39,7 +189,4 @@ public interface ShiftDao {
     @Query("SELECT * FROM Shift WHERE id = :shiftId")
     @Nullable
     Shift getShiftById(long shiftId);
-
-    @Query("SELECT * FROM Shift WHERE employeeId = :employeeId AND startTime >= :start AND endTime <= :end")
-    List<Shift> getShiftsInRange(long employeeId, LocalDateTime start, LocalDateTime end);
 } 
\ No newline at end of file
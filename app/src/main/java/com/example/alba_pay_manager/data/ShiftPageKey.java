@@ -0,0 +1,25 @@
+package com.example.alba_pay_manager.data;
+
+/**
+ * 근무 목록 keyset 페이지네이션 키 (직전 페이지 마지막 행의 startMinute, id)
+ */
+public final class ShiftPageKey {
+    /** 첫 페이지 조회용 키 */
+    public static final ShiftPageKey FIRST = new ShiftPageKey(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final long startMinute;
+    private final long id;
+
+    public ShiftPageKey(long startMinute, long id) {
+        this.startMinute = startMinute;
+        this.id = id;
+    }
+
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.concurrent.futures.CallbackToFutureAdapter;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+import androidx.room.InvalidationTracker;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import kotlin.Unit;
+
+/**
+ * 기간과 겹치는 근무 목록을 (startMinute, id) keyset 으로 나눠 읽는 PagingSource
+ *
+ * OFFSET 을 쓰지 않으므로 페이지 위치와 무관하게 인덱스 범위 스캔 한 번으로 끝난다.
+ * 뒤쪽 페이지는 키 다음 행부터, 앞쪽 페이지는 키 앞 행부터 읽으므로 새로고침을 화면 위치에서 시작해도
+ * 위로 스크롤할 수 있다. Shift 테이블이 바뀌면 Room InvalidationTracker 를 통해 스스로 무효화된다.
+ */
+public class ShiftPagingSource extends ListenableFuturePagingSource<ShiftPageKey, Shift> {
+    private final ShiftDao shiftDao;
+    private final Executor executor;
+    @Nullable
+    private final Long employeeId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * @param employeeId 특정 알바생만 조회할 때 지정 (null 이면 전체)
+     */
+    public ShiftPagingSource(@NonNull AppDatabase database,
+                             @NonNull Executor executor,
+                             @Nullable Long employeeId,
+                             @NonNull LocalDateTime start,
+                             @NonNull LocalDateTime end) {
+        this.shiftDao = database.shiftDao();
+        this.executor = executor;
+        this.employeeId = employeeId;
+        this.start = start;
+        this.end = end;
+
+        InvalidationTracker tracker = database.getInvalidationTracker();
+        InvalidationTracker.Observer observer = new WeakObserver(tracker, this);
+        tracker.addObserver(observer);
+        registerInvalidatedCallback(() -> {
+            tracker.removeObserver(observer);
+            return Unit.INSTANCE;
+        });
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<ShiftPageKey, Shift>> loadFuture(
+            @NonNull LoadParams<ShiftPageKey> params) {
+        return CallbackToFutureAdapter.getFuture(completer -> {
+            executor.execute(() -> {
+                try {
+                    completer.set(load(params));
+                } catch (Exception e) {
+                    completer.set(new LoadResult.Error<>(e));
+                }
+            });
+            return "ShiftPagingSource.loadFuture";
+        });
+    }
+
+    private LoadResult<ShiftPageKey, Shift> load(@NonNull LoadParams<ShiftPageKey> params) {
+        int limit = params.getLoadSize();
+        if (params instanceof LoadParams.Prepend) {
+            ShiftPageKey key = params.getKey();
+            List<Shift> page;
+            if (employeeId != null) {
+                page = shiftDao.getShiftPageBeforeByEmployeeAndDateRange(
+                        employeeId, start, end, key.getStartMinute(), key.getId(), limit);
+            } else {
+                page = shiftDao.getShiftPageBeforeByDateRange(
+                        start, end, key.getStartMinute(), key.getId(), limit);
+            }
+            Collections.reverse(page);
+            ShiftPageKey prevKey = page.size() >= limit ? keyOf(page.get(0)) : null;
+            ShiftPageKey nextKey = page.isEmpty() ? key : keyOf(page.get(page.size() - 1));
+            return new LoadResult.Page<>(page, prevKey, nextKey);
+        }
+
+        // 새로고침과 뒤쪽 로드는 키 다음 행부터
+        ShiftPageKey key = params.getKey() != null ? params.getKey() : ShiftPageKey.FIRST;
+        List<Shift> page;
+        if (employeeId != null) {
+            page = shiftDao.getShiftPageByEmployeeAndDateRange(
+                    employeeId, start, end, key.getStartMinute(), key.getId(), limit);
+        } else {
+            page = shiftDao.getShiftPageByDateRange(
+                    start, end, key.getStartMinute(), key.getId(), limit);
+        }
+        ShiftPageKey prevKey;
+        if (key == ShiftPageKey.FIRST) {
+            prevKey = null;
+        } else if (page.isEmpty()) {
+            prevKey = new ShiftPageKey(key.getStartMinute(), key.getId() + 1); // 키 행까지 포함한 앞쪽
+        } else {
+            prevKey = keyOf(page.get(0));
+        }
+        ShiftPageKey nextKey = page.size() >= limit ? keyOf(page.get(page.size() - 1)) : null;
+        return new LoadResult.Page<>(page, prevKey, nextKey);
+    }
+
+    /**
+     * 보고 있던 위치에서 새로고침한다
+     * 화면 위치보다 초기 로드 크기의 절반 앞에 있는 행부터 (그 행 포함) 읽는다.
+     */
+    @Nullable
+    @Override
+    public ShiftPageKey getRefreshKey(@NonNull PagingState<ShiftPageKey, Shift> state) {
+        Integer anchorPosition = state.getAnchorPosition();
+        if (anchorPosition == null) {
+            return null;
+        }
+        int position = Math.max(0, anchorPosition - state.getConfig().initialLoadSize / 2);
+        Shift first = state.closestItemToPosition(position);
+        if (first == null) {
+            return null;
+        }
+        // 키는 "이 키 다음 행부터"이므로 id 를 하나 줄여 first 자신부터 읽게 한다
+        return new ShiftPageKey(first.getStartMinute(), first.getId() - 1);
+    }
+
+    private static ShiftPageKey keyOf(@NonNull Shift shift) {
+        return new ShiftPageKey(shift.getStartMinute(), shift.getId());
+    }
+
+    /**
+     * PagingSource 를 약하게 참조하는 관찰자
+     * 무효화되지 않은 채 버려진 PagingSource 를 InvalidationTracker 가 붙잡아 두지 않도록,
+     * 참조가 사라진 뒤 처음 알림을 받으면 스스로 등록을 해제한다.
+     * (Room 의 addWeakObserver 는 라이브러리 내부 API 라 같은 동작을 여기서 구현한다)
+     */
+    private static final class WeakObserver extends InvalidationTracker.Observer {
+        private final InvalidationTracker tracker;
+        private final WeakReference<ShiftPagingSource> source;
+
+        WeakObserver(@NonNull InvalidationTracker tracker, @NonNull ShiftPagingSource source) {
+            super("Shift");
+            this.tracker = tracker;
+            this.source = new WeakReference<>(source);
+        }
+
+        @Override
+        public void onInvalidated(@NonNull Set<String> tables) {
+            ShiftPagingSource current = source.get();
+            if (current == null) {
+                tracker.removeObserver(this);
+            } else {
+                current.invalidate();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.util.List;
+
+/**
+ * 일자별 근무 집계(shift_daily_rollup) 조회
+ * 모든 기간은 epoch 일 기준 [fromDay, toDay) 이다.
+ */
+@Dao
+public interface ShiftRollupDao {
+    @Query("SELECT * FROM shift_daily_rollup WHERE employeeId = :employeeId " +
+           "AND day >= :fromDay AND day < :toDay ORDER BY day")
+    @NonNull
+    List<ShiftDailyRollup> getRollupsByEmployee(long employeeId, long fromDay, long toDay);
+
+    @Query("SELECT * FROM shift_daily_rollup WHERE employeeId = :employeeId " +
+           "AND day IN (:days) ORDER BY day")
+    @NonNull
+    List<ShiftDailyRollup> getRollupsByEmployeeOnDays(long employeeId, long[] days);
+
+    @Query("SELECT * FROM shift_daily_rollup WHERE day >= :fromDay AND day < :toDay " +
+           "ORDER BY employeeId, day")
+    @NonNull
+    List<ShiftDailyRollup> getRollups(long fromDay, long toDay);
+
+    @Query("SELECT employeeId, SUM(minutes) AS minutes, SUM(nightMinutes) AS nightMinutes, " +
+           "SUM(weekendMinutes) AS weekendMinutes FROM shift_daily_rollup " +
+           "WHERE employeeId = :employeeId AND day >= :fromDay AND day < :toDay " +
+           "GROUP BY employeeId")
+    @Nullable
+    RollupTotals getTotalsByEmployee(long employeeId, long fromDay, long toDay);
+
+    @Query("SELECT employeeId, SUM(minutes) AS minutes, SUM(nightMinutes) AS nightMinutes, " +
+           "SUM(weekendMinutes) AS weekendMinutes FROM shift_daily_rollup " +
+           "WHERE day >= :fromDay AND day < :toDay " +
+           "GROUP BY employeeId ORDER BY employeeId")
+    @NonNull
+    List<RollupTotals> getTotals(long fromDay, long toDay);
+}
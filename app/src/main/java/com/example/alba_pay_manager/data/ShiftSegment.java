@@ -0,0 +1,93 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Index;
+
+/**
+ * 근무를 하루 안, 같은 시간대 안으로 자른 구간 (Shift 테이블 트리거가 유지한다)
+ *
+ * 근무 하나는 날짜별로 00:00~06:00(야간), 06:00~22:00, 22:00~24:00(야간) 경계에서 잘려 최대 6개 구간이 된다.
+ * kind 는 구간 속성 비트이며, 휴무일/공휴일 표가 바뀌면 트리거가 그날 구간의 HOLIDAY 비트를 다시 맞춘다.
+ * 앱 코드에서 직접 INSERT/UPDATE 하지 않는다.
+ */
+@Entity(
+    tableName = "shift_segment",
+    primaryKeys = {"shiftId", "startMinute"},
+    foreignKeys = @ForeignKey(
+        entity = Shift.class,
+        parentColumns = "id",
+        childColumns = "shiftId",
+        onDelete = ForeignKey.CASCADE
+    ),
+    indices = {
+        @Index(value = {"employeeId", "day"}),
+        @Index("day")
+    }
+)
+public class ShiftSegment {
+    /** 구간 속성: 일반 (비트 없음) */
+    public static final int REGULAR = 0;
+    /** 구간 속성: 야간 (22:00~06:00) */
+    public static final int NIGHT = 1;
+    /** 구간 속성: 토/일요일 */
+    public static final int WEEKEND = 1 << 1;
+    /** 구간 속성: 공휴일 또는 매장 휴무일 */
+    public static final int HOLIDAY = 1 << 2;
+
+    private long shiftId;
+    private long employeeId;
+    private long day;         // epoch 일
+    private long startMinute; // epoch 분, day 안
+    private long endMinute;
+    private int minutes;      // endMinute - startMinute
+    private int kind;         // 속성 비트
+
+    public ShiftSegment(long shiftId, long employeeId, long day, long startMinute, long endMinute,
+                        int minutes, int kind) {
+        this.shiftId = shiftId;
+        this.employeeId = employeeId;
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.minutes = minutes;
+        this.kind = kind;
+    }
+
+    public long getShiftId() {
+        return shiftId;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public long getDay() {
+        return day;
+    }
+
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public long getEndMinute() {
+        return endMinute;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public int getKind() {
+        return kind;
+    }
+
+    public boolean isNight() {
+        return (kind & NIGHT) != 0;
+    }
+
+    /** 토/일요일이거나 공휴일/휴무일인지 */
+    public boolean isHoliday() {
+        return (kind & (WEEKEND | HOLIDAY)) != 0;
+    }
+}
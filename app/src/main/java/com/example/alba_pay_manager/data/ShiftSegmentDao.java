@@ -0,0 +1,58 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.util.List;
+
+/**
+ * 근무 구간(shift_segment) 조회
+ * 구간은 하루 안으로 잘려 있으므로 날짜 조회가 (employeeId, day) / (day) 인덱스 한 번으로 끝난다.
+ * 모든 기간은 epoch 일 기준 [fromDay, toDay) 이다.
+ */
+@Dao
+public interface ShiftSegmentDao {
+    @Query("SELECT * FROM shift_segment WHERE employeeId = :employeeId AND day = :day " +
+           "ORDER BY startMinute")
+    @NonNull
+    List<ShiftSegment> getSegmentsByEmployeeOnDay(long employeeId, long day);
+
+    @Query("SELECT * FROM shift_segment WHERE day = :day ORDER BY startMinute")
+    @NonNull
+    List<ShiftSegment> getSegmentsOnDay(long day);
+
+    /**
+     * 해당 날짜에 걸친 근무 (전날 시작해 자정을 넘긴 근무 포함)
+     */
+    @Query("SELECT * FROM Shift WHERE id IN " +
+           "(SELECT shiftId FROM shift_segment WHERE employeeId = :employeeId AND day = :day) " +
+           "ORDER BY startMinute")
+    @NonNull
+    List<Shift> getShiftsByEmployeeOnDay(long employeeId, long day);
+
+    @Query("SELECT * FROM Shift WHERE id IN (SELECT shiftId FROM shift_segment WHERE day = :day) " +
+           "ORDER BY startMinute")
+    @NonNull
+    List<Shift> getShiftsOnDay(long day);
+
+    /**
+     * (일, 구간 속성)별 근무 분
+     */
+    @Query("SELECT day, kind, SUM(minutes) AS minutes FROM shift_segment " +
+           "WHERE employeeId = :employeeId AND day >= :fromDay AND day < :toDay " +
+           "GROUP BY day, kind ORDER BY day, kind")
+    @NonNull
+    List<SegmentTotals> getTotalsByEmployee(long employeeId, long fromDay, long toDay);
+
+    /**
+     * 평일 공휴일/휴무일의 (일, 구간 속성)별 근무 분
+     * (토/일요일만 휴일로 보는 누적 테이블을 보정할 때 쓴다)
+     */
+    @Query("SELECT day, kind, SUM(minutes) AS minutes FROM shift_segment " +
+           "WHERE employeeId = :employeeId AND day >= :fromDay AND day < :toDay " +
+           "AND (kind & " + ShiftSegment.HOLIDAY + ") != 0 AND (kind & " + ShiftSegment.WEEKEND + ") = 0 " +
+           "GROUP BY day, kind ORDER BY day, kind")
+    @NonNull
+    List<SegmentTotals> getWeekdayHolidayTotalsByEmployee(long employeeId, long fromDay, long toDay);
+}
@@ -0,0 +1,538 @@
+package com.example.alba_pay_manager.data;
+
+/**
+ * ShiftDao 쿼리에서 공유하는 SQL 조각
+ */
+final class ShiftSql {
+    private ShiftSql() {} // 인스턴스화 방지
+
+    /**
+     * [:start, :end) 구간과 겹치는 근무 (start < :end AND end > :start)
+     *
+     * 근무 길이가 최대 24시간이므로 startMinute 의 하한을 함께 걸어
+     * startMinute 인덱스 범위 스캔만으로 경계를 넘는 근무까지 찾는다.
+     */
+    static final String OVERLAPS_RANGE =
+            "startMinute > :start - " + Shift.MAX_DURATION_MINUTES + " " +
+            "AND startMinute < :end AND endMinute > :start";
+
+    /** 구간 안으로 잘라낸 근무 시간(분) */
+    static final String CLIPPED_MINUTES =
+            "(MIN(endMinute, :end) - MAX(startMinute, :start))";
+
+    /**
+     * 구간과 겹치는 근무를 구간 안으로 잘라낸 (employeeId, s, e) 행
+     * 아래 NIGHT_MINUTES / WEEKEND_MINUTES 는 이 s, e 컬럼을 기준으로 계산한다.
+     */
+    static final String CLIPPED_ROWS =
+            "SELECT employeeId, MAX(startMinute, :start) AS s, MIN(endMinute, :end) AS e " +
+            "FROM Shift WHERE " + OVERLAPS_RANGE;
+
+    /**
+     * [s, e) 중 야간(22:00~06:00) 분
+     * k일의 야간 구간은 [k*1440 - 120, k*1440 + 360) 이고, 근무 길이가 24시간 이하이므로
+     * 시작일 기준 k = d, d+1, d+2 세 구간만 보면 된다.
+     */
+    static final String NIGHT_MINUTES =
+            "(MAX(0, MIN(e, (s / 1440) * 1440 + 360) - MAX(s, (s / 1440) * 1440 - 120)) + " +
+            "MAX(0, MIN(e, (s / 1440 + 1) * 1440 + 360) - MAX(s, (s / 1440 + 1) * 1440 - 120)) + " +
+            "MAX(0, MIN(e, (s / 1440 + 2) * 1440 + 360) - MAX(s, (s / 1440 + 2) * 1440 - 120)))";
+
+    /**
+     * [s, e) 중 토/일요일 분
+     * epoch 0일(1970-01-01)이 목요일이므로 (일 + 3) % 7 이 5, 6 이면 토, 일요일이다.
+     * 24시간 이하 근무는 최대 이틀에 걸친다.
+     */
+    static final String WEEKEND_MINUTES =
+            "((CASE WHEN (s / 1440 + 3) % 7 >= 5 " +
+            "THEN MIN(e, (s / 1440 + 1) * 1440) - s ELSE 0 END) + " +
+            "(CASE WHEN (s / 1440 + 4) % 7 >= 5 " +
+            "THEN MAX(0, e - (s / 1440 + 1) * 1440) ELSE 0 END))";
+
+    /** 근무 길이가 1~1440분인 행 (OVERLAPS_RANGE 와 트리거가 모두 이 범위를 전제로 한다) */
+    static final String VALID_DURATION =
+            "endMinute - startMinute BETWEEN 1 AND " + Shift.MAX_DURATION_MINUTES;
+
+    /**
+     * 길이가 1~1440분이 아닌 근무의 INSERT/UPDATE 를 거부하는 트리거 생성문
+     * Room 엔티티에는 CHECK 제약을 선언할 수 없으므로 새 DB 와 마이그레이션한 DB 에 같은 트리거로 건다.
+     * 집계 트리거(AFTER)보다 먼저 실행되어 잘못된 행이 집계에 들어가지 않는다.
+     */
+    static String[] durationCheckTriggers() {
+        String violation = "NEW.endMinute - NEW.startMinute NOT BETWEEN 1 AND " + Shift.MAX_DURATION_MINUTES;
+        String abort = "BEGIN SELECT RAISE(ABORT, 'shift duration must be 1..1440 minutes'); END";
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `shift_duration_before_insert` BEFORE INSERT ON `Shift` " +
+            "WHEN " + violation + " " + abort,
+            "CREATE TRIGGER IF NOT EXISTS `shift_duration_before_update` " +
+            "BEFORE UPDATE OF `startMinute`, `endMinute` ON `Shift` " +
+            "WHEN " + violation + " " + abort
+        };
+    }
+
+    /**
+     * shift_daily_rollup 을 유지하는 트리거 생성문
+     * INSERT/DELETE/UPDATE 마다 근무가 걸친 (최대 이틀) 일자 행을 증감한다.
+     * (API 26 SQLite 는 UPSERT 를 지원하지 않으므로 INSERT OR IGNORE + UPDATE 로 처리)
+     */
+    static String[] rollupTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `shift_rollup_after_insert` AFTER INSERT ON `Shift` " +
+            "BEGIN " + addToRollup("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_rollup_after_delete` AFTER DELETE ON `Shift` " +
+            "BEGIN " + removeFromRollup("OLD") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_rollup_after_update` " +
+            "AFTER UPDATE OF `employeeId`, `startMinute`, `endMinute` ON `Shift` " +
+            "BEGIN " + removeFromRollup("OLD") + addToRollup("NEW") + "END"
+        };
+    }
+
+    /**
+     * 기존 Shift 행 전체로 shift_daily_rollup 을 다시 채우는 문장
+     */
+    static String rollupBackfill() {
+        return "INSERT INTO `shift_daily_rollup` " +
+               "(`employeeId`, `day`, `minutes`, `nightMinutes`, `weekendMinutes`) " +
+               "SELECT employeeId, day, SUM(m), SUM(n), SUM(w) FROM (" +
+               rollupSelect(0) + " UNION ALL " + rollupSelect(1) + ") " +
+               "WHERE m > 0 GROUP BY employeeId, day";
+    }
+
+    private static String rollupSelect(int dayOffset) {
+        String day = "(startMinute / 1440 + " + dayOffset + ")";
+        return "SELECT employeeId, " + day + " AS day, " +
+               dayMinutes("startMinute", "endMinute", day) + " AS m, " +
+               dayNightMinutes("startMinute", "endMinute", day) + " AS n, " +
+               dayWeekendMinutes("startMinute", "endMinute", day) + " AS w FROM `Shift`";
+    }
+
+    private static String addToRollup(String row) {
+        StringBuilder sql = new StringBuilder();
+        for (int dayOffset = 0; dayOffset <= 1; dayOffset++) {
+            String s = row + ".startMinute";
+            String e = row + ".endMinute";
+            String day = "(" + s + " / 1440 + " + dayOffset + ")";
+            sql.append("INSERT OR IGNORE INTO `shift_daily_rollup` ")
+               .append("(`employeeId`, `day`, `minutes`, `nightMinutes`, `weekendMinutes`) ")
+               .append("SELECT ").append(row).append(".employeeId, ").append(day).append(", 0, 0, 0 ")
+               .append("WHERE ").append(dayMinutes(s, e, day)).append(" > 0; ");
+            sql.append(updateRollup(row, day, "+"));
+        }
+        return sql.toString();
+    }
+
+    private static String removeFromRollup(String row) {
+        StringBuilder sql = new StringBuilder();
+        String day = "(" + row + ".startMinute / 1440)";
+        sql.append(updateRollup(row, day, "-"));
+        sql.append(updateRollup(row, "(" + row + ".startMinute / 1440 + 1)", "-"));
+        sql.append("DELETE FROM `shift_daily_rollup` WHERE employeeId = ").append(row)
+           .append(".employeeId AND day IN (").append(day).append(", ").append(day)
+           .append(" + 1) AND minutes <= 0; ");
+        return sql.toString();
+    }
+
+    private static String updateRollup(String row, String day, String sign) {
+        String s = row + ".startMinute";
+        String e = row + ".endMinute";
+        return "UPDATE `shift_daily_rollup` SET " +
+               "minutes = minutes " + sign + " " + dayMinutes(s, e, day) + ", " +
+               "nightMinutes = nightMinutes " + sign + " " + dayNightMinutes(s, e, day) + ", " +
+               "weekendMinutes = weekendMinutes " + sign + " " + dayWeekendMinutes(s, e, day) + " " +
+               "WHERE employeeId = " + row + ".employeeId AND day = " + day + "; ";
+    }
+
+    /** [s, e) 중 day 일에 속한 분 */
+    private static String dayMinutes(String s, String e, String day) {
+        return "MAX(0, MIN(" + e + ", (" + day + " + 1) * 1440) - MAX(" + s + ", " + day + " * 1440))";
+    }
+
+    /** [s, e) 중 day 일의 00:00~06:00, 22:00~24:00 에 속한 분 */
+    private static String dayNightMinutes(String s, String e, String day) {
+        return "(MAX(0, MIN(" + e + ", " + day + " * 1440 + 360) - MAX(" + s + ", " + day + " * 1440)) + " +
+               "MAX(0, MIN(" + e + ", (" + day + " + 1) * 1440) - MAX(" + s + ", " + day + " * 1440 + 1320)))";
+    }
+
+    /** day 일이 토/일요일이면 그날에 속한 분, 아니면 0 */
+    private static String dayWeekendMinutes(String s, String e, String day) {
+        return "(CASE WHEN (" + day + " + 3) % 7 >= 5 THEN " + dayMinutes(s, e, day) + " ELSE 0 END)";
+    }
+
+    // 하루 안의 시간대 경계 (분, 시작/끝/야간 여부)
+    private static final int[][] DAY_WINDOWS = {
+        {0, 360, ShiftSegment.NIGHT},
+        {360, 1320, ShiftSegment.REGULAR},
+        {1320, 1440, ShiftSegment.NIGHT}
+    };
+
+    /**
+     * shift_segment 를 유지하는 트리거 생성문
+     * 근무를 쓰는 문장과 같은 트랜잭션에서 구간을 만들고, 휴무일/공휴일 표가 바뀌면 그날 구간의 HOLIDAY 비트를 맞춘다.
+     * (삭제는 외래 키 CASCADE 와 별도로 트리거에서도 지워 foreign_keys 가 꺼진 연결에서도 남지 않게 한다)
+     */
+    static String[] segmentTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_insert` AFTER INSERT ON `Shift` " +
+            "BEGIN " + insertSegments("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_delete` AFTER DELETE ON `Shift` " +
+            "BEGIN DELETE FROM `shift_segment` WHERE shiftId = OLD.id; END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_update` " +
+            "AFTER UPDATE OF `employeeId`, `startMinute`, `endMinute` ON `Shift` " +
+            "BEGIN DELETE FROM `shift_segment` WHERE shiftId = OLD.id; " + insertSegments("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_closure_insert` " +
+            "AFTER INSERT ON `closure_days` BEGIN " + retagHoliday("NEW.day") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_closure_delete` " +
+            "AFTER DELETE ON `closure_days` BEGIN " + retagHoliday("OLD.day") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_public_holiday_insert` " +
+            "AFTER INSERT ON `public_holidays` BEGIN " + retagHoliday("NEW.day") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `shift_segment_after_public_holiday_delete` " +
+            "AFTER DELETE ON `public_holidays` BEGIN " + retagHoliday("OLD.day") + "END"
+        };
+    }
+
+    /**
+     * 기존 Shift 행 전체로 shift_segment 를 채우는 문장
+     */
+    static String[] segmentBackfill() {
+        String[] statements = new String[2 * DAY_WINDOWS.length];
+        for (int dayOffset = 0; dayOffset <= 1; dayOffset++) {
+            for (int w = 0; w < DAY_WINDOWS.length; w++) {
+                statements[dayOffset * DAY_WINDOWS.length + w] =
+                        insertSegment("", dayOffset, DAY_WINDOWS[w]) + " FROM `Shift`) AS seg WHERE e > s";
+            }
+        }
+        return statements;
+    }
+
+    private static String insertSegments(String row) {
+        StringBuilder sql = new StringBuilder();
+        for (int dayOffset = 0; dayOffset <= 1; dayOffset++) {
+            for (int[] window : DAY_WINDOWS) {
+                sql.append(insertSegment(row + ".", dayOffset, window)).append(") AS seg WHERE e > s; ");
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 근무의 dayOffset 번째 날, window 시간대 구간을 넣는 문장 (뒤에 FROM, 닫는 괄호와 별칭 seg, WHERE 를 붙인다)
+     * 24시간 이하 근무는 최대 이틀에 걸친다.
+     */
+    private static String insertSegment(String prefix, int dayOffset, int[] window) {
+        String day = "(" + prefix + "startMinute / 1440 + " + dayOffset + ")";
+        return "INSERT INTO `shift_segment` " +
+               "(`shiftId`, `employeeId`, `day`, `startMinute`, `endMinute`, `minutes`, `kind`) " +
+               "SELECT id, employeeId, day, s, e, e - s, " + window[2] + " | " + dayKind("seg.day") + " " +
+               "FROM (SELECT " + prefix + "id AS id, " + prefix + "employeeId AS employeeId, " +
+               day + " AS day, " +
+               "MAX(" + prefix + "startMinute, " + day + " * 1440 + " + window[0] + ") AS s, " +
+               "MIN(" + prefix + "endMinute, " + day + " * 1440 + " + window[1] + ") AS e";
+    }
+
+    /** day 일의 토/일요일, 휴일 비트 */
+    private static String dayKind(String day) {
+        return "(CASE WHEN (" + day + " + 3) % 7 >= 5 THEN " + ShiftSegment.WEEKEND + " ELSE 0 END) | " +
+               "(CASE WHEN " + isHolidaySql(day) + " THEN " + ShiftSegment.HOLIDAY + " ELSE 0 END)";
+    }
+
+    private static String isHolidaySql(String day) {
+        return "(EXISTS (SELECT 1 FROM `closure_days` WHERE `closure_days`.day = " + day + ") " +
+               "OR EXISTS (SELECT 1 FROM `public_holidays` WHERE `public_holidays`.day = " + day + "))";
+    }
+
+    private static String retagHoliday(String day) {
+        return "UPDATE `shift_segment` SET kind = (kind & ~" + ShiftSegment.HOLIDAY + ") | " +
+               "(CASE WHEN " + isHolidaySql(day) + " THEN " + ShiftSegment.HOLIDAY + " ELSE 0 END) " +
+               "WHERE day = " + day + "; ";
+    }
+
+    /**
+     * payroll_dirty 를 표시하는 트리거 생성문
+     * 근무가 걸친 월(시작/종료 월)과 그 주의 주휴가 지급되는 월,
+     * 최저시급이 등록된 연도의 저장된 월을 표시한다. (시급 변경은 {@link #wageHistoryTriggers()})
+     */
+    static String[] payrollDirtyTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_shift_insert` AFTER INSERT ON `Shift` " +
+            "BEGIN " + markShiftMonthsDirty("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_shift_delete` AFTER DELETE ON `Shift` " +
+            "BEGIN " + markShiftMonthsDirty("OLD") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_shift_update` " +
+            "AFTER UPDATE OF `employeeId`, `startMinute`, `endMinute` ON `Shift` " +
+            "BEGIN " + markShiftMonthsDirty("OLD") + markShiftMonthsDirty("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_minimum_wage_insert` " +
+            "AFTER INSERT ON `minimum_wages` " +
+            "BEGIN INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+            "SELECT employeeId, year, month FROM `Payroll` WHERE year = NEW.year; END"
+        };
+    }
+
+    /**
+     * 매장 휴무일이 추가/삭제되면 그 날이 속한 월의 저장된 급여를 dirty 로 표시하는 트리거 생성문
+     */
+    static String[] closureDayDirtyTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_closure_insert` " +
+            "AFTER INSERT ON `closure_days` BEGIN " + markClosureMonthDirty("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_closure_delete` " +
+            "AFTER DELETE ON `closure_days` BEGIN " + markClosureMonthDirty("OLD") + "END"
+        };
+    }
+
+    /**
+     * employee_wage_history 를 유지하고 시급 변경을 dirty 로 표시하는 트리거 생성문
+     * 알바생을 추가하면 첫 이력을, 시급을 바꾸면 오늘부터의 이력을 남긴다.
+     * 이력이 바뀌면 적용 시작 월 이후의 저장된 급여만 표시하므로 지난 달 급여는 그대로 남는다.
+     */
+    static String[] wageHistoryTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `wage_history_after_employee_insert` " +
+            "AFTER INSERT ON `Employee` " +
+            "BEGIN INSERT OR REPLACE INTO `employee_wage_history` (`employeeId`, `effectiveFrom`, `wage`) " +
+            "VALUES (NEW.id, 0, NEW.hourlyWage); END",
+            "CREATE TRIGGER IF NOT EXISTS `wage_history_after_wage_update` " +
+            "AFTER UPDATE OF `hourlyWage` ON `Employee` WHEN NEW.hourlyWage <> OLD.hourlyWage " +
+            "BEGIN INSERT OR REPLACE INTO `employee_wage_history` (`employeeId`, `effectiveFrom`, `wage`) " +
+            "VALUES (NEW.id, " + TODAY + ", NEW.hourlyWage); END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_wage_history_insert` " +
+            "AFTER INSERT ON `employee_wage_history` BEGIN " + markWageMonthsDirty("NEW") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_wage_history_delete` " +
+            "AFTER DELETE ON `employee_wage_history` BEGIN " + markWageMonthsDirty("OLD") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_dirty_after_wage_history_update` " +
+            "AFTER UPDATE ON `employee_wage_history` " +
+            "BEGIN " + markWageMonthsDirty("OLD") + markWageMonthsDirty("NEW") + "END"
+        };
+    }
+
+    /** 오늘 (로컬 벽시계 기준 epoch 일) */
+    private static final String TODAY = "CAST(julianday('now', 'localtime') - 2440587.5 AS INTEGER)";
+
+    private static String markWageMonthsDirty(String row) {
+        String day = row + ".effectiveFrom";
+        return "INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+               "SELECT employeeId, year, month FROM `Payroll` WHERE employeeId = " + row + ".employeeId " +
+               "AND year * 100 + month >= " + yearOfDay(day) + " * 100 + " + monthOfDay(day) + "; ";
+    }
+
+    private static String markClosureMonthDirty(String row) {
+        return "INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+               "SELECT employeeId, year, month FROM `Payroll` " +
+               "WHERE year = " + yearOfDay(row + ".day") + " AND month = " + monthOfDay(row + ".day") + "; ";
+    }
+
+    /**
+     * 기존 Shift 행이 걸친 모든 (알바생, 연, 월)을 dirty 로 표시하는 문장
+     */
+    static String payrollDirtyBackfill() {
+        return "INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+               "SELECT employeeId, " + yearOf("startMinute") + ", " + monthOf("startMinute") +
+               " FROM `Shift` UNION " +
+               "SELECT employeeId, " + yearOf(lastMinute("startMinute", "endMinute")) + ", " +
+               monthOf(lastMinute("startMinute", "endMinute")) + " FROM `Shift`";
+    }
+
+    /**
+     * 근무가 걸친 월과, 주휴가 지급되는 (근무가 걸친 주의 일요일이 속한) 월을 표시
+     */
+    private static String markShiftMonthsDirty(String row) {
+        String s = row + ".startMinute";
+        String last = lastMinute(s, row + ".endMinute");
+        return markDirty(row, s) + markDirty(row, last) +
+               markDirty(row, sundayMinute(s)) + markDirty(row, sundayMinute(last));
+    }
+
+    private static String markDirty(String row, String minute) {
+        return "INSERT OR IGNORE INTO `payroll_dirty` (`employeeId`, `year`, `month`) " +
+               "VALUES (" + row + ".employeeId, " + yearOf(minute) + ", " + monthOf(minute) + "); ";
+    }
+
+    /** 분이 속한 주의 일요일 00:00 (epoch 분) */
+    private static String sundayMinute(String minute) {
+        return sundayOfWeek(weekOfDay("(" + minute + ") / 1440")) + " * 1440";
+    }
+
+    /** 근무의 마지막 분 (종료 시각이 자정이면 전날로 친다) */
+    private static String lastMinute(String s, String e) {
+        return "MAX(" + s + ", " + e + " - 1)";
+    }
+
+    private static String yearOf(String minute) {
+        return "CAST(strftime('%Y', (" + minute + ") * 60, 'unixepoch') AS INTEGER)";
+    }
+
+    private static String monthOf(String minute) {
+        return "CAST(strftime('%m', (" + minute + ") * 60, 'unixepoch') AS INTEGER)";
+    }
+
+    /**
+     * payroll_accumulator / payroll_week_accumulator 를 유지하는 트리거 생성문
+     *
+     * shift_daily_rollup 행이 바뀔 때마다 그 일자의 일반/야간/연장/휴일 분 기여를
+     * (새 값 - 이전 값) 만큼 그 일자의 월 누적에 더하고, 주 합계가 바뀐 만큼 주휴 분을 다시 정산해
+     * 그 주 일요일이 속한 월 누적에 반영한다.
+     * 규칙은 PayrollEngine.calculateDays 를 월 단위 지급 기간으로 호출한 것과 같다. (모든 수당 적용)
+     * 단, 휴일은 토/일요일만 반영한다. 평일 공휴일과 매장 휴무일은 읽을 때 PayrollCalculator 가 보정한다.
+     */
+    static String[] accumulatorTriggers() {
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS `payroll_accumulator_after_rollup_insert` " +
+            "AFTER INSERT ON `shift_daily_rollup` " +
+            "BEGIN " + applyAccumulatorDelta("NEW", null) + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_accumulator_after_rollup_delete` " +
+            "AFTER DELETE ON `shift_daily_rollup` " +
+            "BEGIN " + applyAccumulatorDelta(null, "OLD") + "END",
+            "CREATE TRIGGER IF NOT EXISTS `payroll_accumulator_after_rollup_update` " +
+            "AFTER UPDATE ON `shift_daily_rollup` " +
+            "BEGIN " + applyAccumulatorDelta("NEW", "OLD") + "END"
+        };
+    }
+
+    /**
+     * 기존 shift_daily_rollup 전체로 누적 테이블을 다시 채우는 문장들
+     */
+    static String[] accumulatorBackfill() {
+        String sunday = sundayOfWeek("w.week");
+        return new String[] {
+            "INSERT INTO `payroll_week_accumulator` (`employeeId`, `week`, `minutes`) " +
+            "SELECT employeeId, " + weekOfDay("day") + ", SUM(minutes) " +
+            "FROM `shift_daily_rollup` GROUP BY 1, 2",
+            "INSERT INTO `payroll_accumulator` " +
+            "(`employeeId`, `year`, `month`, `totalMinutes`, `regularMinutes`, `nightMinutes`, " +
+            "`overtimeMinutes`, `holidayMinutes`, `weeklyAllowanceMinutes`) " +
+            "SELECT employeeId, " + yearOfDay("day") + ", " + monthOfDay("day") + ", SUM(minutes), " +
+            "SUM(" + dayRegular("") + "), SUM(nightMinutes), SUM(" + dayOvertime("") + "), " +
+            "SUM(" + dayHoliday("") + "), 0 FROM `shift_daily_rollup` GROUP BY 1, 2, 3",
+            // 근무일은 없지만 주휴가 지급되는 월(주 일요일이 다음 달) 행
+            "INSERT OR IGNORE INTO `payroll_accumulator` " +
+            "(`employeeId`, `year`, `month`, `totalMinutes`, `regularMinutes`, `nightMinutes`, " +
+            "`overtimeMinutes`, `holidayMinutes`, `weeklyAllowanceMinutes`) " +
+            "SELECT employeeId, " + yearOfDay(sunday) + ", " + monthOfDay(sunday) + ", 0, 0, 0, 0, 0, 0 " +
+            "FROM `payroll_week_accumulator` w",
+            "UPDATE `payroll_accumulator` SET weeklyAllowanceMinutes = (" +
+            "SELECT COALESCE(SUM(" + weeklyAllowance("w.minutes") + "), 0) " +
+            "FROM `payroll_week_accumulator` w WHERE w.employeeId = payroll_accumulator.employeeId " +
+            "AND " + yearOfDay(sunday) + " = payroll_accumulator.year " +
+            "AND " + monthOfDay(sunday) + " = payroll_accumulator.month)"
+        };
+    }
+
+    /**
+     * addRow 의 기여를 더하고 subtractRow 의 기여를 빼는 문장 (둘 중 하나는 null 일 수 있다)
+     * UPDATE 트리거에서 두 행의 (employeeId, day) 는 같다.
+     */
+    private static String applyAccumulatorDelta(String addRow, String subtractRow) {
+        String row = addRow != null ? addRow : subtractRow;
+        String employee = row + ".employeeId";
+        String week = weekOfDay(row + ".day");
+        String sunday = sundayOfWeek(week);
+        String dayMonthKey = "employeeId = " + employee + " AND year = " + yearOfDay(row + ".day") +
+                " AND month = " + monthOfDay(row + ".day");
+        String sundayMonthKey = "employeeId = " + employee + " AND year = " + yearOfDay(sunday) +
+                " AND month = " + monthOfDay(sunday);
+        String weekKey = "employeeId = " + employee + " AND week = " + week;
+        String weekAllowance = "(SELECT " + weeklyAllowance("minutes") +
+                " FROM `payroll_week_accumulator` WHERE " + weekKey + ")";
+
+        return insertEmptyAccumulator(employee, row + ".day") +
+               insertEmptyAccumulator(employee, sunday) +
+               "INSERT OR IGNORE INTO `payroll_week_accumulator` (`employeeId`, `week`, `minutes`) " +
+               "VALUES (" + employee + ", " + week + ", 0); " +
+               // 바뀌기 전 주 합계의 주휴 분을 빼고
+               "UPDATE `payroll_accumulator` SET weeklyAllowanceMinutes = weeklyAllowanceMinutes - " +
+               weekAllowance + " WHERE " + sundayMonthKey + "; " +
+               "UPDATE `payroll_week_accumulator` SET minutes = minutes " +
+               delta(addRow, subtractRow, "minutes") + " WHERE " + weekKey + "; " +
+               // 일자 기여 변화량과 바뀐 주 합계의 주휴 분을 더한다
+               "UPDATE `payroll_accumulator` SET " +
+               "totalMinutes = totalMinutes " + delta(addRow, subtractRow, "minutes") + ", " +
+               "regularMinutes = regularMinutes " + delta(addRow, subtractRow, "regular") + ", " +
+               "nightMinutes = nightMinutes " + delta(addRow, subtractRow, "nightMinutes") + ", " +
+               "overtimeMinutes = overtimeMinutes " + delta(addRow, subtractRow, "overtime") + ", " +
+               "holidayMinutes = holidayMinutes " + delta(addRow, subtractRow, "holiday") +
+               " WHERE " + dayMonthKey + "; " +
+               "UPDATE `payroll_accumulator` SET weeklyAllowanceMinutes = weeklyAllowanceMinutes + " +
+               weekAllowance + " WHERE " + sundayMonthKey + "; ";
+    }
+
+    private static String insertEmptyAccumulator(String employee, String day) {
+        return "INSERT OR IGNORE INTO `payroll_accumulator` " +
+               "(`employeeId`, `year`, `month`, `totalMinutes`, `regularMinutes`, `nightMinutes`, " +
+               "`overtimeMinutes`, `holidayMinutes`, `weeklyAllowanceMinutes`) " +
+               "VALUES (" + employee + ", " + yearOfDay(day) + ", " + monthOfDay(day) +
+               ", 0, 0, 0, 0, 0, 0); ";
+    }
+
+    /** "+ (addRow 의 값) - (subtractRow 의 값)" (null 인 쪽은 생략) */
+    private static String delta(String addRow, String subtractRow, String value) {
+        StringBuilder sql = new StringBuilder();
+        if (addRow != null) {
+            sql.append("+ ").append(contribution(addRow + ".", value)).append(' ');
+        }
+        if (subtractRow != null) {
+            sql.append("- ").append(contribution(subtractRow + ".", value)).append(' ');
+        }
+        return sql.toString().trim();
+    }
+
+    private static String contribution(String prefix, String value) {
+        switch (value) {
+            case "regular":
+                return dayRegular(prefix);
+            case "overtime":
+                return dayOvertime(prefix);
+            case "holiday":
+                return dayHoliday(prefix);
+            default:
+                return prefix + value;
+        }
+    }
+
+    /** 일자가 토/일요일인지 (prefix 는 "NEW." 등 행 별칭, 없으면 "") */
+    private static String isWeekendDay(String prefix) {
+        return "((" + prefix + "day + 3) % 7 >= 5)";
+    }
+
+    /** 야간을 뺀 나머지 분 */
+    private static String dayRemaining(String prefix) {
+        return "(" + prefix + "minutes - " + prefix + "nightMinutes)";
+    }
+
+    /** 일반 근무 분 (평일, 8시간까지) */
+    private static String dayRegular(String prefix) {
+        return "(CASE WHEN " + isWeekendDay(prefix) + " THEN 0 ELSE MIN(" + dayRemaining(prefix) + ", 480) END)";
+    }
+
+    /** 연장 근무 분 (평일, 8시간 초과분) */
+    private static String dayOvertime(String prefix) {
+        return "(CASE WHEN " + isWeekendDay(prefix) + " THEN 0 ELSE MAX(" + dayRemaining(prefix) + " - 480, 0) END)";
+    }
+
+    /** 휴일 근무 분 (주말의 야간 외 전부) */
+    private static String dayHoliday(String prefix) {
+        return "(CASE WHEN " + isWeekendDay(prefix) + " THEN " + dayRemaining(prefix) + " ELSE 0 END)";
+    }
+
+    /** 주 합계 분에 대한 주휴 분 (15시간 미만 0, 40시간 이상 8시간, 그 사이 비례) */
+    private static String weeklyAllowance(String weekMinutes) {
+        return "(CASE WHEN " + weekMinutes + " < 900 THEN 0 WHEN " + weekMinutes + " >= 2400 THEN 480 " +
+               "ELSE " + weekMinutes + " * 480 / 2400 END)";
+    }
+
+    /** epoch 일이 속한 주 (월요일 시작) */
+    private static String weekOfDay(String day) {
+        return "((" + day + " + 3) / 7)";
+    }
+
+    /** 주의 일요일 (epoch 일) */
+    private static String sundayOfWeek(String week) {
+        return "((" + week + ") * 7 + 3)";
+    }
+
+    private static String yearOfDay(String day) {
+        return "CAST(strftime('%Y', (" + day + ") * 86400, 'unixepoch') AS INTEGER)";
+    }
+
+    private static String monthOfDay(String day) {
+        return "CAST(strftime('%m', (" + day + ") * 86400, 'unixepoch') AS INTEGER)";
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.alba_pay_manager.data;
+
+/**
+ * 알바생별 근무 집계 (ShiftDao 집계 쿼리 결과)
+ */
+public class ShiftTotals {
+    public final long employeeId;
+    /** 구간 안 근무 건수 */
+    public final int shiftCount;
+    /** 구간 안으로 잘라낸 총 근무 시간(분) */
+    public final long totalMinutes;
+    /** 야간(22:00~06:00) 근무 시간(분) */
+    public final long nightMinutes;
+    /** 토/일요일 근무 시간(분) */
+    public final long weekendMinutes;
+
+    public ShiftTotals(long employeeId, int shiftCount, long totalMinutes,
+                       long nightMinutes, long weekendMinutes) {
+        this.employeeId = employeeId;
+        this.shiftCount = shiftCount;
+        this.totalMinutes = totalMinutes;
+        this.nightMinutes = nightMinutes;
+        this.weekendMinutes = weekendMinutes;
+    }
+}
@@ -0,0 +1,490 @@
+package com.example.alba_pay_manager.data;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteTransactionListener;
+import android.os.CancellationSignal;
+import android.util.Pair;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.SupportSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteStatement;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 실행한 SQL 의 시간과 행 수를 {@link QueryStats} 에 남기는 SupportSQLiteOpenHelper.Factory
+ *
+ * 기본 팩토리가 만든 DB 를 감싸 query / execSQL / 컴파일된 문장 실행을 잰다.
+ * Android 커서는 처음 행 수를 셀 때 실제로 쿼리를 실행하므로, 조회는 getCount() 까지 재서
+ * 실행 시간과 결과 행 수를 함께 얻는다 (Room 은 어차피 모든 행을 읽으므로 추가 비용은 없다).
+ * 트랜잭션 등 나머지 호출은 그대로 위임한다.
+ */
+public final class TimingOpenHelperFactory implements SupportSQLiteOpenHelper.Factory {
+    private final SupportSQLiteOpenHelper.Factory delegate;
+    private final QueryStats stats;
+
+    public TimingOpenHelperFactory() {
+        this(new FrameworkSQLiteOpenHelperFactory(), QueryStats.get());
+    }
+
+    public TimingOpenHelperFactory(@NonNull SupportSQLiteOpenHelper.Factory delegate, @NonNull QueryStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    @NonNull
+    @Override
+    public SupportSQLiteOpenHelper create(@NonNull SupportSQLiteOpenHelper.Configuration configuration) {
+        return new TimingOpenHelper(delegate.create(configuration), stats);
+    }
+
+    private static final class TimingOpenHelper implements SupportSQLiteOpenHelper {
+        private final SupportSQLiteOpenHelper delegate;
+        private final QueryStats stats;
+        private volatile TimingDatabase wrapped; // 기본 헬퍼는 같은 DB 객체를 돌려주므로 감싼 객체도 재사용한다
+
+        TimingOpenHelper(SupportSQLiteOpenHelper delegate, QueryStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+        }
+
+        @Nullable
+        @Override
+        public String getDatabaseName() {
+            return delegate.getDatabaseName();
+        }
+
+        @Override
+        public void setWriteAheadLoggingEnabled(boolean enabled) {
+            delegate.setWriteAheadLoggingEnabled(enabled);
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getWritableDatabase() {
+            return wrap(delegate.getWritableDatabase());
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getReadableDatabase() {
+            return wrap(delegate.getReadableDatabase());
+        }
+
+        private SupportSQLiteDatabase wrap(SupportSQLiteDatabase db) {
+            TimingDatabase current = wrapped;
+            if (current == null || current.delegate != db) {
+                current = new TimingDatabase(db, stats);
+                wrapped = current;
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private static final class TimingDatabase implements SupportSQLiteDatabase {
+        private final SupportSQLiteDatabase delegate;
+        private final QueryStats stats;
+
+        TimingDatabase(SupportSQLiteDatabase delegate, QueryStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+        }
+
+        private Cursor timed(String sql, int binds, Cursor cursor, long started) {
+            int rows = cursor.getCount();
+            stats.record(sql, binds, System.nanoTime() - started, rows);
+            return cursor;
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String sql) {
+            if (!stats.isEnabled()) {
+                return delegate.query(sql);
+            }
+            long started = System.nanoTime();
+            return timed(sql, 0, delegate.query(sql), started);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String sql, @NonNull Object[] bindArgs) {
+            if (!stats.isEnabled()) {
+                return delegate.query(sql, bindArgs);
+            }
+            long started = System.nanoTime();
+            return timed(sql, bindArgs.length, delegate.query(sql, bindArgs), started);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query) {
+            if (!stats.isEnabled()) {
+                return delegate.query(query);
+            }
+            long started = System.nanoTime();
+            return timed(query.getSql(), query.getArgCount(), delegate.query(query), started);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query, @Nullable CancellationSignal cancellationSignal) {
+            if (!stats.isEnabled()) {
+                return delegate.query(query, cancellationSignal);
+            }
+            long started = System.nanoTime();
+            return timed(query.getSql(), query.getArgCount(), delegate.query(query, cancellationSignal), started);
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql) throws SQLException {
+            if (!stats.isEnabled()) {
+                delegate.execSQL(sql);
+                return;
+            }
+            long started = System.nanoTime();
+            delegate.execSQL(sql);
+            stats.record(sql, 0, System.nanoTime() - started, 0);
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql, @NonNull Object[] bindArgs) throws SQLException {
+            if (!stats.isEnabled()) {
+                delegate.execSQL(sql, bindArgs);
+                return;
+            }
+            long started = System.nanoTime();
+            delegate.execSQL(sql, bindArgs);
+            stats.record(sql, bindArgs.length, System.nanoTime() - started, 0);
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteStatement compileStatement(@NonNull String sql) {
+            return new TimingStatement(delegate.compileStatement(sql), sql, stats);
+        }
+
+        @Override
+        public long insert(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values)
+                throws SQLException {
+            if (!stats.isEnabled()) {
+                return delegate.insert(table, conflictAlgorithm, values);
+            }
+            long started = System.nanoTime();
+            long rowId = delegate.insert(table, conflictAlgorithm, values);
+            stats.record("INSERT INTO " + table, values.size(), System.nanoTime() - started, rowId == -1 ? 0 : 1);
+            return rowId;
+        }
+
+        @Override
+        public int delete(@NonNull String table, @Nullable String whereClause, @Nullable Object[] whereArgs) {
+            if (!stats.isEnabled()) {
+                return delegate.delete(table, whereClause, whereArgs);
+            }
+            long started = System.nanoTime();
+            int rows = delegate.delete(table, whereClause, whereArgs);
+            stats.record("DELETE FROM " + table + (whereClause == null ? "" : " WHERE " + whereClause),
+                    whereArgs == null ? 0 : whereArgs.length, System.nanoTime() - started, rows);
+            return rows;
+        }
+
+        @Override
+        public int update(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values,
+                          @Nullable String whereClause, @Nullable Object[] whereArgs) {
+            if (!stats.isEnabled()) {
+                return delegate.update(table, conflictAlgorithm, values, whereClause, whereArgs);
+            }
+            long started = System.nanoTime();
+            int rows = delegate.update(table, conflictAlgorithm, values, whereClause, whereArgs);
+            stats.record("UPDATE " + table + (whereClause == null ? "" : " WHERE " + whereClause),
+                    values.size() + (whereArgs == null ? 0 : whereArgs.length), System.nanoTime() - started, rows);
+            return rows;
+        }
+
+        // 이하 위임만 한다
+
+        @Override
+        public void beginTransaction() {
+            delegate.beginTransaction();
+        }
+
+        @Override
+        public void beginTransactionNonExclusive() {
+            delegate.beginTransactionNonExclusive();
+        }
+
+        @Override
+        public void beginTransactionWithListener(@NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListener(transactionListener);
+        }
+
+        @Override
+        public void beginTransactionWithListenerNonExclusive(@NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListenerNonExclusive(transactionListener);
+        }
+
+        @Override
+        public void endTransaction() {
+            delegate.endTransaction();
+        }
+
+        @Override
+        public void setTransactionSuccessful() {
+            delegate.setTransactionSuccessful();
+        }
+
+        @Override
+        public boolean inTransaction() {
+            return delegate.inTransaction();
+        }
+
+        @Override
+        public boolean isDbLockedByCurrentThread() {
+            return delegate.isDbLockedByCurrentThread();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely() {
+            return delegate.yieldIfContendedSafely();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely(long sleepAfterYieldDelayMillis) {
+            return delegate.yieldIfContendedSafely(sleepAfterYieldDelayMillis);
+        }
+
+        @Override
+        public boolean isExecPerConnectionSQLSupported() {
+            return delegate.isExecPerConnectionSQLSupported();
+        }
+
+        @Override
+        public void execPerConnectionSQL(@NonNull String sql, @Nullable Object[] bindArgs) {
+            delegate.execPerConnectionSQL(sql, bindArgs);
+        }
+
+        @Override
+        public int getVersion() {
+            return delegate.getVersion();
+        }
+
+        @Override
+        public void setVersion(int version) {
+            delegate.setVersion(version);
+        }
+
+        @Override
+        public long getMaximumSize() {
+            return delegate.getMaximumSize();
+        }
+
+        @Override
+        public long setMaximumSize(long numBytes) {
+            return delegate.setMaximumSize(numBytes);
+        }
+
+        @Override
+        public long getPageSize() {
+            return delegate.getPageSize();
+        }
+
+        @Override
+        public void setPageSize(long numBytes) {
+            delegate.setPageSize(numBytes);
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return delegate.isReadOnly();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean needUpgrade(int newVersion) {
+            return delegate.needUpgrade(newVersion);
+        }
+
+        @Nullable
+        @Override
+        public String getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public void setLocale(@NonNull Locale locale) {
+            delegate.setLocale(locale);
+        }
+
+        @Override
+        public void setMaxSqlCacheSize(int cacheSize) {
+            delegate.setMaxSqlCacheSize(cacheSize);
+        }
+
+        @Override
+        public void setForeignKeyConstraintsEnabled(boolean enabled) {
+            delegate.setForeignKeyConstraintsEnabled(enabled);
+        }
+
+        @Override
+        public boolean enableWriteAheadLogging() {
+            return delegate.enableWriteAheadLogging();
+        }
+
+        @Override
+        public void disableWriteAheadLogging() {
+            delegate.disableWriteAheadLogging();
+        }
+
+        @Override
+        public boolean isWriteAheadLoggingEnabled() {
+            return delegate.isWriteAheadLoggingEnabled();
+        }
+
+        @Nullable
+        @Override
+        public List<Pair<String, String>> getAttachedDbs() {
+            return delegate.getAttachedDbs();
+        }
+
+        @Override
+        public boolean isDatabaseIntegrityOk() {
+            return delegate.isDatabaseIntegrityOk();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * 컴파일된 문장 (Room 의 insert/update/delete 와 @Query 쓰기)
+     * 바인딩 수는 마지막 clearBindings 이후 바인딩한 가장 큰 인덱스로 센다.
+     */
+    private static final class TimingStatement implements SupportSQLiteStatement {
+        private final SupportSQLiteStatement delegate;
+        private final String sql;
+        private final QueryStats stats;
+        private int binds;
+
+        TimingStatement(SupportSQLiteStatement delegate, String sql, QueryStats stats) {
+            this.delegate = delegate;
+            this.sql = sql;
+            this.stats = stats;
+        }
+
+        @Override
+        public void execute() {
+            if (!stats.isEnabled()) {
+                delegate.execute();
+                return;
+            }
+            long started = System.nanoTime();
+            delegate.execute();
+            stats.record(sql, binds, System.nanoTime() - started, 0);
+        }
+
+        @Override
+        public int executeUpdateDelete() {
+            if (!stats.isEnabled()) {
+                return delegate.executeUpdateDelete();
+            }
+            long started = System.nanoTime();
+            int rows = delegate.executeUpdateDelete();
+            stats.record(sql, binds, System.nanoTime() - started, rows);
+            return rows;
+        }
+
+        @Override
+        public long executeInsert() {
+            if (!stats.isEnabled()) {
+                return delegate.executeInsert();
+            }
+            long started = System.nanoTime();
+            long rowId = delegate.executeInsert();
+            stats.record(sql, binds, System.nanoTime() - started, rowId == -1 ? 0 : 1);
+            return rowId;
+        }
+
+        @Override
+        public long simpleQueryForLong() {
+            if (!stats.isEnabled()) {
+                return delegate.simpleQueryForLong();
+            }
+            long started = System.nanoTime();
+            long value = delegate.simpleQueryForLong();
+            stats.record(sql, binds, System.nanoTime() - started, 1);
+            return value;
+        }
+
+        @Nullable
+        @Override
+        public String simpleQueryForString() {
+            if (!stats.isEnabled()) {
+                return delegate.simpleQueryForString();
+            }
+            long started = System.nanoTime();
+            String value = delegate.simpleQueryForString();
+            stats.record(sql, binds, System.nanoTime() - started, 1);
+            return value;
+        }
+
+        @Override
+        public void bindNull(int index) {
+            binds = Math.max(binds, index);
+            delegate.bindNull(index);
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            binds = Math.max(binds, index);
+            delegate.bindLong(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            binds = Math.max(binds, index);
+            delegate.bindDouble(index, value);
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            binds = Math.max(binds, index);
+            delegate.bindString(index, value);
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            binds = Math.max(binds, index);
+            delegate.bindBlob(index, value);
+        }
+
+        @Override
+        public void clearBindings() {
+            binds = 0;
+            delegate.clearBindings();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
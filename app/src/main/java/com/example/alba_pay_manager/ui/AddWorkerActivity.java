@@ -13,8 +13,10 @@ import androidx.appcompat.widget.Toolbar;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
-import com.example.alba_pay_manager.data.MinimumWageDao;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.example.alba_pay_manager.util.ValidationUtils;
 import com.example.alba_pay_manager.util.WageUtils;
 import com.google.android.material.textfield.TextInputEditText;
@@ -39,7 +41,6 @@ public class AddWorkerActivity extends AppCompatActivity {
     
     private AuthManager authManager;
     private ExecutorService executorService;
-    private MinimumWageDao minimumWageDao;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -53,9 +54,8 @@ public class AddWorkerActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("알바생 추가");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("AddWorker", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
-        minimumWageDao = AppDatabase.getInstance(this).minimumWageDao();
 
         // 관리자 권한 확인
         if (!authManager.isOwner()) {
@@ -122,16 +122,12 @@ public class AddWorkerActivity extends AppCompatActivity {
             int wage = Integer.parseInt(input);
             int currentYear = java.time.Year.now().getValue();
             
-            executorService.execute(() -> {
-                int minWage = WageUtils.getMinimumWage(currentYear, minimumWageDao);
-                String errorMessage = ValidationUtils.validateHourlyWage(wage, minWage);
-                
-                if (!errorMessage.isEmpty()) {
-                    runOnUiThread(() -> {
-                        hourlyWageLayout.setError(errorMessage);
-                    });
-                }
-            });
+            // 최저시급은 메모리 스냅샷에서 읽으므로 바로 검증한다
+            int minWage = WageUtils.getMinimumWage(currentYear);
+            String errorMessage = ValidationUtils.validateHourlyWage(wage, minWage);
+            if (!errorMessage.isEmpty()) {
+                hourlyWageLayout.setError(errorMessage);
+            }
         } catch (NumberFormatException e) {
             hourlyWageLayout.setError("올바른 시급을 입력해주세요.");
         }
@@ -199,7 +195,7 @@ public class AddWorkerActivity extends AppCompatActivity {
 
             // 최저시급 검증
             int currentYear = java.time.Year.now().getValue();
-            int minWage = WageUtils.getMinimumWage(currentYear, minimumWageDao);
+            int minWage = WageUtils.getMinimumWage(currentYear);
             String errorMessage = ValidationUtils.validateHourlyWage(hourlyWage, minWage);
             if (!errorMessage.isEmpty()) {
                 hourlyWageLayout.setError(errorMessage);
@@ -226,7 +222,9 @@ public class AddWorkerActivity extends AppCompatActivity {
 
                 // 알바생 추가
                 Employee newWorker = new Employee(username, password, name, hourlyWage, "WORKER");
-                long workerId = AppDatabase.getInstance(this).employeeDao().insert(newWorker);
+                long workerId = TraceSections.trace("AddWorker.employeeDao.insert",
+                        () -> AppDatabase.getInstance(this).employeeDao().insert(newWorker));
+                PayrollResultCache.dataChanged();
 
                 if (workerId > 0) {
                     runOnUiThread(() -> {
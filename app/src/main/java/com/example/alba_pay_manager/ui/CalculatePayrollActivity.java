@@ -18,8 +18,15 @@ import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+import com.example.alba_pay_manager.payroll.WeekKey;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayRuleSettings;
 import com.example.alba_pay_manager.util.PayrollCalculator;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.google.android.material.textfield.TextInputEditText;
 
 import java.text.NumberFormat;
@@ -30,6 +37,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
@@ -80,7 +88,7 @@ public class CalculatePayrollActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("급여 계산");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("CalculatePayroll", Executors.newSingleThreadExecutor());
         dateFormat = new SimpleDateFormat("yyyy년 MM월 dd일", Locale.KOREA);
         currencyFormat = NumberFormat.getCurrencyInstance(Locale.KOREA);
         authManager = new AuthManager(this);
@@ -140,11 +148,13 @@ public class CalculatePayrollActivity extends AppCompatActivity {
         executorService.execute(() -> {
             try {
                 if (authManager.isOwner()) {
-                    workers = AppDatabase.getInstance(this).employeeDao().getAllWorkers();
+                    workers = TraceSections.trace("CalculatePayroll.employeeDao.getAllWorkers",
+                            () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
                 } else {
                     // 파트타이머는 본인만
                     long myId = authManager.getCurrentUser().getId();
-                    Employee me = AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId);
+                    Employee me = TraceSections.trace("CalculatePayroll.employeeDao.getEmployeeById",
+                            () -> AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId));
                     workers = new java.util.ArrayList<>();
                     if (me != null) workers.add(me);
                 }
@@ -248,22 +258,54 @@ public class CalculatePayrollActivity extends AppCompatActivity {
                     .atZone(ZoneId.systemDefault())
                     .toLocalDateTime();
 
-                List<Shift> shifts = AppDatabase.getInstance(this).shiftDao()
-                        .getShiftsByEmployeeAndDateRange(
-                            selectedEmployee.getId(),
-                            startDateTime,
-                            endDateTime
-                        );
+                long payFromDay = startDateTime.toLocalDate().toEpochDay();
+                long payToDay = endDateTime.toLocalDate().toEpochDay() + 1;
+                AppDatabase database = AppDatabase.getInstance(this);
+                // 매장 수당 규칙을 자동 적용
+                PayRuleSet rules = PayRuleSettings.load(this);
+
+                // 같은 기간을 다시 계산하면 데이터가 바뀌지 않은 한 저장된 결과를 쓴다
+                PayrollResultCache cache = PayrollResultCache.get();
+                long version = cache.getVersion();
+                PayrollCalculator.PayrollResult cached = cache.get(
+                        selectedEmployee.getId(), payFromDay, payToDay, rules,
+                        PayrollResultCache.PATH_SHIFTS, version);
+                final PayrollCalculator.PayrollResult result;
+                if (cached != null) {
+                    result = cached;
+                } else {
+                    // 주휴수당 판정을 위해 시작일이 속한 주 월요일부터의 근무를 함께 읽는다
+                    LocalDateTime weekStart = LocalDate.ofEpochDay(WeekKey.mondayOf(payFromDay)).atStartOfDay();
+                    // 종료일 자정을 넘겨 끝나는 근무도 빠지지 않게 겹침 조건으로 읽는다
+                    LocalDateTime rangeEnd = LocalDate.ofEpochDay(payToDay).atStartOfDay();
+                    List<Shift> shifts = TraceSections.trace("CalculatePayroll.shiftDao.getShiftsOverlappingByEmployee",
+                            () -> database.shiftDao().getShiftsOverlappingByEmployee(
+                                    selectedEmployee.getId(), weekStart, rangeEnd));
+                    boolean hasShiftsInRange = false;
+                    for (Shift shift : shifts) {
+                        if (shift.getEndTime().isAfter(startDateTime)) {
+                            hasShiftsInRange = true;
+                            break;
+                        }
+                    }
 
-                // 모든 수당을 자동 적용
-                PayrollCalculator.PayrollResult result = PayrollCalculator.calculatePayroll(
-                    selectedEmployee,
-                    shifts,
-                    true, // nightAllowance
-                    true, // overtimeAllowance
-                    true, // holidayAllowance
-                    true  // weeklyAllowance
-                );
+                    if (hasShiftsInRange) {
+                        // 시급 이력대로 날짜별 시급을 적용 (연도가 바뀌면 그 날부터 새 최저시급이 하한)
+                        WageSchedule wages = new PayrollCalculator(database)
+                                .getWageSchedule(selectedEmployee, payFromDay, payToDay);
+                        result = PayrollCalculator.calculatePayroll(
+                            wages,
+                            shifts,
+                            payFromDay, payToDay,
+                            rules
+                        );
+                    } else {
+                        result = PayrollResultCache.EMPTY;
+                    }
+                    cache.put(selectedEmployee.getId(), payFromDay, payToDay, rules,
+                            PayrollResultCache.PATH_SHIFTS, version, result);
+                }
+                final boolean isEmpty = result == PayrollResultCache.EMPTY;
 
                 runOnUiThread(() -> {
                     // 체크박스 UI 동기화 및 비활성화
@@ -276,7 +318,7 @@ public class CalculatePayrollActivity extends AppCompatActivity {
                     weeklyAllowanceCheckBox.setChecked(result.getWeeklyAllowanceHours() > 0);
                     weeklyAllowanceCheckBox.setEnabled(false);
 
-                    if (shifts.isEmpty()) {
+                    if (isEmpty) {
                         emptyView.setVisibility(View.VISIBLE);
                         totalHoursTextView.setVisibility(View.GONE);
                         hourlyWageTextView.setVisibility(View.GONE);
@@ -19,6 +19,8 @@ import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.google.android.material.textfield.MaterialAutoCompleteTextView;
 
 import java.time.DayOfWeek;
@@ -60,7 +62,7 @@ public class CalendarViewActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("근무 일정 캘린더");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("CalendarView", Executors.newSingleThreadExecutor());
         selectedDateMillis = System.currentTimeMillis();
 
         initializeViews();
@@ -83,7 +85,8 @@ public class CalendarViewActivity extends AppCompatActivity {
     private void loadWorkers() {
         executorService.execute(() -> {
             try {
-                workers = AppDatabase.getInstance(this).employeeDao().getAllWorkers();
+                workers = TraceSections.trace("CalendarView.employeeDao.getAllWorkers",
+                        () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
                 List<String> workerNames = new ArrayList<>();
                 workerNames.add("전체");  // "전체" 옵션 추가
                 for (Employee worker : workers) {
@@ -137,34 +140,28 @@ public class CalendarViewActivity extends AppCompatActivity {
                 cal.set(java.util.Calendar.SECOND, 0);
                 cal.set(java.util.Calendar.MILLISECOND, 0);
                 long startMillis = cal.getTimeInMillis();
-                cal.add(java.util.Calendar.DATE, 1);
-                long endMillis = cal.getTimeInMillis();
 
                 LocalDateTime startDateTime = LocalDateTime.ofInstant(java.time.Instant.ofEpochMilli(startMillis), ZoneId.systemDefault());
-                LocalDateTime endDateTime = LocalDateTime.ofInstant(java.time.Instant.ofEpochMilli(endMillis), ZoneId.systemDefault());
+                long selectedDay = startDateTime.toLocalDate().toEpochDay();
 
+                // 근무 구간은 날짜별로 잘려 있으므로 전날 시작해 자정을 넘긴 근무도 이 날짜로 찾는다
                 List<Shift> shifts;
                 if (new com.example.alba_pay_manager.util.AuthManager(this).isOwner()) {
                     if (selectedEmployee != null) {
-                        shifts = AppDatabase.getInstance(this).shiftDao()
-                                .getShiftsByEmployeeAndDateRange(
-                                    selectedEmployee.getId(),
-                                    startDateTime,
-                                    endDateTime
-                                );
+                        long employeeId = selectedEmployee.getId();
+                        shifts = TraceSections.trace("CalendarView.shiftSegmentDao.getShiftsByEmployeeOnDay",
+                                () -> AppDatabase.getInstance(this).shiftSegmentDao()
+                                        .getShiftsByEmployeeOnDay(employeeId, selectedDay));
                     } else {
-                        shifts = AppDatabase.getInstance(this).shiftDao()
-                                .getShiftsByDateRange(startDateTime, endDateTime);
+                        shifts = TraceSections.trace("CalendarView.shiftSegmentDao.getShiftsOnDay",
+                                () -> AppDatabase.getInstance(this).shiftSegmentDao().getShiftsOnDay(selectedDay));
                     }
                 } else {
                     // 파트타이머는 본인 데이터만
                     long myId = new com.example.alba_pay_manager.util.AuthManager(this).getCurrentUser().getId();
-                    shifts = AppDatabase.getInstance(this).shiftDao()
-                            .getShiftsByEmployeeAndDateRange(
-                                    myId,
-                                    startDateTime,
-                                    endDateTime
-                            );
+                    shifts = TraceSections.trace("CalendarView.shiftSegmentDao.getShiftsByEmployeeOnDay",
+                            () -> AppDatabase.getInstance(this).shiftSegmentDao()
+                                    .getShiftsByEmployeeOnDay(myId, selectedDay));
                 }
 
                 runOnUiThread(() -> {
@@ -193,6 +190,12 @@ public class CalendarViewActivity extends AppCompatActivity {
                                 DateTimeFormatter.ofPattern("HH:mm", Locale.KOREA));
                             String endTime = shift.getEndTime().format(
                                 DateTimeFormatter.ofPattern("HH:mm", Locale.KOREA));
+                            if (shift.getStartTime().toLocalDate().isBefore(selectedDate)) {
+                                startTime = "전날 " + startTime;
+                            }
+                            if (shift.getEndTime().toLocalDate().isAfter(selectedDate)) {
+                                endTime = "다음날 " + endTime;
+                            }
                             shiftStrings.add(String.format("%s: %s ~ %s", employeeName, startTime, endTime));
                         }
 
@@ -0,0 +1,164 @@
+package com.example.alba_pay_manager.ui;
+
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.widget.Toolbar;
+
+import com.example.alba_pay_manager.R;
+import com.example.alba_pay_manager.data.QueryStats;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
+import com.google.android.material.switchmaterial.SwitchMaterial;
+
+import org.json.JSONException;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 진단 화면 (관리자용)
+ *
+ * 앱 지표({@link Metrics}) 스냅샷과, 앱 DB 에서 실행된 SQL 의 문장별 횟수, 행 수, 지연시간 백분위를
+ * 총 시간이 긴 순서로 보여 준다. 지표는 JSON, 쿼리 통계는 CSV 로 앱 저장소(Android/data/.../files)에 저장해
+ * 매장 기기에서 느린 화면과 DAO 를 찾는 데 쓴다. 추적 구간({@link TraceSections})도 여기서 켠다.
+ */
+public class DebugStatsActivity extends AppCompatActivity {
+    private static final String TAG = "DebugStatsActivity";
+
+    private TextView statsTextView;
+    private SwitchMaterial recordSwitch;
+    private SwitchMaterial metricsSwitch;
+    private SwitchMaterial traceSwitch;
+    private ExecutorService executorService;
+    private QueryStats queryStats;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_debug_stats);
+
+        // 툴바 설정
+        Toolbar toolbar = findViewById(R.id.toolbar);
+        setSupportActionBar(toolbar);
+        getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+        getSupportActionBar().setTitle("진단 정보");
+
+        // 초기화
+        executorService = Executors.newSingleThreadExecutor();
+        queryStats = QueryStats.get();
+
+        statsTextView = findViewById(R.id.statsTextView);
+        recordSwitch = findViewById(R.id.recordSwitch);
+        metricsSwitch = findViewById(R.id.metricsSwitch);
+        traceSwitch = findViewById(R.id.traceSwitch);
+        setupListeners();
+
+        loadStats();
+    }
+
+    private void setupListeners() {
+        recordSwitch.setChecked(queryStats.isEnabled());
+        recordSwitch.setOnCheckedChangeListener((button, checked) -> queryStats.setEnabled(checked));
+
+        Metrics.init(this);
+        metricsSwitch.setChecked(Metrics.isEnabled());
+        metricsSwitch.setOnCheckedChangeListener((button, checked) -> Metrics.setEnabled(this, checked));
+
+        TraceSections.init(this);
+        traceSwitch.setChecked(TraceSections.isEnabled());
+        traceSwitch.setOnCheckedChangeListener((button, checked) -> TraceSections.setEnabled(this, checked));
+
+        findViewById(R.id.refreshButton).setOnClickListener(v -> loadStats());
+
+        findViewById(R.id.resetButton).setOnClickListener(v -> {
+            queryStats.reset();
+            Metrics.reset();
+            loadStats();
+        });
+
+        findViewById(R.id.dumpButton).setOnClickListener(v -> dumpStats());
+
+        findViewById(R.id.exportMetricsButton).setOnClickListener(v -> exportMetrics());
+    }
+
+    private void loadStats() {
+        executorService.execute(() -> {
+            StringBuilder text = new StringBuilder("── 지표 ──\n");
+            try {
+                text.append(Metrics.snapshot().toString(2));
+            } catch (JSONException e) {
+                Log.e(TAG, "지표 스냅샷 생성 실패", e);
+            }
+            text.append("\n\n── 쿼리 ──\n");
+            List<QueryStats.Statement> statements = queryStats.snapshot();
+            if (statements.isEmpty()) {
+                text.append("기록된 쿼리가 없습니다.");
+            }
+            for (QueryStats.Statement statement : statements) {
+                text.append(statement).append("\n\n");
+            }
+            runOnUiThread(() -> statsTextView.setText(text));
+        });
+    }
+
+    private void dumpStats() {
+        executorService.execute(() -> {
+            File dir = getExternalFilesDir(null);
+            if (dir == null) {
+                dir = getFilesDir(); // 외부 저장소를 쓸 수 없으면 내부 저장소
+            }
+            String stamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.ROOT).format(new Date());
+            File csv = new File(dir, "query_stats_" + stamp + ".csv");
+            try {
+                int count = queryStats.dump(csv);
+                Log.i(TAG, "쿼리 통계 " + count + "건을 " + csv + " 에 저장했습니다.");
+                runOnUiThread(() -> Toast.makeText(this, csv.getAbsolutePath() + " 에 저장했습니다.",
+                        Toast.LENGTH_LONG).show());
+            } catch (IOException e) {
+                Log.e(TAG, "쿼리 통계 저장 실패", e);
+                runOnUiThread(() -> Toast.makeText(this, "쿼리 통계를 저장하지 못했습니다.",
+                        Toast.LENGTH_SHORT).show());
+            }
+        });
+    }
+
+    private void exportMetrics() {
+        executorService.execute(() -> {
+            try {
+                File file = Metrics.writeSnapshot(this);
+                Log.i(TAG, "지표 스냅샷을 " + file + " 에 저장했습니다.");
+                runOnUiThread(() -> Toast.makeText(this, file.getAbsolutePath() + " 에 저장했습니다.",
+                        Toast.LENGTH_LONG).show());
+            } catch (IOException e) {
+                Log.e(TAG, "지표 스냅샷 저장 실패", e);
+                runOnUiThread(() -> Toast.makeText(this, "지표 스냅샷을 저장하지 못했습니다.",
+                        Toast.LENGTH_SHORT).show());
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    @Override
+    public boolean onSupportNavigateUp() {
+        onBackPressed();
+        return true;
+    }
+}
@@ -14,8 +14,10 @@ import androidx.appcompat.widget.Toolbar;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
-import com.example.alba_pay_manager.data.MinimumWageDao;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.example.alba_pay_manager.util.ValidationUtils;
 import com.example.alba_pay_manager.util.WageUtils;
 import com.google.android.material.textfield.TextInputEditText;
@@ -42,7 +44,6 @@ public class EditWorkerActivity extends AppCompatActivity {
     private AuthManager authManager;
     private ExecutorService executorService;
     private Employee worker;
-    private MinimumWageDao minimumWageDao;
 
     public static Intent newIntent(android.content.Context context, long workerId) {
         Intent intent = new Intent(context, EditWorkerActivity.class);
@@ -62,9 +63,8 @@ public class EditWorkerActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("알바생 정보 수정");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("EditWorker", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
-        minimumWageDao = AppDatabase.getInstance(this).minimumWageDao();
 
         // 관리자 권한 확인
         if (!authManager.isOwner()) {
@@ -102,7 +102,8 @@ public class EditWorkerActivity extends AppCompatActivity {
     private void loadWorkerData(long workerId) {
         executorService.execute(() -> {
             try {
-                worker = AppDatabase.getInstance(this).employeeDao().getEmployeeById(workerId);
+                worker = TraceSections.trace("EditWorker.employeeDao.getEmployeeById",
+                        () -> AppDatabase.getInstance(this).employeeDao().getEmployeeById(workerId));
                 if (worker == null) {
                     runOnUiThread(() -> {
                         Toast.makeText(this, "알바생 정보를 찾을 수 없습니다.", Toast.LENGTH_SHORT).show();
@@ -161,16 +162,12 @@ public class EditWorkerActivity extends AppCompatActivity {
             int wage = Integer.parseInt(input);
             int currentYear = java.time.Year.now().getValue();
             
-            executorService.execute(() -> {
-                int minWage = WageUtils.getMinimumWage(currentYear, minimumWageDao);
-                String errorMessage = ValidationUtils.validateHourlyWage(wage, minWage);
-                
-                if (!errorMessage.isEmpty()) {
-                    runOnUiThread(() -> {
-                        hourlyWageLayout.setError(errorMessage);
-                    });
-                }
-            });
+            // 최저시급은 메모리 스냅샷에서 읽으므로 바로 검증한다
+            int minWage = WageUtils.getMinimumWage(currentYear);
+            String errorMessage = ValidationUtils.validateHourlyWage(wage, minWage);
+            if (!errorMessage.isEmpty()) {
+                hourlyWageLayout.setError(errorMessage);
+            }
         } catch (NumberFormatException e) {
             hourlyWageLayout.setError("올바른 시급을 입력해주세요.");
         }
@@ -218,7 +215,7 @@ public class EditWorkerActivity extends AppCompatActivity {
 
             // 최저시급 검증
             int currentYear = java.time.Year.now().getValue();
-            int minWage = WageUtils.getMinimumWage(currentYear, minimumWageDao);
+            int minWage = WageUtils.getMinimumWage(currentYear);
             String errorMessage = ValidationUtils.validateHourlyWage(hourlyWage, minWage);
             if (!errorMessage.isEmpty()) {
                 hourlyWageLayout.setError(errorMessage);
@@ -241,7 +238,9 @@ public class EditWorkerActivity extends AppCompatActivity {
                 worker.setName(name);
                 worker.setHourlyWage(hourlyWage);
 
-                AppDatabase.getInstance(this).employeeDao().update(worker);
+                TraceSections.trace("EditWorker.employeeDao.update",
+                        () -> AppDatabase.getInstance(this).employeeDao().update(worker));
+                PayrollResultCache.dataChanged();
 
                 runOnUiThread(() -> {
                     Toast.makeText(this, "알바생 정보가 수정되었습니다.", Toast.LENGTH_SHORT).show();
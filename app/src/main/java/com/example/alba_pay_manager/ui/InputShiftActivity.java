@@ -9,6 +9,7 @@ import android.view.View;
 import android.widget.ArrayAdapter;
 import android.widget.AutoCompleteTextView;
 import android.widget.Button;
+import android.widget.CheckBox;
 import android.widget.TextView;
 import android.widget.Toast;
 
@@ -19,11 +20,17 @@ import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.data.ShiftBatchResult;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
+import com.example.alba_pay_manager.util.ValidationUtils;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -36,6 +43,7 @@ import java.time.ZoneId;
 
 public class InputShiftActivity extends AppCompatActivity {
     private static final String TAG = "InputShiftActivity";
+    private static final int REPEAT_DAYS = 7;
 
     private TextInputLayout employeeLayout;
     private TextInputLayout dateLayout;
@@ -47,6 +55,7 @@ public class InputShiftActivity extends AppCompatActivity {
     private TextInputEditText endTimeEditText;
     private TextView totalHoursTextView;
     private TextView errorTextView;
+    private CheckBox repeatWeekCheckBox;
     private Button saveButton;
 
     private AuthManager authManager;
@@ -72,7 +81,7 @@ public class InputShiftActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("근무 일정 입력");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("InputShift", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
         dateFormat = new SimpleDateFormat("yyyy년 MM월 dd일", Locale.KOREA);
         timeFormat = new SimpleDateFormat("HH:mm", Locale.KOREA);
@@ -102,6 +111,7 @@ public class InputShiftActivity extends AppCompatActivity {
         endTimeEditText = findViewById(R.id.endTimeEditText);
         totalHoursTextView = findViewById(R.id.totalHoursTextView);
         errorTextView = findViewById(R.id.errorTextView);
+        repeatWeekCheckBox = findViewById(R.id.repeatWeekCheckBox);
         saveButton = findViewById(R.id.saveButton);
 
         // 파트타이머라면 알바생 선택 드롭다운 숨김
@@ -140,11 +150,13 @@ public class InputShiftActivity extends AppCompatActivity {
         executorService.execute(() -> {
             try {
                 if (authManager.isOwner()) {
-                    workers = AppDatabase.getInstance(this).employeeDao().getAllWorkers();
+                    workers = TraceSections.trace("InputShift.employeeDao.getAllWorkers",
+                            () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
                 } else {
                     // 파트타이머는 본인만
                     long myId = authManager.getCurrentUser().getId();
-                    Employee me = AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId);
+                    Employee me = TraceSections.trace("InputShift.employeeDao.getEmployeeById",
+                            () -> AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId));
                     workers = new java.util.ArrayList<>();
                     if (me != null) workers.add(me);
                 }
@@ -258,8 +270,8 @@ public class InputShiftActivity extends AppCompatActivity {
             return;
         }
 
-        if (startTime.after(endTime)) {
-            startTimeLayout.setError("시작 시간이 종료 시간보다 늦을 수 없습니다.");
+        if (!startTime.before(endTime)) {
+            startTimeLayout.setError("시작 시간은 종료 시간보다 이전이어야 합니다.");
             saveButton.setEnabled(true);
             return;
         }
@@ -272,7 +284,9 @@ public class InputShiftActivity extends AppCompatActivity {
             return;
         }
 
-        // 근무 일정 저장 (비동기 처리)
+        int days = repeatWeekCheckBox.isChecked() ? REPEAT_DAYS : 1;
+
+        // 근무 일정 저장 (비동기 처리, 여러 날은 한 트랜잭션으로 일괄 저장)
         executorService.execute(() -> {
             try {
                 // 시작 시간과 종료 시간을 Date 객체로 변환
@@ -282,19 +296,46 @@ public class InputShiftActivity extends AppCompatActivity {
                 // Date를 LocalDateTime으로 변환하는 헬퍼 메서드
                 LocalDateTime startDateTime = toLocalDateTime(startDate);
                 LocalDateTime endDateTime = toLocalDateTime(endDate);
-                
-                // 근무 일정 생성
-                Shift shift = new Shift(selectedEmployee.getId(), startDateTime, endDateTime);
-                long shiftId = AppDatabase.getInstance(this).shiftDao().insert(shift);
 
-                if (shiftId > 0) {
+                // 근무 일정 생성과 행별 검증
+                // 첫날은 하루 뒤까지 끝나는 근무만 허용하고, 반복 입력한 날은 그 일수만큼 미래를 허용한다
+                LocalDateTime latestEnd = LocalDateTime.now().plusDays(days);
+                List<Shift> shifts = new ArrayList<>(days);
+                String[] errors = new String[days];
+                for (int day = 0; day < days; day++) {
+                    Shift shift = new Shift(selectedEmployee.getId(),
+                            startDateTime.plusDays(day), endDateTime.plusDays(day));
+                    shifts.add(shift);
+                    errors[day] = ValidationUtils.validateShift(shift, latestEnd);
+                }
+                ShiftBatchResult result = TraceSections.trace("InputShift.shiftDao.insertBatch",
+                        () -> AppDatabase.getInstance(this).shiftDao().insertBatch(shifts, errors));
+                PayrollResultCache.dataChanged();
+
+                if (result.getRejectedCount() == 0) {
                     runOnUiThread(() -> {
                         Toast.makeText(this, "근무 일정이 저장되었습니다.", Toast.LENGTH_SHORT).show();
                         setResult(RESULT_OK);
                         finish();
                     });
                 } else {
-                    throw new Exception("근무 일정 저장 실패");
+                    String firstError = "";
+                    for (int i = 0; i < result.size(); i++) {
+                        if (!result.isInserted(i)) {
+                            firstError = result.getError(i);
+                            break;
+                        }
+                    }
+                    String message = String.format(Locale.KOREA, "%d건 저장, %d건 실패: %s",
+                            result.getInsertedCount(), result.getRejectedCount(), firstError);
+                    runOnUiThread(() -> {
+                        if (result.getInsertedCount() > 0) {
+                            setResult(RESULT_OK);
+                        }
+                        errorTextView.setText(message);
+                        errorTextView.setVisibility(View.VISIBLE);
+                        saveButton.setEnabled(true);
+                    });
                 }
             } catch (Exception e) {
                 Log.e(TAG, "근무 일정 저장 중 오류 발생", e);
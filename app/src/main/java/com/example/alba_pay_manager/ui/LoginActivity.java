@@ -13,6 +13,8 @@ import androidx.appcompat.app.AppCompatActivity;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.util.AuthManager;
 import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.example.alba_pay_manager.util.ValidationUtils;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
@@ -38,7 +40,9 @@ public class LoginActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_login);
 
-        executorService = Executors.newSingleThreadExecutor();
+        Metrics.init(this);
+        TraceSections.init(this);
+        executorService = Metrics.instrument("Login", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
 
         // 이미 로그인되어 있다면 메인 화면으로 이동
@@ -18,6 +18,8 @@ import androidx.appcompat.widget.Toolbar;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
 
 public class MainActivity extends AppCompatActivity {
     private static final String TAG = "MainActivity";
@@ -43,6 +45,8 @@ public class MainActivity extends AppCompatActivity {
 
         // 초기화
         authManager = new AuthManager(this);
+        Metrics.init(this);
+        TraceSections.init(this);
 
         initializeViews();
         setupListeners();
@@ -88,6 +92,11 @@ public class MainActivity extends AppCompatActivity {
             startActivity(intent);
         });
 
+        findViewById(R.id.payRuleSettingsButton).setOnClickListener(v -> {
+            Intent intent = new Intent(this, PayRuleSettingsActivity.class);
+            startActivity(intent);
+        });
+
         findViewById(R.id.ownerCalendarViewButton).setOnClickListener(v -> {
             Intent intent = new Intent(this, CalendarViewActivity.class);
             startActivity(intent);
@@ -133,11 +142,19 @@ public class MainActivity extends AppCompatActivity {
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
         getMenuInflater().inflate(R.menu.main_menu, menu);
+        // 진단 화면은 관리자에게만 보인다
+        Employee currentUser = authManager.getCurrentUser();
+        menu.findItem(R.id.action_debug_stats).setVisible(
+                currentUser != null && currentUser.getRole().equals("OWNER"));
         return true;
     }
 
     @Override
     public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        if (item.getItemId() == R.id.action_debug_stats) {
+            startActivity(new Intent(this, DebugStatsActivity.class));
+            return true;
+        }
         if (item.getItemId() == R.id.action_logout) {
             authManager.logout();
             Intent intent = new Intent(this, LoginActivity.class);
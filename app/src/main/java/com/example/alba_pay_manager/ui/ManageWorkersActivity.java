@@ -18,6 +18,9 @@ import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.ui.adapter.WorkerAdapter;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
 import java.util.List;
@@ -47,7 +50,7 @@ public class ManageWorkersActivity extends AppCompatActivity implements WorkerAd
         getSupportActionBar().setTitle("알바생 관리");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("ManageWorkers", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
 
         // 관리자 권한 확인
@@ -83,9 +86,8 @@ public class ManageWorkersActivity extends AppCompatActivity implements WorkerAd
     private void loadWorkers() {
         executorService.execute(() -> {
             try {
-                List<Employee> workers = AppDatabase.getInstance(this)
-                        .employeeDao()
-                        .getAllWorkers();
+                List<Employee> workers = TraceSections.trace("ManageWorkers.employeeDao.getAllWorkers",
+                        () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
 
                 runOnUiThread(() -> {
                     adapter.setWorkers(workers);
@@ -124,7 +126,9 @@ public class ManageWorkersActivity extends AppCompatActivity implements WorkerAd
     private void deleteWorker(Employee worker) {
         executorService.execute(() -> {
             try {
-                AppDatabase.getInstance(this).employeeDao().deleteById(worker.getId());
+                TraceSections.trace("ManageWorkers.employeeDao.deleteById",
+                        () -> AppDatabase.getInstance(this).employeeDao().deleteById(worker.getId()));
+                PayrollResultCache.dataChanged();
                 runOnUiThread(() -> {
                     Toast.makeText(this, "알바생이 삭제되었습니다.", Toast.LENGTH_SHORT).show();
                     loadWorkers();
@@ -0,0 +1,175 @@
+package com.example.alba_pay_manager.ui;
+
+import android.os.Bundle;
+import android.text.InputType;
+import android.util.Log;
+import android.view.Gravity;
+import android.view.ViewGroup;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.widget.Toolbar;
+
+import com.example.alba_pay_manager.R;
+import com.example.alba_pay_manager.payroll.PayRule;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+import com.example.alba_pay_manager.util.PayRuleSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 매장 수당 규칙 설정 화면 (관리자용)
+ *
+ * 규칙 종류마다 적용 여부와 지급 배율(%)을 고른다. 저장하면 {@link PayRuleSettings#save} 가
+ * 저장된 월 급여를 모두 다시 계산 대상으로 표시하므로, 다음 조회부터 새 규칙으로 계산된다.
+ */
+public class PayRuleSettingsActivity extends AppCompatActivity {
+    private static final String TAG = "PayRuleSettingsActivity";
+
+    private final List<CheckBox> enabledBoxes = new ArrayList<>();
+    private final List<EditText> percentFields = new ArrayList<>();
+    private ExecutorService executorService;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_pay_rule_settings);
+
+        // 툴바 설정
+        Toolbar toolbar = findViewById(R.id.toolbar);
+        setSupportActionBar(toolbar);
+        getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+        getSupportActionBar().setTitle("수당 규칙 설정");
+
+        executorService = Executors.newSingleThreadExecutor();
+
+        addRuleRows(findViewById(R.id.ruleContainer), PayRuleSettings.load(this));
+        findViewById(R.id.resetButton).setOnClickListener(v -> showRules(PayRuleSet.DEFAULT));
+        findViewById(R.id.saveButton).setOnClickListener(v -> saveRules());
+    }
+
+    /**
+     * 규칙 종류마다 체크박스와 배율 입력 한 줄
+     */
+    private void addRuleRows(LinearLayout container, PayRuleSet rules) {
+        for (PayRule.Kind kind : PayRule.Kind.values()) {
+            LinearLayout row = new LinearLayout(this);
+            row.setOrientation(LinearLayout.HORIZONTAL);
+            row.setGravity(Gravity.CENTER_VERTICAL);
+
+            CheckBox enabled = new CheckBox(this);
+            enabled.setText(labelOf(kind));
+            row.addView(enabled, new LinearLayout.LayoutParams(0, ViewGroup.LayoutParams.WRAP_CONTENT, 1));
+
+            EditText percent = new EditText(this);
+            percent.setInputType(InputType.TYPE_CLASS_NUMBER);
+            percent.setEms(4);
+            percent.setGravity(Gravity.END);
+            row.addView(percent, new LinearLayout.LayoutParams(
+                    ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+            TextView unit = new TextView(this);
+            unit.setText("%");
+            row.addView(unit);
+
+            enabled.setOnCheckedChangeListener((button, checked) -> percent.setEnabled(checked));
+            enabledBoxes.add(enabled);
+            percentFields.add(percent);
+            container.addView(row);
+        }
+        showRules(rules);
+    }
+
+    private void showRules(PayRuleSet rules) {
+        PayRule.Kind[] kinds = PayRule.Kind.values();
+        for (int i = 0; i < kinds.length; i++) {
+            PayRule rule = rules.get(kinds[i]);
+            // 꺼진 규칙은 기본 배율을 보여 두고, 켜면 그대로 쓴다
+            PayRule shown = rule != null ? rule : PayRule.of(kinds[i]);
+            enabledBoxes.get(i).setChecked(rule != null);
+            percentFields.get(i).setText(String.valueOf(shown.getPercent()));
+            percentFields.get(i).setEnabled(rule != null);
+        }
+    }
+
+    private void saveRules() {
+        PayRule.Kind[] kinds = PayRule.Kind.values();
+        List<PayRule> rules = new ArrayList<>();
+        for (int i = 0; i < kinds.length; i++) {
+            if (!enabledBoxes.get(i).isChecked()) {
+                continue;
+            }
+            EditText field = percentFields.get(i);
+            int percent;
+            try {
+                percent = Integer.parseInt(field.getText().toString().trim());
+            } catch (NumberFormatException e) {
+                field.setError("배율을 숫자로 입력해주세요.");
+                return;
+            }
+            if (percent < 100) {
+                field.setError("배율은 100% 이상이어야 합니다.");
+                return;
+            }
+            rules.add(PayRule.of(kinds[i], percent));
+        }
+        PayRuleSet ruleSet = PayRuleSet.of(rules.toArray(new PayRule[0]));
+
+        executorService.execute(() -> {
+            try {
+                boolean changed = PayRuleSettings.save(this, ruleSet);
+                runOnUiThread(() -> {
+                    Toast.makeText(this, changed
+                            ? "수당 규칙을 저장했습니다. 급여는 새 규칙으로 다시 계산됩니다."
+                            : "변경된 규칙이 없습니다.", Toast.LENGTH_SHORT).show();
+                    finish();
+                });
+            } catch (Exception e) {
+                Log.e(TAG, "수당 규칙 저장 중 오류 발생", e);
+                runOnUiThread(() -> Toast.makeText(this, "수당 규칙을 저장하지 못했습니다.",
+                        Toast.LENGTH_SHORT).show());
+            }
+        });
+    }
+
+    private static String labelOf(PayRule.Kind kind) {
+        switch (kind) {
+            case NIGHT:
+                return "야간근로 (22:00~06:00)";
+            case HOLIDAY_OVERTIME:
+                return "휴일근로 8시간 초과분";
+            case HOLIDAY:
+                return "휴일근로";
+            case OVERTIME:
+                return "연장근로 (하루 8시간 초과)";
+            case WEEKLY_OVERTIME:
+                return "연장근로 (주 40시간 초과)";
+            case WEEKLY_ALLOWANCE:
+                return "주휴수당";
+            default:
+                return kind.name();
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    @Override
+    public boolean onSupportNavigateUp() {
+        onBackPressed();
+        return true;
+    }
+}
@@ -8,10 +8,25 @@ import android.os.Looper;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.util.DeductionTables;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 public class SplashActivity extends AppCompatActivity {
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        // DB 를 열어 최저시급 스냅샷을 읽어 두고, 간이세액표도 백그라운드에서 읽는다
+        // (다 읽기 전에는 근사 표 사용)
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(() -> {
+            AppDatabase.getInstance(getApplicationContext());
+            DeductionTables.loadWithholdingTable(getApplicationContext());
+        });
+        executorService.shutdown();
+
         // setContentView 호출 제거
         new Handler(Looper.getMainLooper()).postDelayed(() -> {
             Intent intent = new Intent(this, LoginActivity.class);
@@ -19,4 +34,4 @@ public class SplashActivity extends AppCompatActivity {
             finish();
         }, 1000); // 1초 후 이동
     }
-} 
\ No newline at end of file
+}
@@ -16,16 +16,26 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
-import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.data.Payroll;
+import com.example.alba_pay_manager.data.ShiftDailyRollup;
+import com.example.alba_pay_manager.data.ShiftTotals;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+import com.example.alba_pay_manager.payroll.WeekKey;
 import com.example.alba_pay_manager.ui.adapter.PayrollAdapter;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.DeductionTables;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.PayRuleSettings;
 import com.example.alba_pay_manager.util.PayrollCalculator;
+import com.example.alba_pay_manager.util.PayrollResultCache;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.google.android.material.textfield.TextInputEditText;
 
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -33,7 +43,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 
 public class ViewPayrollActivity extends AppCompatActivity {
@@ -66,7 +78,7 @@ public class ViewPayrollActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("급여 내역 조회");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("ViewPayroll", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
         dateFormat = new SimpleDateFormat("yyyy년 MM월 dd일", Locale.KOREA);
         currencyFormat = NumberFormat.getCurrencyInstance(Locale.KOREA);
@@ -87,6 +99,8 @@ public class ViewPayrollActivity extends AppCompatActivity {
         payrollRecyclerView = findViewById(R.id.payrollRecyclerView);
         emptyView = findViewById(R.id.emptyView);
         totalPayTextView = findViewById(R.id.totalPayTextView);
+        findViewById(R.id.deductionNoticeTextView).setVisibility(
+                DeductionTables.isEstimate() ? View.VISIBLE : View.GONE);
     }
 
     private void setupRecyclerView() {
@@ -168,34 +182,92 @@ public class ViewPayrollActivity extends AppCompatActivity {
 
                 List<Employee> workers;
                 if (authManager.isOwner()) {
-                    workers = AppDatabase.getInstance(this).employeeDao().getAllWorkers();
+                    workers = TraceSections.trace("ViewPayroll.employeeDao.getAllWorkers",
+                            () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
                 } else {
                     // 파트타이머는 본인만
                     long myId = authManager.getCurrentUser().getId();
-                    Employee me = AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId);
+                    Employee me = TraceSections.trace("ViewPayroll.employeeDao.getEmployeeById",
+                            () -> AppDatabase.getInstance(this).employeeDao().getEmployeeById(myId));
                     workers = new ArrayList<>();
                     if (me != null) workers.add(me);
                 }
 
-                // 각 알바생별 급여 계산
-                List<PayrollAdapter.PayrollItem> payrollItems = new ArrayList<>();
+                // 기간에 통째로 포함된 월은 저장된 월 급여를, 걸친 월은 일자별 집계로 계산해 합산
+                AppDatabase database = AppDatabase.getInstance(this);
+                PayrollCalculator calculator = new PayrollCalculator(database, PayRuleSettings.load(this));
+                LocalDate fromDate = startDateTime.toLocalDate();
+                LocalDate toDate = endDateTime.toLocalDate().plusDays(1);
+                Map<Long, PayrollCalculator.PayrollResult> results = new HashMap<>();
+
+                // 근무 시간은 알바생별 집계 한 번으로 읽고, 기간에 근무가 없는 알바생은 계산하지 않는다
+                Map<Long, ShiftTotals> totalsByEmployee = loadShiftTotals(
+                        fromDate.atStartOfDay(), toDate.atStartOfDay());
+                List<Employee> working = new ArrayList<>();
                 for (Employee employee : workers) {
-                    // 근무 일정 조회
-                    List<Shift> shifts = AppDatabase.getInstance(this).shiftDao()
-                            .getShiftsByEmployeeAndDateRange(
-                                    employee.getId(),
-                                    startDateTime,
-                                    endDateTime
-                            );
-
-                    if (!shifts.isEmpty()) {
-                        PayrollCalculator.PayrollResult result = PayrollCalculator.calculatePayroll(
-                            employee,
-                            shifts,
-                            true, true, true, true
-                        );
-                        double totalHours = result.getRegularHours() + result.getNightHours() +
-                                            result.getOvertimeHours() + result.getHolidayHours();
+                    if (totalsByEmployee.containsKey(employee.getId())) {
+                        working.add(employee);
+                    }
+                }
+
+                // 같은 기간을 다시 조회하면 데이터가 바뀌지 않은 한 저장된 결과를 쓰고, 없는 알바생만 계산한다
+                PayrollResultCache cache = PayrollResultCache.get();
+                long version = cache.getVersion();
+                long fromDay = fromDate.toEpochDay();
+                long toDay = toDate.toEpochDay();
+                List<Employee> missing = new ArrayList<>();
+                for (Employee employee : working) {
+                    PayrollCalculator.PayrollResult cached = cache.get(
+                            employee.getId(), fromDay, toDay, calculator.getPayRules(),
+                            PayrollResultCache.PATH_MONTHS, version);
+                    if (cached != null) {
+                        results.put(employee.getId(), cached);
+                    } else {
+                        missing.add(employee);
+                    }
+                }
+
+                for (YearMonth month = YearMonth.from(fromDate);
+                     !month.atDay(1).isAfter(endDateTime.toLocalDate());
+                     month = month.plusMonths(1)) {
+                    LocalDate monthStart = month.atDay(1);
+                    LocalDate monthEnd = month.plusMonths(1).atDay(1);
+                    if (!fromDate.isAfter(monthStart) && !toDate.isBefore(monthEnd)) {
+                        if (missing.isEmpty()) {
+                            continue;
+                        }
+                        Map<Long, Payroll> payrolls = calculator.getMonthlyPayrolls(
+                                missing, month.getYear(), month.getMonthValue());
+                        for (Payroll payroll : payrolls.values()) {
+                            if (payroll.getTotalMinutes() > 0) {
+                                results.merge(payroll.getEmployeeId(),
+                                        PayrollCalculator.toResult(payroll), PayrollCalculator::sum);
+                            }
+                        }
+                    } else {
+                        LocalDate segmentStart = fromDate.isAfter(monthStart) ? fromDate : monthStart;
+                        LocalDate segmentEnd = toDate.isBefore(monthEnd) ? toDate : monthEnd;
+                        if (missing.isEmpty()) {
+                            continue;
+                        }
+                        addPartialMonth(calculator, missing,
+                                segmentStart.toEpochDay(), segmentEnd.toEpochDay(), results);
+                    }
+                }
+
+                for (Employee employee : missing) {
+                    PayrollCalculator.PayrollResult result = results.get(employee.getId());
+                    cache.put(employee.getId(), fromDay, toDay, calculator.getPayRules(),
+                            PayrollResultCache.PATH_MONTHS, version,
+                            result != null ? result : PayrollResultCache.EMPTY);
+                }
+
+                // 각 알바생별 급여 항목
+                List<PayrollAdapter.PayrollItem> payrollItems = new ArrayList<>();
+                for (Employee employee : working) {
+                    PayrollCalculator.PayrollResult result = results.get(employee.getId());
+                    if (result != null && result != PayrollResultCache.EMPTY) {
+                        double totalHours = totalsByEmployee.get(employee.getId()).totalMinutes / 60.0;
                         int totalPay = result.getTotalPay();
                         payrollItems.add(new PayrollAdapter.PayrollItem(
                                 employee.getName(),
@@ -222,22 +294,70 @@ public class ViewPayrollActivity extends AppCompatActivity {
         });
     }
 
-    private double calculateTotalHours(List<Shift> shifts) {
-        int totalMinutes = 0;
-        for (Shift shift : shifts) {
-            if (shift.getStartTime() == null || shift.getEndTime() == null) {
-                continue;
+    /**
+     * 구간과 겹치는 근무를 알바생별로 집계한 값 (ShiftDao 의 GROUP BY 쿼리 한 번)
+     */
+    private Map<Long, ShiftTotals> loadShiftTotals(LocalDateTime start, LocalDateTime end) {
+        List<ShiftTotals> totals;
+        if (authManager.isOwner()) {
+            totals = TraceSections.trace("ViewPayroll.shiftDao.getTotalsByDateRange",
+                    () -> AppDatabase.getInstance(this).shiftDao().getTotalsByDateRange(start, end));
+        } else {
+            long myId = authManager.getCurrentUser().getId();
+            ShiftTotals mine = TraceSections.trace("ViewPayroll.shiftDao.getTotalsByEmployeeAndDateRange",
+                    () -> AppDatabase.getInstance(this).shiftDao()
+                            .getTotalsByEmployeeAndDateRange(myId, start, end));
+            totals = mine != null ? Collections.singletonList(mine) : Collections.emptyList();
+        }
+        Map<Long, ShiftTotals> totalsByEmployee = new HashMap<>();
+        for (ShiftTotals total : totals) {
+            if (total.totalMinutes > 0) {
+                totalsByEmployee.put(total.employeeId, total);
+            }
+        }
+        return totalsByEmployee;
+    }
+
+    /**
+     * 월의 일부만 포함된 구간은 저장된 월 급여를 쓸 수 없으므로 일자별 집계로 계산
+     * (집계는 한 번에 조회하며 (알바생, 일) 순서이므로 알바생별 연속 구간을 잘라 쓴다)
+     */
+    private void addPartialMonth(PayrollCalculator calculator, List<Employee> workers,
+                                 long fromDay, long toDay,
+                                 Map<Long, PayrollCalculator.PayrollResult> results) {
+        // 주휴수당 판정을 위해 첫 주 월요일부터 읽고, 지급은 [fromDay, toDay) 로 한정한다
+        long weekStart = WeekKey.mondayOf(fromDay);
+        List<ShiftDailyRollup> rangeRollups;
+        if (authManager.isOwner()) {
+            rangeRollups = TraceSections.trace("ViewPayroll.shiftRollupDao.getRollups",
+                    () -> AppDatabase.getInstance(this).shiftRollupDao().getRollups(weekStart, toDay));
+        } else {
+            long myId = authManager.getCurrentUser().getId();
+            rangeRollups = TraceSections.trace("ViewPayroll.shiftRollupDao.getRollupsByEmployee",
+                    () -> AppDatabase.getInstance(this).shiftRollupDao()
+                            .getRollupsByEmployee(myId, weekStart, toDay));
+        }
+        // 시급 이력도 알바생마다 읽지 않고 한 번에 읽는다
+        Map<Long, WageSchedule> wagesById = TraceSections.trace("ViewPayroll.employeeWageDao.getWageHistoriesBefore",
+                () -> calculator.getWageSchedules(workers, fromDay, toDay));
+
+        for (int from = 0, to; from < rangeRollups.size(); from = to) {
+            long employeeId = rangeRollups.get(from).getEmployeeId();
+            to = from + 1;
+            while (to < rangeRollups.size() && rangeRollups.get(to).getEmployeeId() == employeeId) {
+                to++;
             }
-            Date shiftStartDate = toDate(shift.getStartTime());
-            Date shiftEndDate = toDate(shift.getEndTime());
-            long startMillis = shiftStartDate.getTime();
-            long endMillis = shiftEndDate.getTime();
-            if (endMillis <= startMillis) {
-                continue;
+            WageSchedule wages = wagesById.get(employeeId);
+            if (wages != null) {
+                PayrollCalculator.PayrollResult result = PayrollCalculator.calculatePayrollFromRollups(
+                    wages,
+                    rangeRollups.subList(from, to),
+                    fromDay, toDay,
+                    calculator.getPayRules()
+                );
+                results.merge(employeeId, result, PayrollCalculator::sum);
             }
-            totalMinutes += (endMillis - startMillis) / (1000 * 60);
         }
-        return totalMinutes / 60.0; // 기존 반환값 유지(호환성), PayrollAdapter에서 분리 표시
     }
 
     private void updateEmptyView(boolean isEmpty) {
@@ -266,11 +386,6 @@ public class ViewPayrollActivity extends AppCompatActivity {
         return true;
     }
 
-    // LocalDateTime을 Date로 변환하는 헬퍼 메서드
-    private Date toDate(LocalDateTime localDateTime) {
-        return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
-    }
-
     // Date를 LocalDateTime으로 변환하는 헬퍼 메서드
     private LocalDateTime toLocalDateTime(Date date) {
         return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
@@ -10,8 +10,15 @@ import android.widget.Button;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.Toolbar;
+import androidx.lifecycle.LiveData;
+import androidx.paging.LoadState;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
@@ -19,8 +26,12 @@ import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.data.ShiftPageKey;
+import com.example.alba_pay_manager.data.ShiftPagingSource;
 import com.example.alba_pay_manager.ui.adapter.ShiftAdapter;
 import com.example.alba_pay_manager.util.AuthManager;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
 import com.google.android.material.textfield.TextInputEditText;
 
 import java.text.SimpleDateFormat;
@@ -35,8 +46,11 @@ import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import kotlin.Unit;
+
 public class ViewShiftsActivity extends AppCompatActivity {
     private static final String TAG = "ViewShiftsActivity";
+    private static final int PAGE_SIZE = 50;
 
     private AutoCompleteTextView employeeAutoComplete;
     private TextInputEditText startDateEditText;
@@ -54,6 +68,7 @@ public class ViewShiftsActivity extends AppCompatActivity {
     private Employee selectedEmployee;
     private List<Employee> workers;
     private SimpleDateFormat dateFormat;
+    private LiveData<PagingData<Shift>> shiftPages;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -67,7 +82,7 @@ public class ViewShiftsActivity extends AppCompatActivity {
         getSupportActionBar().setTitle("근무 일정 조회");
 
         // 초기화
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = Metrics.instrument("ViewShifts", Executors.newSingleThreadExecutor());
         authManager = new AuthManager(this);
         dateFormat = new SimpleDateFormat("yyyy년 MM월 dd일", Locale.KOREA);
 
@@ -100,6 +115,14 @@ public class ViewShiftsActivity extends AppCompatActivity {
         adapter = new ShiftAdapter();
         shiftsRecyclerView.setLayoutManager(new LinearLayoutManager(this));
         shiftsRecyclerView.setAdapter(adapter);
+
+        // 첫 페이지 로드가 끝났을 때 빈 화면 여부 갱신
+        adapter.addLoadStateListener(loadStates -> {
+            if (loadStates.getRefresh() instanceof LoadState.NotLoading) {
+                updateEmptyView(adapter.getItemCount() == 0);
+            }
+            return Unit.INSTANCE;
+        });
     }
 
     private void setupDateAndTime() {
@@ -120,7 +143,8 @@ public class ViewShiftsActivity extends AppCompatActivity {
     private void loadWorkers() {
         executorService.execute(() -> {
             try {
-                workers = AppDatabase.getInstance(this).employeeDao().getAllWorkers();
+                workers = TraceSections.trace("ViewShifts.employeeDao.getAllWorkers",
+                        () -> AppDatabase.getInstance(this).employeeDao().getAllWorkers());
                 String[] workerNames = new String[workers.size()];
                 for (int i = 0; i < workers.size(); i++) {
                     workerNames[i] = workers.get(i).getName();
@@ -204,28 +228,24 @@ public class ViewShiftsActivity extends AppCompatActivity {
                     .atZone(ZoneId.systemDefault())
                     .toLocalDateTime();
 
-                List<Shift> shifts;
+                Long employeeId;
                 if (authManager.isOwner()) {
-                    if (selectedEmployee != null) {
-                        shifts = AppDatabase.getInstance(this).shiftDao()
-                                .getShiftsByEmployeeAndDateRange(
-                                        selectedEmployee.getId(),
-                                        startDateTime,
-                                        endDateTime
-                                );
-                    } else {
-                        shifts = AppDatabase.getInstance(this).shiftDao()
-                                .getShiftsByDateRange(startDateTime, endDateTime);
-                    }
+                    employeeId = selectedEmployee != null ? selectedEmployee.getId() : null;
                 } else {
                     // 파트타이머는 본인 데이터만
-                    long myId = authManager.getCurrentUser().getId();
-                    shifts = AppDatabase.getInstance(this).shiftDao()
-                            .getShiftsByEmployeeAndDateRange(
-                                    myId,
-                                    startDateTime,
-                                    endDateTime
-                            );
+                    employeeId = authManager.getCurrentUser().getId();
+                }
+
+                // 목록은 페이지 단위로 읽고, 총 근무 시간은 SQL 합계로 구한다
+                long totalMinutes;
+                if (employeeId != null) {
+                    totalMinutes = TraceSections.trace("ViewShifts.shiftDao.getTotalMinutesByEmployeeAndDateRange",
+                            () -> AppDatabase.getInstance(this).shiftDao()
+                                    .getTotalMinutesByEmployeeAndDateRange(employeeId, startDateTime, endDateTime));
+                } else {
+                    totalMinutes = TraceSections.trace("ViewShifts.shiftDao.getTotalMinutesByDateRange",
+                            () -> AppDatabase.getInstance(this).shiftDao()
+                                    .getTotalMinutesByDateRange(startDateTime, endDateTime));
                 }
 
                 // 알바생 정보 맵 생성
@@ -235,9 +255,9 @@ public class ViewShiftsActivity extends AppCompatActivity {
                 }
 
                 runOnUiThread(() -> {
-                    adapter.setShifts(shifts, employeeMap);
-                    updateEmptyView(shifts.isEmpty());
-                    updateTotalHours();
+                    adapter.setEmployeeMap(employeeMap);
+                    submitShiftPages(employeeId, startDateTime, endDateTime);
+                    updateTotalHours(totalMinutes);
                 });
             } catch (Exception e) {
                 Log.e(TAG, "근무 일정 조회 중 오류 발생", e);
@@ -248,14 +268,28 @@ public class ViewShiftsActivity extends AppCompatActivity {
         });
     }
 
+    private void submitShiftPages(@Nullable Long employeeId,
+                                  LocalDateTime startDateTime,
+                                  LocalDateTime endDateTime) {
+        if (shiftPages != null) {
+            shiftPages.removeObservers(this);
+        }
+
+        AppDatabase database = AppDatabase.getInstance(this);
+        ExecutorService loadExecutor = executorService;
+        Pager<ShiftPageKey, Shift> pager = new Pager<>(
+                new PagingConfig(PAGE_SIZE, PAGE_SIZE, false),
+                () -> new ShiftPagingSource(database, loadExecutor, employeeId, startDateTime, endDateTime));
+        shiftPages = PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager), getLifecycle());
+        shiftPages.observe(this, pagingData -> adapter.submitData(getLifecycle(), pagingData));
+    }
+
     private void updateEmptyView(boolean isEmpty) {
         emptyView.setVisibility(isEmpty ? View.VISIBLE : View.GONE);
         shiftsRecyclerView.setVisibility(isEmpty ? View.GONE : View.VISIBLE);
     }
 
-    private void updateTotalHours() {
-        double totalHours = adapter.getTotalHours();
-        long totalMinutes = (long)(totalHours * 60);
+    private void updateTotalHours(long totalMinutes) {
         long hours = totalMinutes / 60;
         long minutes = totalMinutes % 60;
         totalHoursTextView.setText(String.format(Locale.KOREA, "총 근무 시간: %d시간 %d분", hours, minutes));
@@ -11,7 +11,9 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.util.Metrics;
 import com.example.alba_pay_manager.util.PayrollCalculator;
+import com.example.alba_pay_manager.util.TraceSections;
 
 import java.text.NumberFormat;
 import java.util.ArrayList;
@@ -19,6 +21,8 @@ import java.util.List;
 import java.util.Locale;
 
 public class PayrollAdapter extends RecyclerView.Adapter<PayrollAdapter.ViewHolder> {
+    private static final Metrics.Timer BIND_TIMER = Metrics.timer("adapter.PayrollAdapter.bind");
+
     private List<PayrollItem> payrollItems = new ArrayList<>();
     private final NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(Locale.KOREA);
 
@@ -75,6 +79,17 @@ public class PayrollAdapter extends RecyclerView.Adapter<PayrollAdapter.ViewHold
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        int section = TraceSections.begin("PayrollAdapter.onBindViewHolder");
+        long started = Metrics.start();
+        try {
+            bind(holder, position);
+        } finally {
+            BIND_TIMER.stop(started);
+            TraceSections.end(section);
+        }
+    }
+
+    private void bind(ViewHolder holder, int position) {
         PayrollItem item = payrollItems.get(position);
         PayrollCalculator.PayrollResult result = item.payrollResult;
 
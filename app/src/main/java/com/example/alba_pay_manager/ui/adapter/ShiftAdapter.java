@@ -6,29 +6,47 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.Employee;
 import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.util.Metrics;
+import com.example.alba_pay_manager.util.TraceSections;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
-public class ShiftAdapter extends RecyclerView.Adapter<ShiftAdapter.ShiftViewHolder> {
-    private List<Shift> shifts = new ArrayList<>();
-    private Map<Long, Employee> employeeMap;
+public class ShiftAdapter extends PagingDataAdapter<Shift, ShiftAdapter.ShiftViewHolder> {
+    private static final DiffUtil.ItemCallback<Shift> DIFF_CALLBACK = new DiffUtil.ItemCallback<Shift>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Shift oldItem, @NonNull Shift newItem) {
+            return oldItem.getId() == newItem.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Shift oldItem, @NonNull Shift newItem) {
+            return oldItem.getEmployeeId() == newItem.getEmployeeId()
+                    && oldItem.getStartMinute() == newItem.getStartMinute()
+                    && oldItem.getEndMinute() == newItem.getEndMinute();
+        }
+    };
+
+    private static final Metrics.Timer BIND_TIMER = Metrics.timer("adapter.ShiftAdapter.bind");
+
+    private Map<Long, Employee> employeeMap = Collections.emptyMap();
     private SimpleDateFormat dateFormat;
     private SimpleDateFormat timeFormat;
 
     public ShiftAdapter() {
+        super(DIFF_CALLBACK);
         dateFormat = new SimpleDateFormat("yyyy년 MM월 dd일", Locale.KOREA);
         timeFormat = new SimpleDateFormat("a hh:mm", Locale.KOREA);
     }
@@ -48,67 +66,44 @@ public class ShiftAdapter extends RecyclerView.Adapter<ShiftAdapter.ShiftViewHol
 
     @Override
     public void onBindViewHolder(@NonNull ShiftViewHolder holder, int position) {
-        Shift shift = shifts.get(position);
+        int section = TraceSections.begin("ShiftAdapter.onBindViewHolder");
+        long started = Metrics.start();
+        try {
+            bind(holder, position);
+        } finally {
+            BIND_TIMER.stop(started);
+            TraceSections.end(section);
+        }
+    }
+
+    private void bind(ShiftViewHolder holder, int position) {
+        Shift shift = getItem(position);
+        if (shift == null) {
+            return;
+        }
         Employee employee = employeeMap.get(shift.getEmployeeId());
-        
+
         if (employee != null) {
             holder.employeeNameTextView.setText(employee.getName());
         }
 
-        LocalDateTime startDateTime = shift.getStartTime();
-        LocalDateTime endDateTime = shift.getEndTime();
-        
-        Date startDate = toDate(startDateTime);
-        Date endDate = toDate(endDateTime);
-        
+        Date startDate = toDate(shift.getStartTime());
+        Date endDate = toDate(shift.getEndTime());
+
         holder.dateTextView.setText(dateFormat.format(startDate));
         holder.timeTextView.setText(String.format(Locale.KOREA, "%s ~ %s",
                 timeFormat.format(startDate),
                 timeFormat.format(endDate)));
 
         // 근무 시간 계산 (시간과 분으로 표시)
-        long diffMillis = endDate.getTime() - startDate.getTime();
-        long totalMinutes = TimeUnit.MILLISECONDS.toMinutes(diffMillis);
+        long totalMinutes = Math.max(0, shift.getDurationMinutes());
         long hours = totalMinutes / 60;
         long minutes = totalMinutes % 60;
         holder.hoursTextView.setText(String.format(Locale.KOREA, "근무 시간: %d시간 %d분", hours, minutes));
     }
 
-    @Override
-    public int getItemCount() {
-        return shifts.size();
-    }
-
-    public void setShifts(List<Shift> shifts, Map<Long, Employee> employeeMap) {
-        this.shifts = shifts;
+    public void setEmployeeMap(@NonNull Map<Long, Employee> employeeMap) {
         this.employeeMap = employeeMap;
-        notifyDataSetChanged();
-    }
-
-    public double getTotalHours() {
-        return calculateTotalHours(shifts);
-    }
-
-    private double calculateTotalHours(List<Shift> shifts) {
-        long totalMinutes = 0;
-        for (Shift shift : shifts) {
-            if (shift.getStartTime() == null || shift.getEndTime() == null) {
-                continue;
-            }
-
-            Date startDate = toDate(shift.getStartTime());
-            Date endDate = toDate(shift.getEndTime());
-            
-            long startMillis = startDate.getTime();
-            long endMillis = endDate.getTime();
-
-            if (endMillis <= startMillis) {
-                continue;
-            }
-
-            totalMinutes += TimeUnit.MILLISECONDS.toMinutes(endMillis - startMillis);
-        }
-        return totalMinutes / 60.0;
     }
 
     static class ShiftViewHolder extends RecyclerView.ViewHolder {
@@ -125,4 +120,4 @@ public class ShiftAdapter extends RecyclerView.Adapter<ShiftAdapter.ShiftViewHol
             hoursTextView = itemView.findViewById(R.id.hoursTextView);
         }
     }
-} 
\ No newline at end of file
+}
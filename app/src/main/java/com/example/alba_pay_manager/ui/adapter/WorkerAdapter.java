@@ -11,12 +11,15 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.alba_pay_manager.R;
 import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.util.Metrics;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
 public class WorkerAdapter extends RecyclerView.Adapter<WorkerAdapter.WorkerViewHolder> {
+    private static final Metrics.Timer BIND_TIMER = Metrics.timer("adapter.WorkerAdapter.bind");
+
     private List<Employee> workers = new ArrayList<>();
     private final OnWorkerActionListener listener;
 
@@ -39,8 +42,10 @@ public class WorkerAdapter extends RecyclerView.Adapter<WorkerAdapter.WorkerView
 
     @Override
     public void onBindViewHolder(@NonNull WorkerViewHolder holder, int position) {
+        long started = Metrics.start();
         Employee worker = workers.get(position);
         holder.bind(worker);
+        BIND_TIMER.stop(started);
     }
 
     @Override
@@ -0,0 +1,76 @@
+package com.example.alba_pay_manager.util;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.alba_pay_manager.payroll.DeductionEngine;
+import com.example.alba_pay_manager.payroll.InsuranceRates;
+import com.example.alba_pay_manager.payroll.WithholdingTaxTable;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 앱 전체가 공유하는 공제 엔진
+ *
+ * assets/withholding_tax.csv (국세청 간이세액표) 가 있으면 그 표를 쓰고,
+ * 없으면 PayrollConst 로 만든 근사 표를 쓴다. 엔진은 불변이며 표를 읽으면 통째로 바꾼다.
+ * 현재 앱에는 간이세액표가 들어 있지 않으므로 소득세/지방소득세와 실수령액은 근사 표로 낸 추정치이며,
+ * 화면은 {@link #isEstimate()} 가 true 인 동안 추정치임을 표시한다.
+ */
+public final class DeductionTables {
+    private DeductionTables() {} // 인스턴스화 방지
+
+    private static final String TAG = "DeductionTables";
+    private static final String WITHHOLDING_TAX_ASSET = "withholding_tax.csv";
+
+    private static volatile DeductionEngine engine = new DeductionEngine(
+            WithholdingTaxTable.approximate(PayrollConst.BASIC_DEDUCTION,
+                    PayrollConst.INCOME_TAX_RATE, PayrollConst.INCOME_TAX_CREDIT),
+            InsuranceRates.KOREA,
+            (int) Math.round(PayrollConst.LOCAL_TAX_RATE * 100));
+    private static volatile boolean estimate = true;
+
+    /** 현재 공제 엔진 */
+    @NonNull
+    public static DeductionEngine get() {
+        return engine;
+    }
+
+    /**
+     * 공제액이 근사 표로 낸 추정치인지 (간이세액표를 읽기 전이거나 읽지 못했으면 true)
+     */
+    public static boolean isEstimate() {
+        return estimate;
+    }
+
+    /**
+     * 간이세액표 에셋을 읽어 공제 엔진을 바꾼다 (백그라운드 스레드에서 호출)
+     *
+     * @return 표를 읽었으면 true, 에셋이 없거나 읽을 수 없으면 false (근사 표 유지)
+     */
+    public static boolean loadWithholdingTable(@NonNull Context context) {
+        try (Reader reader = new InputStreamReader(
+                context.getAssets().open(WITHHOLDING_TAX_ASSET), StandardCharsets.UTF_8)) {
+            WithholdingTaxTable table = WithholdingTaxTable.parse(reader);
+            if (table.bandCount() == 0) {
+                Log.w(TAG, "간이세액표가 비어 있어 근사 표를 사용합니다.");
+                return false;
+            }
+            engine = new DeductionEngine(table, InsuranceRates.KOREA,
+                    (int) Math.round(PayrollConst.LOCAL_TAX_RATE * 100));
+            estimate = false;
+            return true;
+        } catch (FileNotFoundException e) {
+            return false;
+        } catch (IOException | NumberFormatException e) {
+            Log.e(TAG, "간이세액표를 읽을 수 없어 근사 표를 사용합니다.", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.alba_pay_manager.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 고정 구간 지연시간 히스토그램 (마이크로초)
+ *
+ * 2의 거듭제곱 구간을 다시 4등분한 구간(상대 오차 25% 이내)에 개수만 센다.
+ * 기록은 배열 원소 하나의 원자적 증가이므로 여러 스레드가 동시에 기록해도 막히지 않고,
+ * 백분위는 구간 상한으로 근사한다. 약 19시간(2^36 us)을 넘는 값은 마지막 구간에 넣는다.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = SUB_BUCKETS * MAX_EXPONENT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 나노초 단위 측정값을 기록한다
+     */
+    public void recordNanos(long nanos) {
+        record(nanos / 1000);
+    }
+
+    /**
+     * 마이크로초 단위 측정값을 기록한다 (음수는 0 으로 본다)
+     */
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // 다른 스레드가 더 큰 값을 넣었으면 다시 비교한다
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** 합계 (us) */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /** 최대값 (us) */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 백분위 값 (us, 구간의 마지막 값과 최대값 중 작은 값, 기록이 없으면 0)
+     *
+     * @param percentile 0~100
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i) - 1, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 모든 기록을 지운다 (기록 중인 스레드와 겹치면 그 값 일부가 남을 수 있다)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d p50=%dus p95=%dus p99=%dus max=%dus",
+                getCount(), percentile(50), percentile(95), percentile(99), getMax());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); // 2 이상
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (value >> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS * (exponent - 1) + sub;
+    }
+
+    /** 구간의 (포함하지 않는) 상한 */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + 1 + sub) << (exponent - 2);
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.alba_pay_manager.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 앱 내부 지표 (카운터, 타이머, 히스토그램, 게이지)
+ *
+ * 이름별로 한 번 만든 지표를 static 필드에 두고 쓴다. 카운터는 LongAdder, 타이머와 히스토그램은
+ * {@link LatencyHistogram} 의 고정 구간에 기록하므로 여러 스레드에서 잠금 없이 기록할 수 있다.
+ * 꺼져 있으면 기록은 volatile 읽기 한 번으로 끝나고 시각도 읽지 않는다 ({@link #start()} 가 0 을 돌려준다).
+ * 켜짐 여부는 SharedPreferences 에 저장되며, 스냅샷은 앱 저장소에 JSON 으로 쓴다.
+ */
+public final class Metrics {
+    private Metrics() {} // 인스턴스화 방지
+
+    private static final String PREF_NAME = "metrics_prefs";
+    private static final String KEY_ENABLED = "enabled";
+    /** 스냅샷 파일을 두는 앱 저장소 하위 디렉터리 */
+    public static final String SNAPSHOT_DIR = "metrics";
+
+    private static volatile boolean enabled = false;
+
+    private static final ConcurrentHashMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, DoubleSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 켜짐 여부를 읽는다 (화면 진입 시 호출, 여러 번 불러도 된다)
+     */
+    public static void init(@NonNull Context context) {
+        enabled = prefs(context).getBoolean(KEY_ENABLED, false);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 켜거나 끄고 그 상태를 저장한다
+     */
+    public static void setEnabled(@NonNull Context context, boolean enabled) {
+        Metrics.enabled = enabled;
+        prefs(context).edit().putBoolean(KEY_ENABLED, enabled).apply();
+    }
+
+    @NonNull
+    public static Counter counter(@NonNull String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    @NonNull
+    public static Timer timer(@NonNull String name) {
+        return TIMERS.computeIfAbsent(name, key -> new Timer());
+    }
+
+    @NonNull
+    public static Histogram histogram(@NonNull String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * 스냅샷을 만들 때 읽을 값을 등록한다 (같은 이름이면 바꾼다)
+     */
+    public static void gauge(@NonNull String name, @NonNull DoubleSupplier supplier) {
+        GAUGES.put(name, supplier);
+    }
+
+    /**
+     * 타이머 시작 시각 (꺼져 있으면 0 이며, {@link Timer#stop} 은 0 을 무시한다)
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 작업이 큐에서 기다린 시간(executor.name.queue_wait)과 실행 시간(executor.name.run)을 재는 실행기
+     * 꺼져 있을 때 넣은 작업은 감싸지 않고 그대로 넘긴다.
+     */
+    @NonNull
+    public static ExecutorService instrument(@NonNull String name, @NonNull ExecutorService delegate) {
+        return new InstrumentedExecutor(delegate, timer("executor." + name + ".queue_wait"),
+                timer("executor." + name + ".run"));
+    }
+
+    /**
+     * 모든 카운터, 타이머, 히스토그램을 0 으로 되돌린다 (게이지는 그대로)
+     */
+    public static void reset() {
+        for (Counter counter : COUNTERS.values()) {
+            counter.adder.reset();
+        }
+        for (Timer timer : TIMERS.values()) {
+            timer.histogram.reset();
+        }
+        for (Histogram histogram : HISTOGRAMS.values()) {
+            histogram.histogram.reset();
+        }
+    }
+
+    /**
+     * 현재 값 (이름순)
+     */
+    @NonNull
+    public static JSONObject snapshot() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("timestamp", System.currentTimeMillis());
+        json.put("uptime_ms", SystemClock.elapsedRealtime());
+        json.put("enabled", enabled);
+
+        JSONObject counters = new JSONObject();
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(COUNTERS).entrySet()) {
+            counters.put(entry.getKey(), entry.getValue().get());
+        }
+        json.put("counters", counters);
+
+        JSONObject gauges = new JSONObject();
+        for (Map.Entry<String, DoubleSupplier> entry : new TreeMap<>(GAUGES).entrySet()) {
+            double value = entry.getValue().getAsDouble();
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                gauges.put(entry.getKey(), value);
+            }
+        }
+        json.put("gauges", gauges);
+
+        JSONObject timers = new JSONObject();
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(TIMERS).entrySet()) {
+            timers.put(entry.getKey(), toJson(entry.getValue().histogram, "_us"));
+        }
+        json.put("timers", timers);
+
+        JSONObject histograms = new JSONObject();
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            histograms.put(entry.getKey(), toJson(entry.getValue().histogram, ""));
+        }
+        json.put("histograms", histograms);
+        return json;
+    }
+
+    /**
+     * 스냅샷을 앱 저장소(외부 저장소를 쓸 수 없으면 내부 저장소)의 metrics/ 에 JSON 파일로 쓴다
+     *
+     * @return 쓴 파일
+     */
+    @NonNull
+    public static File writeSnapshot(@NonNull Context context) throws IOException {
+        File base = context.getExternalFilesDir(null);
+        if (base == null) {
+            base = context.getFilesDir();
+        }
+        File dir = new File(base, SNAPSHOT_DIR);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("디렉터리를 만들 수 없습니다: " + dir);
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.ROOT).format(new Date());
+        File file = new File(dir, "metrics_" + stamp + ".json");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write(snapshot().toString(2));
+        } catch (JSONException e) {
+            throw new IOException("지표 스냅샷을 만들 수 없습니다.", e);
+        }
+        return file;
+    }
+
+    private static JSONObject toJson(LatencyHistogram histogram, String unit) throws JSONException {
+        long count = histogram.getCount();
+        JSONObject json = new JSONObject();
+        json.put("count", count);
+        json.put("sum" + unit, histogram.getSum());
+        json.put("mean" + unit, count == 0 ? 0 : histogram.getSum() / count);
+        json.put("p50" + unit, histogram.percentile(50));
+        json.put("p95" + unit, histogram.percentile(95));
+        json.put("p99" + unit, histogram.percentile(99));
+        json.put("max" + unit, histogram.getMax());
+        return json;
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * 누적 횟수
+     */
+    public static final class Counter {
+        private final LongAdder adder = new LongAdder();
+
+        public void increment() {
+            if (enabled) {
+                adder.increment();
+            }
+        }
+
+        public void add(long amount) {
+            if (enabled) {
+                adder.add(amount);
+            }
+        }
+
+        public long get() {
+            return adder.sum();
+        }
+    }
+
+    /**
+     * 걸린 시간 분포 (us)
+     */
+    public static final class Timer {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        /**
+         * {@link Metrics#start()} 로 얻은 시각부터 지금까지를 기록한다
+         */
+        public void stop(long started) {
+            if (started != 0) {
+                histogram.recordNanos(System.nanoTime() - started);
+            }
+        }
+
+        @NonNull
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    /**
+     * 시간이 아닌 값(행 수, 건수 등)의 분포
+     */
+    public static final class Histogram {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        public void record(long value) {
+            if (enabled) {
+                histogram.record(value);
+            }
+        }
+
+        @NonNull
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    /**
+     * 작업을 넣은 시각을 기억했다가 실행 직전에 대기 시간을 기록하는 ExecutorService
+     */
+    private static final class InstrumentedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Timer queueWait;
+        private final Timer run;
+
+        InstrumentedExecutor(ExecutorService delegate, Timer queueWait, Timer run) {
+            this.delegate = delegate;
+            this.queueWait = queueWait;
+            this.run = run;
+        }
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            long submitted = start();
+            if (submitted == 0) {
+                delegate.execute(command);
+                return;
+            }
+            delegate.execute(() -> {
+                queueWait.stop(submitted);
+                long started = start();
+                try {
+                    command.run();
+                } finally {
+                    run.stop(started);
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @NonNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
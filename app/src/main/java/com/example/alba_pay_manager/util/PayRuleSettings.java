@@ -0,0 +1,58 @@
+package com.example.alba_pay_manager.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+
+/**
+ * 매장 수당 규칙 설정 (SharedPreferences 에 "NIGHT:150,..." 형식으로 저장)
+ */
+public final class PayRuleSettings {
+    private PayRuleSettings() {} // 인스턴스화 방지
+
+    private static final String TAG = "PayRuleSettings";
+    private static final String PREF_NAME = "payroll_prefs";
+    private static final String KEY_PAY_RULES = "pay_rules";
+
+    /**
+     * 저장된 규칙 (없거나 읽을 수 없으면 기본 규칙)
+     */
+    @NonNull
+    public static PayRuleSet load(@NonNull Context context) {
+        String spec = prefs(context).getString(KEY_PAY_RULES, null);
+        if (spec == null) {
+            return PayRuleSet.DEFAULT;
+        }
+        try {
+            return PayRuleSet.parse(spec);
+        } catch (IllegalArgumentException e) {
+            Log.e(TAG, "수당 규칙을 읽을 수 없어 기본 규칙을 사용합니다: " + spec, e);
+            return PayRuleSet.DEFAULT;
+        }
+    }
+
+    /**
+     * 규칙을 저장하고, 바뀌었으면 저장된 월 급여를 모두 다시 계산 대상으로 표시하고
+     * 화면 계산 결과 캐시도 비운다 (DB 에 쓰므로 백그라운드 스레드에서 부른다)
+     *
+     * @return 규칙이 바뀌었는지
+     */
+    public static boolean save(@NonNull Context context, @NonNull PayRuleSet rules) {
+        if (rules.equals(load(context))) {
+            return false;
+        }
+        prefs(context).edit().putString(KEY_PAY_RULES, rules.toString()).apply();
+        AppDatabase.getInstance(context).payrollDao().markAllDirty();
+        PayrollResultCache.dataChanged();
+        return true;
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -1,42 +1,77 @@
 package com.example.alba_pay_manager.util;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
 
 import com.example.alba_pay_manager.data.AppDatabase;
 import com.example.alba_pay_manager.data.Employee;
-import com.example.alba_pay_manager.data.MinimumWage;
 import com.example.alba_pay_manager.data.Payroll;
 import com.example.alba_pay_manager.data.Shift;
-
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import com.example.alba_pay_manager.data.ShiftDailyRollup;
+import com.example.alba_pay_manager.payroll.DeductionEngine;
+import com.example.alba_pay_manager.payroll.PayPlan;
+import com.example.alba_pay_manager.payroll.PayScenario;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+import com.example.alba_pay_manager.payroll.PayrollEngine;
+import com.example.alba_pay_manager.payroll.ScenarioSimulator;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * 급여 계산기
+ *
+ * 계산 진입점은 근무 목록용 {@link #calculatePayroll} 과 일자별 집계용 {@link #calculatePayrollFromRollups}
+ * 두 가지이며 모두 날짜별 시급(WageSchedule)과 매장 수당 규칙(PayRuleSet)을 받는다.
+ * 누적 테이블, 집계, 시급 이력을 읽는 경로는 {@link PayrollReader} 에 있다.
  */
 public class PayrollCalculator {
-    private static final double INCOME_TAX_RATE = 0.033; // 3.3%
-    private static final double LOCAL_TAX_RATE = 0.1;    // 지방소득세 10%
-    private static final double INSURANCE_RATE = 0.045;  // 4대보험 4.5%
-    private static final int NIGHT_START_HOUR = 22; // 오후 10시
-    private static final int NIGHT_END_HOUR = 6;    // 오전 6시
-    private static final double NIGHT_PAY_RATE = 1.5; // 야간수당 배율
-    private static final double OVERTIME_PAY_RATE = 1.5; // 연장근로수당 배율
-    private static final double HOLIDAY_PAY_RATE = 1.5; // 휴일근로수당 배율
-    private static final double HOLIDAY_OVERTIME_PAY_RATE = 2.0; // 휴일 연장근로수당 배율
-    private static final int WEEKLY_HOURS_THRESHOLD = 15; // 주휴수당 기준 시간
-    private static final int DAILY_HOURS_LIMIT = 8; // 1일 근무시간 제한
-    private static final int WEEKLY_HOURS_LIMIT = 40; // 1주 근무시간 제한
+    private static final String TAG = "PayrollCalculator";
+
+    private static volatile boolean verifyAccumulators = false;
+
+    // 지표 (Metrics 가 꺼져 있으면 기록하지 않는다)
+    private static final Metrics.Timer CALCULATE_TIMER = Metrics.timer("payroll.calculate_payroll");
+    private static final Metrics.Timer ROLLUP_TIMER = Metrics.timer("payroll.calculate_from_rollups");
+    private static final Metrics.Timer MONTHLY_TIMER = Metrics.timer("payroll.monthly_payrolls");
+    private static final Metrics.Counter MONTHLY_RECALCULATED = Metrics.counter("payroll.monthly_payrolls.recalculated");
+    private static final Metrics.Timer CALCULATE_ALL_TIMER = Metrics.timer("payroll.calculate_all");
+    private static final Metrics.Histogram CALCULATE_ALL_WORKERS = Metrics.histogram("payroll.calculate_all.workers");
 
     private final AppDatabase database;
+    private final PayrollReader reader;
+    private final PayRuleSet rules;
+    private final PayPlan plan;
+    // 누적 테이블은 기본 규칙으로 유지되므로 규칙이 같을 때만 그대로 쓴다
+    private final boolean accumulatorApplies;
 
     public PayrollCalculator(@NonNull AppDatabase database) {
+        this(database, PayRuleSet.DEFAULT);
+    }
+
+    /**
+     * @param rules 매장 수당 규칙 (한 번 컴파일해 모든 알바생 계산에 재사용)
+     */
+    public PayrollCalculator(@NonNull AppDatabase database, @NonNull PayRuleSet rules) {
         this.database = database;
+        this.reader = new PayrollReader(database);
+        this.rules = rules;
+        this.plan = rules.compile();
+        this.accumulatorApplies = plan.sameAs(PayRuleSet.DEFAULT.compile());
+    }
+
+    @NonNull
+    public PayRuleSet getPayRules() {
+        return rules;
     }
 
     /**
@@ -97,176 +132,429 @@ public class PayrollCalculator {
             throw new IllegalArgumentException("총 급여는 음수가 될 수 없습니다.");
         }
 
-        // 공제액 계산
-        int insurance = Math.max(0, (int) (grossPay * INSURANCE_RATE));
-        int incomeTax = Math.max(0, (int) (grossPay * INCOME_TAX_RATE));
-        int localTax = Math.max(0, (int) (incomeTax * LOCAL_TAX_RATE));
+        // 공제액과 실수령액 계산 (이번 달 요율, 공제대상가족 본인 1명)
+        LocalDate today = LocalDate.now();
+        DeductionEngine.Result deduction = new DeductionEngine.Result();
+        DeductionTables.get().deduct(today.getYear(), today.getMonthValue(), grossPay, 1, deduction);
 
-        // 실수령액 계산
-        int netPay = Math.max(0, grossPay - insurance - incomeTax - localTax);
-
-        return new PayrollResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, netPay);
+        return new PayrollResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, deduction.netPay);
     }
 
     /**
      * 특정 월의 급여 계산
+     * 일자별 집계로 야간/연장/휴일/주휴 내역까지 계산해 함께 저장한다.
      */
     @NonNull
     public Payroll calculateMonthlyPayroll(@NonNull Employee employee, int year, int month) {
-        // 해당 월의 시작일과 종료일
-        LocalDateTime startDate = LocalDateTime.of(year, month, 1, 0, 0);
-        LocalDateTime endDate = startDate.plusMonths(1);
-
-        // 근무 기록 조회
-        List<Shift> shifts = database.shiftDao().getShiftsInRange(
-                employee.getId(), startDate, endDate);
-
-        // 총 근무시간 계산 (분)
-        int totalMinutes = shifts.stream()
-                .mapToInt(Shift::getDurationMinutes)
-                .sum();
-
-        // 시급 확인 (최저시급 이상)
-        int hourlyWage = employee.getHourlyWage();
-        MinimumWage minWage = database.minimumWageDao().getMinimumWage(year);
-        if (minWage != null && hourlyWage < minWage.getHourlyWage()) {
-            hourlyWage = minWage.getHourlyWage();
-        }
+        return toPayroll(employee.getId(), year, month,
+                recomputeBreakdown(employee.getId(), year, month, getWageSchedule(employee, year), plan));
+    }
 
-        // 총 급여 계산
-        int grossPay = (int) ((totalMinutes / 60.0) * hourlyWage);
+    /**
+     * 엔진 결과에 공제액을 반영해 월 급여 행으로 변환
+     */
+    @NonNull
+    private static Payroll toPayroll(long employeeId, int year, int month,
+                                     @NonNull PayrollEngine.Breakdown breakdown) {
+        // 총 급여 (수당 포함)
+        int grossPay = (int) breakdown.totalPay;
         if (grossPay < 0) {
             throw new IllegalStateException("총 급여는 음수가 될 수 없습니다.");
         }
 
-        // 공제액 계산
-        int insurance = Math.max(0, (int) (grossPay * INSURANCE_RATE));
-        int incomeTax = Math.max(0, (int) (grossPay * INCOME_TAX_RATE));
-        int localTax = Math.max(0, (int) (incomeTax * LOCAL_TAX_RATE));
+        // 공제액과 실수령액 계산 (4대보험 요율표, 간이세액표, 공제대상가족 본인 1명)
+        DeductionEngine.Result deduction = new DeductionEngine.Result();
+        DeductionTables.get().deduct(year, month, grossPay, 1, deduction);
 
-        // 실수령액 계산
-        int netPay = Math.max(0, grossPay - insurance - incomeTax - localTax);
-
-        return new Payroll(
-                employee.getId(), year, month,
-                totalMinutes, grossPay, netPay,
-                insurance, incomeTax, localTax
+        Payroll payroll = new Payroll(
+                employeeId, year, month,
+                breakdown.totalMinutes, grossPay, deduction.netPay,
+                deduction.insurance, deduction.incomeTax, deduction.localTax
         );
+        payroll.setRegularMinutes(breakdown.regularMinutes);
+        payroll.setNightMinutes(breakdown.nightMinutes);
+        payroll.setOvertimeMinutes(breakdown.overtimeMinutes);
+        payroll.setHolidayMinutes(breakdown.holidayMinutes);
+        payroll.setWeeklyAllowanceMinutes(breakdown.weeklyAllowanceMinutes);
+        payroll.setRegularPay((int) breakdown.regularPay);
+        payroll.setNightPay((int) breakdown.nightPay);
+        payroll.setOvertimePay((int) breakdown.overtimePay);
+        payroll.setHolidayPay((int) breakdown.holidayPay);
+        payroll.setWeeklyAllowancePay((int) breakdown.weeklyAllowancePay);
+        return payroll;
     }
 
     /**
-     * 모든 직원의 월별 급여 계산
+     * 누적 테이블(payroll_accumulator)에서 월 급여 내역을 바로 읽는다 (재계산 없음)
+     * 검증 모드에서는 일자별 집계로 다시 계산한 값과 비교해 어긋나면 로그를 남기고 재계산 값을 돌려준다.
+     * 매장 수당 규칙이 기본 규칙과 다르거나 그 달 중에 시급이 바뀌었으면 누적 테이블을 쓸 수 없으므로 다시 계산한다.
      */
-    public void calculateAllPayrolls(int year, int month) {
-        List<Employee> workers = database.employeeDao().getAllWorkers();
+    @NonNull
+    public PayrollResult getRunningPayroll(@NonNull Employee employee, int year, int month) {
+        return toResult(runningBreakdown(employee, year, month));
+    }
+
+    @NonNull
+    private PayrollEngine.Breakdown runningBreakdown(@NonNull Employee employee, int year, int month) {
+        WageSchedule wages = getWageSchedule(employee, year);
+        long fromDay = PayrollReader.monthStartDay(year, month);
+        long toDay = PayrollReader.monthEndDay(year, month);
+        if (!accumulatorApplies || !wages.isConstant(fromDay, toDay)) {
+            return recomputeBreakdown(employee.getId(), year, month, wages, plan);
+        }
+        PayrollEngine.Breakdown breakdown = new PayrollEngine.Breakdown();
+        reader.accumulatedMinutes(employee.getId(), year, month, breakdown);
+        PayrollEngine.price(wages.wageOn(fromDay), breakdown);
+
+        if (verifyAccumulators) {
+            PayrollEngine.Breakdown expected = recomputeBreakdown(employee.getId(), year, month,
+                    wages, plan);
+            if (!sameMinutes(breakdown, expected)) {
+                Log.e(TAG, String.format(Locale.ROOT,
+                        "급여 누적 불일치 employeeId=%d %d-%02d 누적=%s 재계산=%s",
+                        employee.getId(), year, month, describe(breakdown), describe(expected)));
+                return expected;
+            }
+        }
+        return breakdown;
+    }
+
+    /**
+     * 누적 테이블이 기본 규칙으로 전체 재계산한 값과 정확히 같은지 확인
+     */
+    public boolean verifyAccumulator(@NonNull Employee employee, int year, int month) {
+        PayrollEngine.Breakdown actual = new PayrollEngine.Breakdown();
+        reader.accumulatedMinutes(employee.getId(), year, month, actual);
+        PayrollEngine.Breakdown expected = recomputeBreakdown(employee.getId(), year, month,
+                getWageSchedule(employee, year), PayRuleSet.DEFAULT.compile());
+        return sameMinutes(actual, expected);
+    }
+
+    /**
+     * 검증 모드 설정 (켜면 getRunningPayroll 마다 전체 재계산과 비교한다)
+     */
+    public static void setVerifyAccumulators(boolean verify) {
+        verifyAccumulators = verify;
+    }
+
+    @NonNull
+    private PayrollEngine.Breakdown recomputeBreakdown(long employeeId, int year, int month,
+                                                       @NonNull WageSchedule wages,
+                                                       @NonNull PayPlan plan) {
+        return calculateBreakdown(wages, reader.monthRollups(employeeId, year, month),
+                PayrollReader.monthStartDay(year, month), PayrollReader.monthEndDay(year, month), plan);
+    }
+
+    private static boolean sameMinutes(PayrollEngine.Breakdown a, PayrollEngine.Breakdown b) {
+        return a.totalMinutes == b.totalMinutes
+                && a.regularMinutes == b.regularMinutes
+                && a.nightMinutes == b.nightMinutes
+                && a.overtimeMinutes == b.overtimeMinutes
+                && a.holidayMinutes == b.holidayMinutes
+                && a.weeklyAllowanceMinutes == b.weeklyAllowanceMinutes;
+    }
+
+    private static String describe(PayrollEngine.Breakdown b) {
+        return String.format(Locale.ROOT, "[total=%d, regular=%d, night=%d, overtime=%d, holiday=%d, weekly=%d]",
+                b.totalMinutes, b.regularMinutes, b.nightMinutes, b.overtimeMinutes,
+                b.holidayMinutes, b.weeklyAllowanceMinutes);
+    }
+
+    /**
+     * 알바생의 날짜별 시급 (시급 이력, 해당 연도 최저시급을 하한으로)
+     * 이력이 없으면 현재 시급을 기간 전체에 쓴다.
+     */
+    @NonNull
+    public WageSchedule getWageSchedule(@NonNull Employee employee, int year) {
+        return reader.wageSchedule(employee, year);
+    }
+
+    /**
+     * [fromDay, toDay) 기간의 날짜별 시급 (연도가 바뀌는 기간은 각 연도 최저시급을 그 해부터 하한으로)
+     */
+    @NonNull
+    public WageSchedule getWageSchedule(@NonNull Employee employee, long fromDay, long toDay) {
+        return reader.wageSchedule(employee, fromDay, toDay);
+    }
+
+    /**
+     * 여러 알바생의 [fromDay, toDay) 날짜별 시급 (시급 이력은 쿼리 한 번으로 읽는다)
+     *
+     * @return 알바생 id 별 시급
+     */
+    @NonNull
+    public Map<Long, WageSchedule> getWageSchedules(@NonNull List<Employee> workers, long fromDay, long toDay) {
+        PayrollReader.WageColumns columns = reader.wageColumns(toDay);
+        Map<Long, WageSchedule> schedules = new HashMap<>();
         for (Employee worker : workers) {
-            Payroll payroll = calculateMonthlyPayroll(worker, year, month);
-            database.payrollDao().upsert(payroll);
+            schedules.put(worker.getId(),
+                    PayrollReader.withMinimumWages(columns.scheduleOf(worker), fromDay, toDay));
         }
+        return schedules;
     }
 
-    public static PayrollResult calculatePayroll(@NonNull Employee employee, 
-                                               @NonNull List<Shift> shifts,
-                                               boolean hasNightAllowance,
-                                               boolean hasOvertimeAllowance,
-                                               boolean hasHolidayAllowance,
-                                               boolean hasWeeklyAllowance) {
-        double regularHours = 0;
-        double nightHours = 0;
-        double overtimeHours = 0;
-        double holidayHours = 0;
-        Map<Integer, Double> weeklyHours = new HashMap<>(); // 주차별 근무시간
-
-        for (Shift shift : shifts) {
-            LocalDateTime start = shift.getStartTime();
-            LocalDateTime end = shift.getEndTime();
-            
-            // 주차 계산 (ISO 주차 기준)
-            int weekNumber = start.get(java.time.temporal.WeekFields.ISO.weekOfWeekBasedYear());
-            double shiftHours = ChronoUnit.MINUTES.between(start, end) / 60.0;
-            
-            // 주차별 근무시간 누적
-            weeklyHours.merge(weekNumber, shiftHours, Double::sum);
-
-            // 휴일 여부 확인 (토요일, 일요일, 공휴일)
-            boolean isHoliday = isHoliday(start.toLocalDate());
-            
-            // 야간 근무시간 계산 (22:00-06:00)
-            if (hasNightAllowance) {
-                double nightShiftHours = calculateNightHours(start, end);
-                nightHours += nightShiftHours;
-                shiftHours -= nightShiftHours;
+    /**
+     * 알바생들의 월 급여 조회
+     * 저장된 Payroll 중 payroll_dirty 에 표시되지 않은 월은 그대로 쓰고,
+     * 표시되었거나 저장된 적 없는 알바생만 다시 계산해 저장한다.
+     *
+     * @return 알바생 id 별 급여
+     */
+    @NonNull
+    public Map<Long, Payroll> getMonthlyPayrolls(@NonNull List<Employee> workers, int year, int month) {
+        long started = Metrics.start();
+        Map<Long, Payroll> result = database.runInTransaction(() -> {
+            Map<Long, Payroll> stored = new HashMap<>();
+            for (Payroll payroll : database.payrollDao().getPayrollsByMonth(year, month)) {
+                stored.put(payroll.getEmployeeId(), payroll);
+            }
+            Set<Long> dirty = new HashSet<>(database.payrollDao().getDirtyEmployeeIds(year, month));
+
+            Map<Long, Payroll> payrolls = new HashMap<>();
+            for (Employee worker : workers) {
+                Payroll payroll = stored.get(worker.getId());
+                if (payroll == null || dirty.contains(worker.getId())) {
+                    // 누적 테이블로 바로 만든다 (전체 재계산과 같은 값)
+                    payroll = toPayroll(worker.getId(), year, month,
+                            runningBreakdown(worker, year, month));
+                    database.payrollDao().upsert(payroll);
+                    database.payrollDao().clearDirty(worker.getId(), year, month);
+                    MONTHLY_RECALCULATED.increment();
+                }
+                payrolls.put(worker.getId(), payroll);
             }
+            return payrolls;
+        });
+        MONTHLY_TIMER.stop(started);
+        return result;
+    }
 
-            // 휴일 근무시간 계산
-            if (isHoliday && hasHolidayAllowance) {
-                holidayHours += shiftHours;
-                shiftHours = 0;
+    /**
+     * 모든 직원의 월별 급여 계산
+     *
+     * 해당 월(첫 주 월요일부터)의 일자별 집계와 시급 이력을 각각 (알바생, 일자) 순으로 한 번 읽어
+     * 배열로 옮긴 뒤 알바생별 구간을 코어 수만큼의 ForkJoinPool 에서 나눠 계산하고,
+     * 모든 Payroll 을 한 트랜잭션으로 저장한다. 읽기와 저장을 같은 트랜잭션에서 하므로
+     * 계산 중에 들어온 근무 변경이 dirty 표시 삭제로 묻히지 않는다.
+     */
+    public void calculateAllPayrolls(int year, int month) {
+        long started = Metrics.start();
+
+        database.runInTransaction(() -> {
+            List<Employee> workers = database.employeeDao().getAllWorkers();
+            CALCULATE_ALL_WORKERS.record(workers.size());
+            PayrollReader.MonthColumns columns = reader.monthColumns(year, month);
+
+            Payroll[] payrolls = new Payroll[workers.size()];
+            ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            try {
+                pool.invoke(new MonthlyPayrollTask(workers, plan, year, month, columns, payrolls,
+                        0, workers.size()));
+            } finally {
+                pool.shutdown();
             }
 
-            // 연장근로시간 계산
-            if (hasOvertimeAllowance) {
-                // 일일 연장근로
-                if (shiftHours > DAILY_HOURS_LIMIT) {
-                    overtimeHours += shiftHours - DAILY_HOURS_LIMIT;
-                    shiftHours = DAILY_HOURS_LIMIT;
-                }
+            for (Payroll payroll : payrolls) {
+                database.payrollDao().upsert(payroll);
+                database.payrollDao().clearDirty(payroll.getEmployeeId(), year, month);
             }
+        });
+        CALCULATE_ALL_TIMER.stop(started);
+    }
 
-            regularHours += shiftHours;
+    /**
+     * 해당 월 급여를 여러 시나리오(시급 인상, 수당 규칙 변경 등)로 모의 계산해 비교 (저장하지 않음)
+     *
+     * 일자별 집계와 시급 이력을 calculateAllPayrolls 와 같은 열 배열로 한 번씩만 읽고,
+     * 시나리오 수와 무관하게 알바생마다 일자를 한 번만 훑는다. 첫 시나리오가 비교 기준이다.
+     */
+    @NonNull
+    public ScenarioSimulator.Comparison simulateMonth(int year, int month,
+                                                      @NonNull List<PayScenario> scenarios) {
+        return database.runInTransaction(() -> {
+            List<Employee> workers = database.employeeDao().getAllWorkers();
+            PayrollReader.MonthColumns columns = reader.monthColumns(year, month);
+
+            long[] workerIds = new long[workers.size()];
+            WageSchedule[] schedules = new WageSchedule[workers.size()];
+            for (int w = 0; w < workerIds.length; w++) {
+                workerIds[w] = workers.get(w).getId();
+                schedules[w] = columns.scheduleOf(workers.get(w));
+            }
+            return ScenarioSimulator.simulate(workerIds, schedules,
+                    columns.employeeIds, columns.days, columns.minutes, columns.nightMinutes,
+                    PayrollReader.monthStartDay(year, month), PayrollReader.monthEndDay(year, month),
+                    scenarios);
+        });
+    }
+
+    /**
+     * 알바생 구간을 반으로 나눠가며 월 급여를 계산하는 작업
+     * 각 잎 작업은 Breakdown 하나를 재사용한다. 집계와 시급은 미리 읽은 열 배열에서, 휴일은 메모리의
+     * 휴무일 스냅샷으로 만든 HolidayCalendar 에서 보므로 트랜잭션을 잡은 호출 스레드를 기다릴 일이 없다.
+     */
+    private static final class MonthlyPayrollTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 16;
+
+        private final List<Employee> workers;
+        private final PayPlan plan;
+        private final int year;
+        private final int month;
+        private final PayrollReader.MonthColumns columns;
+        private final Payroll[] out;
+        private final int from;
+        private final int to;
+
+        MonthlyPayrollTask(List<Employee> workers, PayPlan plan, int year, int month,
+                           PayrollReader.MonthColumns columns, Payroll[] out, int from, int to) {
+            this.workers = workers;
+            this.plan = plan;
+            this.year = year;
+            this.month = month;
+            this.columns = columns;
+            this.out = out;
+            this.from = from;
+            this.to = to;
         }
 
-        // 주휴수당 계산
-        double weeklyAllowanceHours = 0;
-        if (hasWeeklyAllowance) {
-            for (double weeklyHour : weeklyHours.values()) {
-                if (weeklyHour >= WEEKLY_HOURS_THRESHOLD) {
-                    if (weeklyHour >= WEEKLY_HOURS_LIMIT) {
-                        weeklyAllowanceHours += 8; // 40시간 이상 근무 시 8시간
-                    } else {
-                        weeklyAllowanceHours += (weeklyHour / WEEKLY_HOURS_LIMIT) * 8;
-                    }
-                }
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new MonthlyPayrollTask(workers, plan, year, month, columns, out, from, mid),
+                        new MonthlyPayrollTask(workers, plan, year, month, columns, out, mid, to));
+                return;
             }
-        }
 
-        int hourlyWage = employee.getHourlyWage();
-        int regularPay = (int) (regularHours * hourlyWage);
-        int nightPay = (int) (nightHours * hourlyWage * NIGHT_PAY_RATE);
-        int overtimePay = (int) (overtimeHours * hourlyWage * OVERTIME_PAY_RATE);
-        int holidayPay = (int) (holidayHours * hourlyWage * HOLIDAY_PAY_RATE);
-        int weeklyAllowancePay = (int) (weeklyAllowanceHours * hourlyWage);
+            long payFromDay = PayrollReader.monthStartDay(year, month);
+            long payToDay = PayrollReader.monthEndDay(year, month);
+            PayrollEngine.Breakdown breakdown = new PayrollEngine.Breakdown();
+            for (int w = from; w < to; w++) {
+                Employee worker = workers.get(w);
+                // 정렬된 열에서 이 알바생의 집계 구간과 시급 이력 구간을 이진 탐색
+                int start = columns.startOf(worker.getId());
+                int end = columns.startOf(worker.getId() + 1);
+                WageSchedule schedule = columns.scheduleOf(worker);
+
+                breakdown.reset();
+                PayrollEngine.calculateDays(columns.days, columns.minutes, columns.nightMinutes, start, end,
+                        payFromDay, payToDay, schedule, plan, breakdown);
+                out[w] = toPayroll(worker.getId(), year, month, breakdown);
+            }
+        }
+    }
 
-        int totalPay = regularPay + nightPay + overtimePay + holidayPay + weeklyAllowancePay;
+    /**
+     * 저장된 월 급여의 수당별 내역을 PayrollResult 로 변환
+     */
+    @NonNull
+    public static PayrollResult toResult(@NonNull Payroll payroll) {
+        return new PayrollResult(
+                payroll.getRegularMinutes() / 60.0,
+                payroll.getNightMinutes() / 60.0,
+                payroll.getOvertimeMinutes() / 60.0,
+                payroll.getHolidayMinutes() / 60.0,
+                payroll.getWeeklyAllowanceMinutes() / 60.0,
+                payroll.getRegularPay(), payroll.getNightPay(), payroll.getOvertimePay(),
+                payroll.getHolidayPay(), payroll.getWeeklyAllowancePay(), payroll.getGrossPay());
+    }
 
-        return new PayrollResult(regularHours, nightHours, overtimeHours, holidayHours,
-                               weeklyAllowanceHours, regularPay, nightPay, overtimePay,
-                               holidayPay, weeklyAllowancePay, totalPay);
+    /**
+     * 두 기간의 계산 결과를 합산
+     */
+    @NonNull
+    public static PayrollResult sum(@NonNull PayrollResult a, @NonNull PayrollResult b) {
+        return new PayrollResult(
+                a.getRegularHours() + b.getRegularHours(),
+                a.getNightHours() + b.getNightHours(),
+                a.getOvertimeHours() + b.getOvertimeHours(),
+                a.getHolidayHours() + b.getHolidayHours(),
+                a.getWeeklyAllowanceHours() + b.getWeeklyAllowanceHours(),
+                a.getRegularPay() + b.getRegularPay(),
+                a.getNightPay() + b.getNightPay(),
+                a.getOvertimePay() + b.getOvertimePay(),
+                a.getHolidayPay() + b.getHolidayPay(),
+                a.getWeeklyAllowancePay() + b.getWeeklyAllowancePay(),
+                a.getTotalPay() + b.getTotalPay());
     }
 
-    private static double calculateNightHours(LocalDateTime start, LocalDateTime end) {
-        double nightHours = 0;
-        LocalDateTime current = start;
-        
-        while (current.isBefore(end)) {
-            int hour = current.getHour();
-            if (hour >= NIGHT_START_HOUR || hour < NIGHT_END_HOUR) {
-                LocalDateTime nextHour = current.plusHours(1);
-                if (nextHour.isAfter(end)) {
-                    nightHours += ChronoUnit.MINUTES.between(current, end) / 60.0;
-                } else {
-                    nightHours += 1.0;
-                }
+    /**
+     * 근무 목록으로 [payFromDay, payToDay) 기간(epoch 일)의 급여를 날짜별 시급과 매장 수당 규칙대로 계산
+     * 근무는 자정에서 나눠 날짜별로 계산하므로 같은 기간의 일자별 집계({@link #calculatePayrollFromRollups})와 결과가 같다.
+     * 시급은 {@link #getWageSchedule} 로 만든다 (현재 시급 하나로 만들면 시급 이력과 최저시급이 빠진다).
+     * 주휴수당을 온전한 주로 판정하려면 payFromDay 가 속한 주 월요일부터의 근무를 넘긴다.
+     */
+    @NonNull
+    public static PayrollResult calculatePayroll(@NonNull WageSchedule wages,
+                                                 @NonNull List<Shift> shifts,
+                                                 long payFromDay, long payToDay,
+                                                 @NonNull PayRuleSet rules) {
+        int section = TraceSections.begin("PayrollCalculator.calculatePayroll");
+        long started = Metrics.start();
+        try {
+            int count = shifts.size();
+            long[] starts = new long[count];
+            long[] ends = new long[count];
+            for (int i = 0; i < count; i++) {
+                Shift shift = shifts.get(i);
+                starts[i] = shift.getStartMinute();
+                ends[i] = shift.getEndMinute();
             }
-            current = current.plusHours(1);
+
+            PayrollEngine.Breakdown breakdown = new PayrollEngine.Breakdown();
+            PayrollEngine.calculateShifts(starts, ends, 0, count, payFromDay, payToDay,
+                    wages, rules.compile(), breakdown);
+            return toResult(breakdown);
+        } finally {
+            CALCULATE_TIMER.stop(started);
+            TraceSections.end(section);
         }
-        
-        return nightHours;
     }
 
-    private static boolean isHoliday(java.time.LocalDate date) {
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
-        // TODO: 공휴일 목록 추가 필요
+    /**
+     * 일자별 집계(shift_daily_rollup)로 [payFromDay, payToDay) 기간(epoch 일)의 급여를
+     * 날짜별 시급과 매장 수당 규칙대로 계산
+     * 근무 대신 날짜 단위로 야간/휴일/연장을 나누므로 자정을 넘는 근무는 날짜별로 나뉘어 계산된다.
+     * 주휴수당을 온전한 주로 판정하려면 payFromDay 가 속한 주 월요일부터의 집계를 넘긴다.
+     */
+    @NonNull
+    public static PayrollResult calculatePayrollFromRollups(@NonNull WageSchedule wages,
+                                                            @NonNull List<ShiftDailyRollup> rollups,
+                                                            long payFromDay, long payToDay,
+                                                            @NonNull PayRuleSet rules) {
+        long started = Metrics.start();
+        PayrollResult result = toResult(calculateBreakdown(wages, rollups, payFromDay, payToDay, rules.compile()));
+        ROLLUP_TIMER.stop(started);
+        return result;
+    }
+
+    @NonNull
+    private static PayrollEngine.Breakdown calculateBreakdown(@NonNull WageSchedule wages,
+                                                              @NonNull List<ShiftDailyRollup> rollups,
+                                                              long payFromDay, long payToDay,
+                                                              @NonNull PayPlan plan) {
+        PayrollReader.RollupColumns columns = PayrollReader.toColumns(rollups);
+        PayrollEngine.Breakdown breakdown = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateDays(columns.days, columns.minutes, columns.nightMinutes, 0, columns.size(),
+                payFromDay, payToDay, wages, plan, breakdown);
+        return breakdown;
+    }
+
+    /**
+     * 엔진 결과(분, 원)를 화면용 PayrollResult(시간, 원)로 변환
+     */
+    @NonNull
+    public static PayrollResult toResult(@NonNull PayrollEngine.Breakdown breakdown) {
+        return new PayrollResult(
+                breakdown.regularMinutes / 60.0,
+                breakdown.nightMinutes / 60.0,
+                breakdown.overtimeMinutes / 60.0,
+                breakdown.holidayMinutes / 60.0,
+                breakdown.weeklyAllowanceMinutes / 60.0,
+                (int) breakdown.regularPay, (int) breakdown.nightPay, (int) breakdown.overtimePay,
+                (int) breakdown.holidayPay, (int) breakdown.weeklyAllowancePay,
+                (int) breakdown.totalPay);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,272 @@
+package com.example.alba_pay_manager.util;
+
+import androidx.annotation.NonNull;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.data.EmployeeWage;
+import com.example.alba_pay_manager.data.MinimumWageSnapshot;
+import com.example.alba_pay_manager.data.PayrollAccumulator;
+import com.example.alba_pay_manager.data.SegmentTotals;
+import com.example.alba_pay_manager.data.ShiftDailyRollup;
+import com.example.alba_pay_manager.data.ShiftSegment;
+import com.example.alba_pay_manager.payroll.PayrollEngine;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+import com.example.alba_pay_manager.payroll.WeekKey;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 급여 계산에 쓰는 DB 읽기 경로 (누적 테이블, 일자별 집계, 시급 이력)
+ *
+ * PayrollCalculator 는 계산과 저장 순서만 정하고, 무엇을 어떤 열 배열로 읽는지는 여기서 정한다.
+ * 월은 [그 달 1일, 다음 달 1일) 이며, 첫 주의 주휴 판정을 위해 집계는 그 주 월요일부터 읽는다.
+ */
+final class PayrollReader {
+    private final AppDatabase database;
+
+    PayrollReader(@NonNull AppDatabase database) {
+        this.database = database;
+    }
+
+    static long monthStartDay(int year, int month) {
+        return LocalDate.of(year, month, 1).toEpochDay();
+    }
+
+    static long monthEndDay(int year, int month) {
+        return LocalDate.of(year, month, 1).plusMonths(1).toEpochDay();
+    }
+
+    /**
+     * 알바생의 날짜별 시급 (시급 이력, 해당 연도 최저시급을 하한으로)
+     * 이력이 없으면 현재 시급을 기간 전체에 쓴다.
+     */
+    @NonNull
+    WageSchedule wageSchedule(@NonNull Employee employee, int year) {
+        return wageSchedule(employee, LocalDate.of(year, 1, 1).toEpochDay(),
+                LocalDate.of(year + 1, 1, 1).toEpochDay());
+    }
+
+    /**
+     * [fromDay, toDay) 기간의 날짜별 시급 (연도가 바뀌면 그 날부터 새 연도 최저시급을 하한으로)
+     */
+    @NonNull
+    WageSchedule wageSchedule(@NonNull Employee employee, long fromDay, long toDay) {
+        List<EmployeeWage> history = database.employeeWageDao().getWageHistory(employee.getId());
+        int count = history.size();
+        long[] effectiveFrom = new long[count];
+        int[] wages = new int[count];
+        for (int i = 0; i < count; i++) {
+            effectiveFrom[i] = history.get(i).getEffectiveFrom();
+            wages[i] = history.get(i).getWage();
+        }
+        return withMinimumWages(wageSchedule(effectiveFrom, wages, 0, count, employee.getHourlyWage()),
+                fromDay, toDay);
+    }
+
+    /**
+     * 알바생들의 시급 이력을 쿼리 한 번으로 읽는다 (toDay 이전에 적용되는 이력만)
+     */
+    @NonNull
+    WageColumns wageColumns(long toDay) {
+        return new WageColumns(database.employeeWageDao().getWageHistoriesBefore(toDay));
+    }
+
+    /** 하한 없는 이력 (이력이 없으면 현재 시급 하나) */
+    private static WageSchedule wageSchedule(long[] effectiveFrom, int[] wages, int start, int end,
+                                             int currentWage) {
+        if (start == end) {
+            return WageSchedule.of(currentWage);
+        }
+        return WageSchedule.of(effectiveFrom, wages, start, end, 0);
+    }
+
+    /**
+     * [fromDay, toDay) 에 걸친 연도별 최저시급을 하한으로 (기간이 한 해 안이면 하한 하나)
+     */
+    @NonNull
+    static WageSchedule withMinimumWages(@NonNull WageSchedule wages, long fromDay, long toDay) {
+        MinimumWageSnapshot minimumWages = MinimumWageSnapshot.get();
+        int firstYear = LocalDate.ofEpochDay(fromDay).getYear();
+        int lastYear = LocalDate.ofEpochDay(Math.max(fromDay, toDay - 1)).getYear();
+        if (firstYear == lastYear) {
+            return wages.withFloor(minimumWages.wageOf(firstYear));
+        }
+        int years = lastYear - firstYear + 1;
+        long[] fromDays = new long[years];
+        int[] floors = new int[years];
+        for (int i = 0; i < years; i++) {
+            fromDays[i] = LocalDate.of(firstYear + i, 1, 1).toEpochDay();
+            floors[i] = minimumWages.wageOf(firstYear + i);
+        }
+        return wages.withFloors(fromDays, floors);
+    }
+
+    /**
+     * 한 알바생의 월 일자별 집계 (첫 주 월요일부터)
+     */
+    @NonNull
+    List<ShiftDailyRollup> monthRollups(long employeeId, int year, int month) {
+        return database.shiftRollupDao().getRollupsByEmployee(employeeId,
+                WeekKey.mondayOf(monthStartDay(year, month)), monthEndDay(year, month));
+    }
+
+    /**
+     * 누적 테이블의 월 분 값을 out 에 채운다 (행이 없으면 0)
+     * 누적 트리거는 토/일요일만 휴일로 보므로, 근무 구간(shift_segment)에 휴일로 표시된 평일의
+     * 일반·연장 분을 휴일 분으로 옮긴다.
+     */
+    void accumulatedMinutes(long employeeId, int year, int month, @NonNull PayrollEngine.Breakdown out) {
+        PayrollAccumulator accumulator = database.payrollAccumulatorDao()
+                .getAccumulator(employeeId, year, month);
+        if (accumulator == null) {
+            return;
+        }
+        out.totalMinutes = accumulator.getTotalMinutes();
+        out.regularMinutes = accumulator.getRegularMinutes();
+        out.nightMinutes = accumulator.getNightMinutes();
+        out.overtimeMinutes = accumulator.getOvertimeMinutes();
+        out.holidayMinutes = accumulator.getHolidayMinutes();
+        out.weeklyAllowanceMinutes = accumulator.getWeeklyAllowanceMinutes();
+
+        // 근무 구간에 표시된 평일 휴일 분을 날짜별로 모아 옮긴다 ((일, 속성) 순으로 온다)
+        List<SegmentTotals> holidays = database.shiftSegmentDao().getWeekdayHolidayTotalsByEmployee(
+                employeeId, monthStartDay(year, month), monthEndDay(year, month));
+        int minutes = 0;
+        int nightMinutes = 0;
+        for (int i = 0; i < holidays.size(); i++) {
+            SegmentTotals totals = holidays.get(i);
+            minutes += (int) totals.minutes;
+            if ((totals.kind & ShiftSegment.NIGHT) != 0) {
+                nightMinutes += (int) totals.minutes;
+            }
+            if (i + 1 == holidays.size() || holidays.get(i + 1).day != totals.day) {
+                PayrollEngine.reclassifyAsHoliday(minutes, nightMinutes, out);
+                minutes = 0;
+                nightMinutes = 0;
+            }
+        }
+    }
+
+    /**
+     * 전체 알바생의 월 일자별 집계와 시급 이력을 열 배열로 읽는다 (각각 쿼리 한 번)
+     */
+    @NonNull
+    MonthColumns monthColumns(int year, int month) {
+        long toDay = monthEndDay(year, month);
+        List<ShiftDailyRollup> rollups = database.shiftRollupDao()
+                .getRollups(WeekKey.mondayOf(monthStartDay(year, month)), toDay);
+        return new MonthColumns(rollups, wageColumns(toDay), MinimumWageSnapshot.get().wageOf(year));
+    }
+
+    /**
+     * 일자별 집계를 엔진 입력 열로 옮긴다
+     */
+    @NonNull
+    static RollupColumns toColumns(@NonNull List<ShiftDailyRollup> rollups) {
+        return new RollupColumns(rollups);
+    }
+
+    /**
+     * 일자별 집계 열 (employeeId, day 순으로 정렬되어 있음)
+     */
+    static class RollupColumns {
+        final long[] employeeIds;
+        final long[] days;
+        final int[] minutes;
+        final int[] nightMinutes;
+
+        RollupColumns(List<ShiftDailyRollup> rollups) {
+            int count = rollups.size();
+            employeeIds = new long[count];
+            days = new long[count];
+            minutes = new int[count];
+            nightMinutes = new int[count];
+            for (int i = 0; i < count; i++) {
+                ShiftDailyRollup rollup = rollups.get(i);
+                employeeIds[i] = rollup.getEmployeeId();
+                days[i] = rollup.getDay();
+                minutes[i] = rollup.getMinutes();
+                nightMinutes[i] = rollup.getNightMinutes();
+            }
+        }
+
+        int size() {
+            return days.length;
+        }
+
+        /** 정렬된 employeeId 열에서 이 알바생 구간의 시작 (끝은 employeeId + 1 의 시작) */
+        int startOf(long employeeId) {
+            return lowerBound(employeeIds, employeeId);
+        }
+    }
+
+    /**
+     * 여러 알바생의 시급 이력 열 ((employeeId, 적용 시작일) 순)
+     */
+    static final class WageColumns {
+        private final long[] employeeIds;
+        private final long[] effectiveFrom;
+        private final int[] wages;
+
+        WageColumns(List<EmployeeWage> history) {
+            int count = history.size();
+            employeeIds = new long[count];
+            effectiveFrom = new long[count];
+            wages = new int[count];
+            for (int i = 0; i < count; i++) {
+                EmployeeWage wage = history.get(i);
+                employeeIds[i] = wage.getEmployeeId();
+                effectiveFrom[i] = wage.getEffectiveFrom();
+                wages[i] = wage.getWage();
+            }
+        }
+
+        /**
+         * 알바생의 이력 구간을 이진 탐색해 복사 없이 가리킨다 (하한 없음)
+         */
+        @NonNull
+        WageSchedule scheduleOf(@NonNull Employee worker) {
+            int start = lowerBound(employeeIds, worker.getId());
+            int end = lowerBound(employeeIds, worker.getId() + 1);
+            return wageSchedule(effectiveFrom, wages, start, end, worker.getHourlyWage());
+        }
+    }
+
+    /**
+     * 월 계산에 필요한 전체 알바생의 집계 열과 시급 이력 열
+     */
+    static final class MonthColumns extends RollupColumns {
+        private final WageColumns wages;
+        final int minWage; // 해당 연도 최저시급 (없으면 0)
+
+        MonthColumns(List<ShiftDailyRollup> rollups, WageColumns wages, int minWage) {
+            super(rollups);
+            this.wages = wages;
+            this.minWage = minWage;
+        }
+
+        /**
+         * 알바생의 이력 구간에 해당 연도 최저시급을 하한으로
+         */
+        @NonNull
+        WageSchedule scheduleOf(@NonNull Employee worker) {
+            return wages.scheduleOf(worker).withFloor(minWage);
+        }
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.alba_pay_manager.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기간 급여 계산 결과의 LRU 캐시 (앱 전체 공유)
+ *
+ * 키는 (알바생, [fromDay, toDay), 수당 규칙, 계산 경로, 데이터 버전)이다.
+ * 계산 경로는 결과를 어떻게 만들었는지(근무 목록, 저장된 월 급여와 일자별 집계)를 구분한다.
+ * 경로마다 입력(읽는 근무 범위, 월 단위 합산)이 달라 한 화면의 결과가 다른 화면에 나오지 않게 한다.
+ * 데이터 버전은 급여에 영향을 주는 테이블에 쓴 화면이 쓰기 직후 {@link #dataChanged()} 로 같은 스레드에서 올린다.
+ * InvalidationTracker 알림은 트랜잭션이 끝난 뒤 비동기로 오므로 그것만으로는 쓰기 직후의 조회가 옛 결과를 볼 수 있다.
+ * 앱 DB 의 InvalidationTracker 도 계속 버전을 올려 DAO 밖의 변경(트리거, 다른 경로)을 놓치지 않는다.
+ * 이 감시는 AppDatabase.getInstance 가 DB 를 만들 때 다른 감시와 함께 한 번 등록하므로,
+ * 캐시는 앱 DB 하나에만 묶이고 테스트용 메모리 DB 에는 묶이지 않는다.
+ * 버전이 오르면 저장된 결과를 모두 버린다. 계산을 시작할 때 읽은 버전으로 저장하므로
+ * 계산 도중 데이터가 바뀌면 그 결과는 다시 조회되지 않는다.
+ * (Payroll, payroll_dirty 는 위 테이블에서 파생되므로 보지 않는다. 저장된 월 급여를 갱신할 때마다 버리지 않기 위함)
+ *
+ * PayrollCalculator.PayrollResult 는 불변이므로 같은 객체를 여러 화면에 그대로 돌려준다.
+ */
+public final class PayrollResultCache {
+    /** 근무가 없어 결과가 없음을 저장할 때 쓰는 값 (== 로 비교한다) */
+    public static final PayrollCalculator.PayrollResult EMPTY =
+            new PayrollCalculator.PayrollResult(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /** 기간의 근무 목록으로 계산한 결과 (급여 계산 화면) */
+    public static final int PATH_SHIFTS = 0;
+    /** 저장된 월 급여와 일자별 집계를 합산한 결과 (급여 내역 화면) */
+    public static final int PATH_MONTHS = 1;
+
+    private static final int CAPACITY = 256;
+
+    private static volatile PayrollResultCache instance;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final int capacity;
+    private final LinkedHashMap<Key, PayrollCalculator.PayrollResult> entries;
+
+    private PayrollResultCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Key, PayrollCalculator.PayrollResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PayrollCalculator.PayrollResult> eldest) {
+                if (size() > PayrollResultCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 앱 DB({@link AppDatabase#getInstance})의 계산 결과를 담는 공유 캐시
+     */
+    @NonNull
+    public static PayrollResultCache get() {
+        PayrollResultCache cache = instance;
+        if (cache == null) {
+            synchronized (PayrollResultCache.class) {
+                cache = instance;
+                if (cache == null) {
+                    cache = new PayrollResultCache(CAPACITY);
+                    registerGauges(cache);
+                    instance = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * 급여에 영향을 주는 테이블(근무, 알바생, 시급 이력 등)에 쓴 직후 쓰기 스레드에서 부른다
+     * (앱 DB 의 InvalidationTracker 알림에서도 부른다)
+     * 공유 캐시를 아직 만들지 않았으면 버릴 결과도 없다.
+     */
+    public static void dataChanged() {
+        PayrollResultCache cache = instance;
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    private static void registerGauges(PayrollResultCache cache) {
+        Metrics.gauge("payroll_cache.size", cache::size);
+        Metrics.gauge("payroll_cache.hits", cache::getHitCount);
+        Metrics.gauge("payroll_cache.misses", cache::getMissCount);
+        Metrics.gauge("payroll_cache.evictions", cache::getEvictionCount);
+        Metrics.gauge("payroll_cache.hit_rate", cache::getHitRate);
+    }
+
+    /**
+     * 현재 데이터 버전 (계산에 쓸 데이터를 읽기 전에 가져와 {@link #put} 에 넘긴다)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 저장된 결과 (없으면 null, 근무가 없던 결과는 {@link #EMPTY})
+     */
+    @Nullable
+    public PayrollCalculator.PayrollResult get(long employeeId, long fromDay, long toDay,
+                                              @NonNull PayRuleSet rules, int path, long version) {
+        PayrollCalculator.PayrollResult result;
+        synchronized (entries) {
+            result = entries.get(new Key(employeeId, fromDay, toDay, rules, path, version));
+        }
+        (result != null ? hits : misses).incrementAndGet();
+        return result;
+    }
+
+    public void put(long employeeId, long fromDay, long toDay, @NonNull PayRuleSet rules, int path,
+                    long version, @NonNull PayrollCalculator.PayrollResult result) {
+        if (version != this.version.get()) {
+            return; // 계산 도중 데이터가 바뀌었다
+        }
+        synchronized (entries) {
+            entries.put(new Key(employeeId, fromDay, toDay, rules, path, version), result);
+        }
+    }
+
+    /**
+     * 데이터 버전을 올리고 저장된 결과를 모두 버린다
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /** 적중률 (조회가 없었으면 0) */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "PayrollResultCache{size=%d/%d, hits=%d, misses=%d, evictions=%d, version=%d}",
+                size(), capacity, getHitCount(), getMissCount(), getEvictionCount(), getVersion());
+    }
+
+    private static final class Key {
+        final long employeeId;
+        final long fromDay;
+        final long toDay;
+        final PayRuleSet rules; // equals/hashCode 가 규칙 구성으로 정해진다
+        final int path;
+        final long version;
+
+        Key(long employeeId, long fromDay, long toDay, PayRuleSet rules, int path, long version) {
+            this.employeeId = employeeId;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.rules = rules;
+            this.path = path;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return employeeId == other.employeeId && fromDay == other.fromDay && toDay == other.toDay
+                    && path == other.path && version == other.version && rules.equals(other.rules);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(employeeId);
+            hash = hash * 31 + Long.hashCode(fromDay);
+            hash = hash * 31 + Long.hashCode(toDay);
+            hash = hash * 31 + rules.hashCode();
+            hash = hash * 31 + path;
+            return hash * 31 + Long.hashCode(version);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.alba_pay_manager.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 끝난 추적 구간을 고정 크기 링 버퍼에 남기는 기록기
+ *
+ * 기기 밖(JVM 단위 테스트)에서는 androidx.tracing 이 동작하지 않으므로 {@link TraceSections} 가
+ * 같은 구간을 여기에 남겨 "이 경로가 어떤 구간을 어떤 순서로 지나는가"를 확인할 수 있게 한다.
+ * 버퍼가 차면 가장 오래된 구간부터 덮어쓴다. 기록은 잠금 없이 슬롯 하나를 원자적으로 바꾼다.
+ */
+public final class SpanRecorder {
+    /**
+     * 끝난 구간 하나 (불변)
+     */
+    public static final class Span {
+        public final String name;
+        public final String thread;
+        public final int depth;        // 같은 스레드에서 바깥 구간 수
+        public final long startNanos;  // System.nanoTime 기준
+        public final long durationNanos;
+
+        Span(String name, String thread, int depth, long startNanos, long durationNanos) {
+            this.name = name;
+            this.thread = thread;
+            this.depth = depth;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s[%s depth=%d %dus]", name, thread, depth, durationNanos / 1000);
+        }
+    }
+
+    private final AtomicReferenceArray<Span> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    public SpanRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("용량은 1 이상이어야 합니다.");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void record(@NonNull String name, int depth, long startNanos, long durationNanos) {
+        long index = written.getAndIncrement();
+        slots.set((int) (index % slots.length()),
+                new Span(name, Thread.currentThread().getName(), depth, startNanos, durationNanos));
+    }
+
+    /**
+     * 남아 있는 구간 (끝난 순서, 오래된 것부터)
+     */
+    @NonNull
+    public List<Span> spans() {
+        long end = written.get();
+        long start = Math.max(0, end - slots.length());
+        List<Span> spans = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            Span span = slots.get((int) (i % slots.length()));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * 이름이 같은 구간만
+     */
+    @NonNull
+    public List<Span> spans(@NonNull String name) {
+        List<Span> matching = new ArrayList<>();
+        for (Span span : spans()) {
+            if (span.name.equals(name)) {
+                matching.add(span);
+            }
+        }
+        return matching;
+    }
+
+    /** 지금까지 기록한 구간 수 (덮어쓴 것 포함) */
+    public long getRecordedCount() {
+        return written.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        written.set(0);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.alba_pay_manager.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * 이름 붙은 추적 구간 (Perfetto/systrace 에 표시)
+ *
+ * 켜져 있으면 androidx.tracing 으로 구간을 열고 닫는다. 꺼져 있으면 volatile 읽기 한 번으로 끝난다.
+ * {@link SpanRecorder} 를 설치하면 켜짐 여부와 관계없이 같은 구간을 androidx.tracing 대신 링 버퍼에 남긴다
+ * (JVM 단위 테스트에서 구간을 확인하는 용도). 구간은 연 스레드에서 닫아야 한다.
+ *
+ * <pre>
+ * int section = TraceSections.begin("PayrollCalculator.calculatePayroll");
+ * try {
+ *     ...
+ * } finally {
+ *     TraceSections.end(section);
+ * }
+ * </pre>
+ */
+public final class TraceSections {
+    private TraceSections() {} // 인스턴스화 방지
+
+    private static final String PREF_NAME = "trace_prefs";
+    private static final String KEY_ENABLED = "enabled";
+
+    /** begin 이 구간을 열지 않았음 */
+    public static final int NONE = 0;
+    private static final int SYSTEM = 1;
+    private static final int RECORDED = 2;
+
+    private static volatile boolean enabled = false;
+    private static volatile SpanRecorder recorder;
+
+    private static final ThreadLocal<ArrayDeque<Frame>> FRAMES = new ThreadLocal<ArrayDeque<Frame>>() {
+        @Override
+        protected ArrayDeque<Frame> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    /**
+     * 저장된 켜짐 여부를 읽는다 (화면 진입 시 호출, 여러 번 불러도 된다)
+     */
+    public static void init(@NonNull Context context) {
+        enabled = prefs(context).getBoolean(KEY_ENABLED, false);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 켜거나 끄고 그 상태를 저장한다
+     */
+    public static void setEnabled(@NonNull Context context, boolean enabled) {
+        TraceSections.enabled = enabled;
+        prefs(context).edit().putBoolean(KEY_ENABLED, enabled).apply();
+    }
+
+    /**
+     * 구간을 androidx.tracing 대신 recorder 에 남긴다 (null 이면 원래대로)
+     */
+    public static void setRecorder(@Nullable SpanRecorder recorder) {
+        TraceSections.recorder = recorder;
+    }
+
+    /**
+     * 구간을 연다
+     *
+     * @return {@link #end} 에 넘길 값 (꺼져 있으면 {@link #NONE})
+     */
+    public static int begin(@NonNull String name) {
+        if (recorder != null) {
+            FRAMES.get().push(new Frame(name, System.nanoTime()));
+            return RECORDED;
+        }
+        if (!enabled) {
+            return NONE;
+        }
+        Trace.beginSection(name);
+        return SYSTEM;
+    }
+
+    /**
+     * begin 으로 연 구간을 닫는다
+     */
+    public static void end(int section) {
+        if (section == SYSTEM) {
+            Trace.endSection();
+        } else if (section == RECORDED) {
+            ArrayDeque<Frame> frames = FRAMES.get();
+            Frame frame = frames.poll();
+            SpanRecorder current = recorder;
+            if (frame != null && current != null) {
+                current.record(frame.name, frames.size(), frame.startNanos, System.nanoTime() - frame.startNanos);
+            }
+        }
+    }
+
+    /**
+     * 구간 안에서 값을 계산한다
+     */
+    public static <T> T trace(@NonNull String name, @NonNull Supplier<T> body) {
+        int section = begin(name);
+        try {
+            return body.get();
+        } finally {
+            end(section);
+        }
+    }
+
+    /**
+     * 구간 안에서 실행한다
+     */
+    public static void trace(@NonNull String name, @NonNull Runnable body) {
+        int section = begin(name);
+        try {
+            body.run();
+        } finally {
+            end(section);
+        }
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    private static final class Frame {
+        final String name;
+        final long startNanos;
+
+        Frame(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+    }
+}
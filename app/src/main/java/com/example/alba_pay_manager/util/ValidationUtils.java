@@ -95,10 +95,20 @@ public class ValidationUtils {
     }
 
     /**
-     * 근무 기록 검증
+     * 근무 기록 검증 (지금부터 하루 뒤까지 끝나는 근무만 허용)
      */
     @NonNull
     public static String validateShift(@NonNull Shift shift) {
+        return validateShift(shift, LocalDateTime.now().plusDays(1));
+    }
+
+    /**
+     * 근무 기록 검증
+     *
+     * @param latestEnd 허용하는 가장 늦은 종료 시각 (미리 짜는 근무표는 그만큼 뒤로 늘려 넘긴다)
+     */
+    @NonNull
+    public static String validateShift(@NonNull Shift shift, @NonNull LocalDateTime latestEnd) {
         LocalDateTime start = shift.getStartTime();
         LocalDateTime end = shift.getEndTime();
 
@@ -115,7 +125,7 @@ public class ValidationUtils {
             return "1년 이상 지난 날짜의 근무 기록은 등록할 수 없습니다.";
         }
 
-        if (end.isAfter(LocalDateTime.now().plusDays(1))) {
+        if (end.isAfter(latestEnd)) {
             return "미래의 근무 기록은 등록할 수 없습니다.";
         }
 
@@ -0,0 +1,138 @@
+package com.example.alba_pay_manager.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.database.Cursor;
+import android.database.SQLException;
+
+import androidx.room.migration.Migration;
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 내보낸 스키마(app/schemas) 로 이전 버전 DB 를 만들고 마이그레이션 뒤 스키마와 데이터를 확인
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MigrationTest {
+    private static final String TEST_DB = "migration-test";
+    private static final Migration[] ALL_MIGRATIONS = {
+        AppDatabase.MIGRATION_1_2, AppDatabase.MIGRATION_2_3, AppDatabase.MIGRATION_3_4,
+        AppDatabase.MIGRATION_4_5, AppDatabase.MIGRATION_5_6, AppDatabase.MIGRATION_6_7,
+        AppDatabase.MIGRATION_7_8, AppDatabase.MIGRATION_8_9, AppDatabase.MIGRATION_9_10
+    };
+
+    private static final LocalDateTime ISO_START = LocalDateTime.of(2024, 3, 11, 9, 0);
+    private static final LocalDateTime EPOCH_START = LocalDateTime.of(2024, 3, 13, 9, 0);
+
+    @Rule
+    public MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(), AppDatabase.class);
+
+    /**
+     * v1 데이터: ISO 문자열 근무, epoch 초 근무, 읽을 수 없는 근무, 48시간 근무, 월 급여 한 건
+     */
+    private void createVersion1() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, 1)) {
+            db.execSQL("INSERT INTO Employee (id, username, password, name, hourlyWage, role) " +
+                    "VALUES (1, 'kim', 'pw', '김알바', 10000, 'WORKER')");
+            db.execSQL("INSERT INTO Shift (id, employeeId, startTime, endTime) VALUES (1, 1, ?, ?)",
+                    new Object[] {ISO_START.toString(), ISO_START.plusHours(8).toString()});
+            long epochSecond = EPOCH_START.toEpochSecond(ZoneOffset.UTC);
+            db.execSQL("INSERT INTO Shift (id, employeeId, startTime, endTime) VALUES (2, 1, ?, ?)",
+                    new Object[] {epochSecond, epochSecond + 8 * 3600});
+            db.execSQL("INSERT INTO Shift (id, employeeId, startTime, endTime) VALUES (3, 1, 'garbage', 'garbage')");
+            db.execSQL("INSERT INTO Shift (id, employeeId, startTime, endTime) " +
+                    "VALUES (4, 1, '2024-03-12T09:00', '2024-03-14T09:00')");
+            db.execSQL("INSERT INTO Payroll (employeeId, year, month, totalMinutes, grossPay, netPay, " +
+                    "insurance, incomeTax, localTax) VALUES (1, 2024, 3, 960, 160000, 150000, 10000, 0, 0)");
+        }
+    }
+
+    private static long count(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            assertTrue(cursor.moveToFirst());
+            return cursor.getLong(0);
+        }
+    }
+
+    @Test
+    public void migrate1To2ConvertsTimesAndDropsInvalidShifts() throws IOException {
+        createVersion1();
+        try (SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DB, 2, true,
+                AppDatabase.MIGRATION_1_2);
+             Cursor cursor = db.query("SELECT id, startMinute, endMinute FROM Shift ORDER BY id")) {
+            assertTrue(cursor.moveToNext());
+            assertEquals(1, cursor.getLong(0));
+            assertEquals(Converters.toEpochMinute(ISO_START), cursor.getLong(1));
+            assertEquals(Converters.toEpochMinute(ISO_START) + 480, cursor.getLong(2));
+            assertTrue(cursor.moveToNext());
+            assertEquals(2, cursor.getLong(0));
+            assertEquals(Converters.toEpochMinute(EPOCH_START), cursor.getLong(1));
+            assertFalse(cursor.moveToNext());
+        }
+    }
+
+    @Test
+    public void migrate1To10BackfillsDerivedTables() throws IOException {
+        createVersion1();
+        try (SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DB, 10, true, ALL_MIGRATIONS)) {
+            long isoDay = ISO_START.toLocalDate().toEpochDay();
+            assertEquals(480, count(db, "SELECT minutes FROM shift_daily_rollup " +
+                    "WHERE employeeId = 1 AND day = " + isoDay));
+            assertEquals(2, count(db, "SELECT COUNT(*) FROM shift_daily_rollup"));
+            assertEquals(960, count(db, "SELECT totalMinutes FROM payroll_accumulator " +
+                    "WHERE employeeId = 1 AND year = 2024 AND month = 3"));
+            assertEquals(1, count(db, "SELECT COUNT(*) FROM payroll_dirty " +
+                    "WHERE employeeId = 1 AND year = 2024 AND month = 3"));
+            assertEquals(10000, count(db, "SELECT wage FROM employee_wage_history " +
+                    "WHERE employeeId = 1 AND effectiveFrom = 0"));
+            assertEquals(960, count(db, "SELECT SUM(minutes) FROM shift_segment"));
+
+            // 마이그레이션이 설치한 트리거가 새 근무에도 동작한다
+            long start = Converters.toEpochMinute(LocalDate.of(2024, 3, 15).atTime(9, 0));
+            db.execSQL("INSERT INTO Shift (employeeId, startMinute, endMinute) VALUES (1, ?, ?)",
+                    new Object[] {start, start + 240});
+            assertEquals(1200, count(db, "SELECT totalMinutes FROM payroll_accumulator " +
+                    "WHERE employeeId = 1 AND year = 2024 AND month = 3"));
+            try {
+                db.execSQL("INSERT INTO Shift (employeeId, startMinute, endMinute) VALUES (1, ?, ?)",
+                        new Object[] {start, start});
+                fail("0분 근무가 저장되었습니다.");
+            } catch (SQLException expected) {
+                // 근무 길이 트리거가 거부한다
+            }
+        }
+    }
+
+    @Test
+    public void migrate9To10DeletesZeroLengthShifts() throws IOException {
+        long start = Converters.toEpochMinute(ISO_START);
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, 9)) {
+            db.execSQL("INSERT INTO Employee (id, username, password, name, hourlyWage, role) " +
+                    "VALUES (1, 'kim', 'pw', '김알바', 10000, 'WORKER')");
+            db.execSQL("INSERT INTO Shift (id, employeeId, startMinute, endMinute) VALUES (1, 1, ?, ?)",
+                    new Object[] {start, start + 480});
+            db.execSQL("INSERT INTO Shift (id, employeeId, startMinute, endMinute) VALUES (2, 1, ?, ?)",
+                    new Object[] {start, start});
+        }
+        try (SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DB, 10, true,
+                AppDatabase.MIGRATION_9_10)) {
+            assertEquals(1, count(db, "SELECT COUNT(*) FROM Shift"));
+            assertEquals(1, count(db, "SELECT id FROM Shift"));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.alba_pay_manager.data;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 테스트용 합성 매장 데이터 생성기 (같은 설정과 seed 면 항상 같은 데이터)
+ *
+ * 알바생마다 주 근무일 수, 선호 시간대, 시급을 정하고 기간 동안 근무를 만든다.
+ * 근무는 오전/오후/저녁/야간(자정 넘김) 시간대가 섞이며, 주말 근무와 연 1~2회 시급 변경도 포함한다.
+ * 근무는 알바생별로 겹치지 않고, 한 트랜잭션 안에서 묶음 단위로 넣으므로 트리거가 만드는 집계도 함께 채워진다.
+ */
+public final class WorkforceGenerator {
+    /** 시간대 (시작 시, 기본 길이 분) */
+    private static final int[][] SLOTS = {
+        {9, 6 * 60},   // 오전
+        {13, 5 * 60},  // 오후
+        {17, 6 * 60},  // 저녁 (22시 이후 야간 일부)
+        {22, 8 * 60}   // 야간 (자정 넘김)
+    };
+    private static final int BATCH_SIZE = 2_000;
+
+    /**
+     * 생성 설정 (불변)
+     */
+    public static final class Config {
+        /** 앱 초기 데이터 정도의 기준 규모: 알바생 4명, 1년 */
+        public static final Config BASE = new Config(4, 365, 19_358, 2025L, 25, 35);
+
+        final int workers;
+        final int days;
+        final long firstDay;      // epoch 일
+        final long seed;
+        final int nightPercent;   // 야간 시간대 근무 비율 (%)
+        final int weekendPercent; // 주말 근무 비율 (%)
+
+        public Config(int workers, int days, long firstDay, long seed, int nightPercent, int weekendPercent) {
+            if (workers <= 0 || days <= 0) {
+                throw new IllegalArgumentException("알바생 수와 기간은 1 이상이어야 합니다.");
+            }
+            this.workers = workers;
+            this.days = days;
+            this.firstDay = firstDay;
+            this.seed = seed;
+            this.nightPercent = nightPercent;
+            this.weekendPercent = weekendPercent;
+        }
+
+        /** 알바생 수를 factor 배로 늘린 설정 (기간과 분포는 그대로) */
+        @NonNull
+        public Config scaled(int factor) {
+            return new Config(workers * factor, days, firstDay, seed, nightPercent, weekendPercent);
+        }
+
+        /** 기간을 바꾼 설정 */
+        @NonNull
+        public Config withDays(int days) {
+            return new Config(workers, days, firstDay, seed, nightPercent, weekendPercent);
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public long getFirstDay() {
+            return firstDay;
+        }
+
+        public long getLastDay() {
+            return firstDay + days;
+        }
+    }
+
+    /**
+     * 생성 결과
+     */
+    public static final class Summary {
+        public final int workers;
+        public final int shifts;
+        public final int wageChanges;
+        public final long elapsedMillis;
+
+        Summary(int workers, int shifts, int wageChanges, long elapsedMillis) {
+            this.workers = workers;
+            this.shifts = shifts;
+            this.wageChanges = wageChanges;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+
+    private WorkforceGenerator() {} // 인스턴스화 방지
+
+    /**
+     * DB 에 알바생, 시급 이력, 근무를 넣는다
+     */
+    @NonNull
+    public static Summary generate(@NonNull AppDatabase db, @NonNull Config config) {
+        long started = System.currentTimeMillis();
+        int[] counts = new int[2]; // 근무, 시급 변경
+        db.runInTransaction(() -> {
+            Random random = new Random(config.seed);
+            List<Shift> batch = new ArrayList<>(BATCH_SIZE);
+            for (int w = 0; w < config.workers; w++) {
+                int wage = 9_860 + random.nextInt(15) * 100;
+                Employee worker = new Employee("load" + w, "load" + w, "부하테스트" + w, wage, "WORKER");
+                long workerId = db.employeeDao().insert(worker);
+
+                // 연 1~2회 시급 인상 (이력 트리거가 만든 첫 이력 뒤에 더한다)
+                for (long day = config.firstDay + 30 + random.nextInt(180); day < config.getLastDay();
+                     day += 180 + random.nextInt(185)) {
+                    wage += 100 + random.nextInt(5) * 100;
+                    db.employeeWageDao().insert(new EmployeeWage(workerId, day, wage));
+                    counts[1]++;
+                }
+
+                int workdaysPerWeek = 2 + random.nextInt(4); // 주 2~5일
+                int preferredSlot = random.nextInt(SLOTS.length);
+                long nextFree = Long.MIN_VALUE; // 겹치지 않도록 직전 근무의 종료 분
+                for (long day = config.firstDay; day < config.getLastDay(); day++) {
+                    boolean weekend = Math.floorMod(day + 3, 7) >= 5;
+                    int chance = weekend ? config.weekendPercent : workdaysPerWeek * 100 / 5;
+                    if (random.nextInt(100) >= chance) {
+                        continue;
+                    }
+                    int slot = random.nextInt(100) < config.nightPercent ? SLOTS.length - 1
+                            : random.nextInt(3) == 0 ? random.nextInt(SLOTS.length - 1) : preferredSlot;
+                    long start = day * 1440 + SLOTS[slot][0] * 60 + random.nextInt(4) * 15;
+                    long end = start + SLOTS[slot][1] + (random.nextInt(9) - 4) * 15;
+                    if (start < nextFree) {
+                        continue;
+                    }
+                    batch.add(new Shift(workerId, start, end));
+                    nextFree = end;
+                    if (batch.size() == BATCH_SIZE) {
+                        db.shiftDao().insertAll(batch);
+                        counts[0] += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                db.shiftDao().insertAll(batch);
+                counts[0] += batch.size();
+            }
+        });
+        return new Summary(config.workers, counts[0], counts[1], System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.alba_pay_manager.util;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import android.util.Log;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.data.ShiftPageKey;
+import com.example.alba_pay_manager.data.WorkforceGenerator;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+import com.example.alba_pay_manager.payroll.WeekKey;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * DAO 쿼리와 화면 로드 경로의 부하 측정 (기본으로는 건너뛴다)
+ *
+ * 규모마다 메모리 DB 를 새로 만들어 {@link WorkforceGenerator} 로 채우고,
+ * ShiftDao / EmployeeDao / PayrollDao 조회와 캘린더, 급여 계산, 급여 조회 화면이 하는 조회+계산을
+ * 여러 번 실행해 중앙값/p95/최대 시간을 CSV 로 남긴다. 정확성은 {@link DaoLoadTest} 가 본다.
+ *
+ * <pre>
+ * ./gradlew :app:testDebugUnitTest --tests '*DaoLoadBenchmark' -PdaoLoad [-PdaoLoadScales=10,100]
+ * </pre>
+ * 결과는 app/build/reports/dao-load.csv 에 쓴다.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DaoLoadBenchmark {
+    private static final String TAG = "DaoLoadBenchmark";
+    /** 기준 규모(앱 초기 데이터 정도) 대비 배수 */
+    private static final String DEFAULT_SCALES = "10,100,1000";
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 10;
+    private static final String HEADER = "scale,workers,shifts,query,iterations,rows,median_ms,p95_ms,max_ms";
+
+    @Test
+    public void measureScales() throws IOException {
+        assumeTrue("-PdaoLoad 로 실행할 때만 측정한다", Boolean.getBoolean("daoLoad"));
+        File csv = new File(System.getProperty("daoLoad.csv", "build/reports/dao-load.csv"));
+        File dir = csv.getAbsoluteFile().getParentFile();
+        assertTrue(dir.isDirectory() || dir.mkdirs());
+
+        int rows = 0;
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(csv), StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            out.write('\n');
+            for (String scale : System.getProperty("daoLoad.scales", DEFAULT_SCALES).split(",")) {
+                rows += runScale(Integer.parseInt(scale.trim()), out);
+                out.flush();
+            }
+        }
+        Log.i(TAG, "부하 측정 결과 " + rows + "행을 " + csv + " 에 썼습니다.");
+        assertTrue(rows > 0);
+    }
+
+    private static int runScale(int scale, Writer out) throws IOException {
+        WorkforceGenerator.Config config = WorkforceGenerator.Config.BASE.scaled(scale);
+        AppDatabase db = AppDatabase.createInMemory(ApplicationProvider.getApplicationContext());
+        try {
+            WorkforceGenerator.Summary summary = WorkforceGenerator.generate(db, config);
+            Log.i(TAG, String.format(Locale.ROOT, "%dx: 알바생 %d명, 근무 %d건 생성 (%dms)",
+                    scale, summary.workers, summary.shifts, summary.elapsedMillis));
+            String prefix = scale + "," + summary.workers + "," + summary.shifts + ",";
+
+            // 기간 가운데 달을 조회 대상으로 쓴다
+            LocalDate middle = LocalDate.ofEpochDay((config.getFirstDay() + config.getLastDay()) / 2);
+            LocalDate monthStart = middle.withDayOfMonth(1);
+            LocalDate monthEnd = monthStart.plusMonths(1);
+            LocalDateTime start = monthStart.atStartOfDay();
+            LocalDateTime end = monthEnd.atStartOfDay();
+            int year = monthStart.getYear();
+            int month = monthStart.getMonthValue();
+            long day = middle.toEpochDay();
+            List<Employee> workers = db.employeeDao().getAllWorkers();
+            Employee worker = workers.get(workers.size() / 2);
+            long workerId = worker.getId();
+            PayrollCalculator calculator = new PayrollCalculator(db);
+
+            int rows = 0;
+            // EmployeeDao
+            rows += measure(out, prefix, "EmployeeDao.getAllWorkers", () -> db.employeeDao().getAllWorkers());
+            rows += measure(out, prefix, "EmployeeDao.getAllWorkersOrdered",
+                    () -> db.employeeDao().getAllWorkersOrdered());
+            rows += measure(out, prefix, "EmployeeDao.getEmployeeById",
+                    () -> db.employeeDao().getEmployeeById(workerId));
+            rows += measure(out, prefix, "EmployeeDao.getWorkerCount", () -> db.employeeDao().getWorkerCount());
+            // ShiftDao
+            rows += measure(out, prefix, "ShiftDao.getShiftsOverlappingByEmployee",
+                    () -> db.shiftDao().getShiftsOverlappingByEmployee(workerId, start, end));
+            rows += measure(out, prefix, "ShiftDao.getShiftsOverlapping",
+                    () -> db.shiftDao().getShiftsOverlapping(start, end));
+            rows += measure(out, prefix, "ShiftDao.getClippedShifts",
+                    () -> db.shiftDao().getClippedShifts(start, end));
+            rows += measure(out, prefix, "ShiftDao.getShiftPageByDateRange",
+                    () -> db.shiftDao().getShiftPageByDateRange(start, end,
+                            ShiftPageKey.FIRST.getStartMinute(), ShiftPageKey.FIRST.getId(), 50));
+            rows += measure(out, prefix, "ShiftDao.getTotalsByDateRange",
+                    () -> db.shiftDao().getTotalsByDateRange(start, end));
+            rows += measure(out, prefix, "ShiftDao.getTotalMinutesByDateRange",
+                    () -> db.shiftDao().getTotalMinutesByDateRange(start, end));
+            rows += measure(out, prefix, "ShiftDao.getLatestShift",
+                    () -> db.shiftDao().getLatestShift(workerId));
+            // PayrollDao (월 급여를 한 번 계산해 둔 뒤 조회)
+            calculator.calculateAllPayrolls(year, month);
+            rows += measure(out, prefix, "PayrollDao.getPayrollsByMonth",
+                    () -> db.payrollDao().getPayrollsByMonth(year, month));
+            rows += measure(out, prefix, "PayrollDao.getPayroll",
+                    () -> db.payrollDao().getPayroll(workerId, year, month));
+            rows += measure(out, prefix, "PayrollDao.getPayrollHistory",
+                    () -> db.payrollDao().getPayrollHistory(workerId));
+            rows += measure(out, prefix, "PayrollDao.getDirtyEmployeeIds",
+                    () -> db.payrollDao().getDirtyEmployeeIds(year, month));
+            // 화면 로드 경로
+            rows += measure(out, prefix, "screen.CalendarView.day",
+                    () -> db.shiftSegmentDao().getShiftsOnDay(day));
+            rows += measure(out, prefix, "screen.CalculatePayroll.month", () -> {
+                long payFromDay = monthStart.toEpochDay();
+                List<Shift> shifts = db.shiftDao().getShiftsOverlappingByEmployee(workerId,
+                        LocalDate.ofEpochDay(WeekKey.mondayOf(payFromDay)).atStartOfDay(), end);
+                WageSchedule wages = calculator.getWageSchedule(worker, year);
+                return PayrollCalculator.calculatePayroll(wages, shifts, payFromDay, monthEnd.toEpochDay(),
+                        calculator.getPayRules());
+            });
+            rows += measure(out, prefix, "screen.ViewPayroll.month",
+                    () -> calculator.getMonthlyPayrolls(workers, year, month));
+            rows += measure(out, prefix, "screen.CalculateAllPayrolls.month", () -> {
+                db.payrollDao().markAllDirty();
+                calculator.calculateAllPayrolls(year, month);
+                return null;
+            });
+            return rows;
+        } finally {
+            db.close();
+        }
+    }
+
+    /**
+     * 워밍업 후 ITERATIONS 번 실행해 한 행을 쓴다 (실패하면 테스트도 실패한다)
+     */
+    private static int measure(Writer out, String prefix, String name, Callable<?> query) throws IOException {
+        long[] nanos = new long[ITERATIONS];
+        int resultRows = 0;
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                query.call();
+            }
+            for (int i = 0; i < ITERATIONS; i++) {
+                long started = System.nanoTime();
+                Object result = query.call();
+                nanos[i] = System.nanoTime() - started;
+                resultRows = rowCount(result);
+            }
+        } catch (Exception e) {
+            throw new AssertionError(name + " 측정 실패", e);
+        }
+        Arrays.sort(nanos);
+        out.write(String.format(Locale.ROOT, "%s%s,%d,%d,%.3f,%.3f,%.3f\n", prefix, name, ITERATIONS, resultRows,
+                nanos[ITERATIONS / 2] / 1e6, nanos[(int) Math.ceil(ITERATIONS * 0.95) - 1] / 1e6,
+                nanos[ITERATIONS - 1] / 1e6));
+        return 1;
+    }
+
+    private static int rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.alba_pay_manager.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.data.ClippedShift;
+import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.data.Payroll;
+import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.data.ShiftPageKey;
+import com.example.alba_pay_manager.data.ShiftTotals;
+import com.example.alba_pay_manager.data.WorkforceGenerator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 합성 매장 데이터(알바생 40명, 120일)로 DAO 조회와 급여 계산 경로가 서로 맞는지 확인
+ *
+ * 같은 값을 다른 경로(keyset 페이지와 전체 조회, 집계 쿼리와 잘라낸 근무, 일괄 계산과 알바생별 계산,
+ * 누적 테이블과 전체 재계산)로 구해 비교한다.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DaoLoadTest {
+    private static final WorkforceGenerator.Config CONFIG = WorkforceGenerator.Config.BASE.scaled(10).withDays(120);
+    private static final int PAGE_SIZE = 50;
+
+    private AppDatabase db;
+    private WorkforceGenerator.Summary summary;
+    private LocalDate monthStart;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Before
+    public void setUp() {
+        db = AppDatabase.createInMemory(ApplicationProvider.getApplicationContext());
+        summary = WorkforceGenerator.generate(db, CONFIG);
+        // 기간 가운데 달
+        monthStart = LocalDate.ofEpochDay((CONFIG.getFirstDay() + CONFIG.getLastDay()) / 2).withDayOfMonth(1);
+        start = monthStart.atStartOfDay();
+        end = monthStart.plusMonths(1).atStartOfDay();
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void generatedRowsAreStored() {
+        assertEquals(CONFIG.getWorkers(), db.employeeDao().getWorkerCount());
+        assertTrue(summary.shifts > 0);
+        List<Shift> all = db.shiftDao().getShiftsOverlapping(
+                LocalDate.ofEpochDay(CONFIG.getFirstDay()).atStartOfDay(),
+                LocalDate.ofEpochDay(CONFIG.getLastDay() + 1).atStartOfDay());
+        assertEquals(summary.shifts, all.size());
+    }
+
+    @Test
+    public void keysetPagesMatchFullQuery() {
+        List<Shift> expected = new ArrayList<>(db.shiftDao().getShiftsOverlapping(start, end));
+        expected.sort(Comparator.comparingLong(Shift::getStartMinute).thenComparingLong(Shift::getId));
+
+        List<Shift> paged = new ArrayList<>();
+        ShiftPageKey key = ShiftPageKey.FIRST;
+        while (true) {
+            List<Shift> page = db.shiftDao().getShiftPageByDateRange(start, end,
+                    key.getStartMinute(), key.getId(), PAGE_SIZE);
+            paged.addAll(page);
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            Shift last = page.get(page.size() - 1);
+            key = new ShiftPageKey(last.getStartMinute(), last.getId());
+        }
+
+        assertEquals(expected.size(), paged.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), paged.get(i).getId());
+        }
+    }
+
+    @Test
+    public void totalsMatchClippedShifts() {
+        long clipped = 0;
+        for (ClippedShift shift : db.shiftDao().getClippedShifts(start, end)) {
+            clipped += shift.clippedMinutes;
+        }
+        long grouped = 0;
+        for (ShiftTotals totals : db.shiftDao().getTotalsByDateRange(start, end)) {
+            grouped += totals.totalMinutes;
+        }
+        assertEquals(clipped, db.shiftDao().getTotalMinutesByDateRange(start, end));
+        assertEquals(clipped, grouped);
+    }
+
+    @Test
+    public void calculateAllPayrollsMatchesPerWorkerCalculation() {
+        int year = monthStart.getYear();
+        int month = monthStart.getMonthValue();
+        PayrollCalculator calculator = new PayrollCalculator(db);
+        calculator.calculateAllPayrolls(year, month);
+
+        assertTrue(db.payrollDao().getDirtyEmployeeIds(year, month).isEmpty());
+        for (Employee worker : db.employeeDao().getAllWorkers()) {
+            Payroll stored = db.payrollDao().getPayroll(worker.getId(), year, month);
+            assertNotNull(stored);
+            Payroll expected = calculator.calculateMonthlyPayroll(worker, year, month);
+            assertEquals(expected.getTotalMinutes(), stored.getTotalMinutes());
+            assertEquals(expected.getNightMinutes(), stored.getNightMinutes());
+            assertEquals(expected.getOvertimeMinutes(), stored.getOvertimeMinutes());
+            assertEquals(expected.getHolidayMinutes(), stored.getHolidayMinutes());
+            assertEquals(expected.getWeeklyAllowanceMinutes(), stored.getWeeklyAllowanceMinutes());
+            assertEquals(expected.getGrossPay(), stored.getGrossPay());
+        }
+    }
+
+    @Test
+    public void accumulatorMatchesRecompute() {
+        PayrollCalculator calculator = new PayrollCalculator(db);
+        for (Employee worker : db.employeeDao().getAllWorkers()) {
+            assertTrue("employeeId=" + worker.getId(),
+                    calculator.verifyAccumulator(worker, monthStart.getYear(), monthStart.getMonthValue()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.alba_pay_manager.util;
+
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.alba_pay_manager.data.AppDatabase;
+import com.example.alba_pay_manager.data.Employee;
+import com.example.alba_pay_manager.data.Shift;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근무 추가/수정/삭제 때마다 누적 트리거가 남긴 값이 전체 재계산과 같은지 확인
+ *
+ * 평일 공휴일(3/1 삼일절), 자정과 월말을 넘는 야간 근무, 8시간 초과, 주말, 주휴 판정 주를 섞는다.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class PayrollAccumulatorTest {
+    private static final int YEAR = 2024;
+    private static final int MONTH = 3;
+
+    private AppDatabase db;
+    private Employee worker;
+    private PayrollCalculator calculator;
+
+    @Before
+    public void setUp() {
+        db = AppDatabase.createInMemory(ApplicationProvider.getApplicationContext());
+        worker = new Employee("acc", "acc", "누적테스트", 10_000, "WORKER");
+        worker.setId(db.employeeDao().insert(worker));
+        calculator = new PayrollCalculator(db);
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    private long insert(LocalDateTime start, LocalDateTime end) {
+        return db.shiftDao().insert(new Shift(worker.getId(), start, end));
+    }
+
+    private void assertMatches(String step) {
+        assertTrue(step, calculator.verifyAccumulator(worker, YEAR, MONTH));
+        assertTrue(step + " (다음 달)", calculator.verifyAccumulator(worker, YEAR, MONTH + 1));
+    }
+
+    @Test
+    public void triggersMatchRecomputeAcrossEdits() {
+        assertMatches("근무 없음");
+
+        // 2/26(월) ~ 3/1(금, 삼일절): 월을 넘는 첫 주
+        for (int day = 26; day <= 29; day++) {
+            insert(LocalDateTime.of(2024, 2, day, 9, 0), LocalDateTime.of(2024, 2, day, 17, 0));
+        }
+        long holiday = insert(LocalDateTime.of(2024, 3, 1, 9, 0), LocalDateTime.of(2024, 3, 1, 17, 0));
+        assertMatches("평일 공휴일");
+
+        // 3/4(월) ~ 3/8(금) 주 40시간, 하루는 10시간, 하루는 자정을 넘는 야간
+        for (int day = 4; day <= 7; day++) {
+            insert(LocalDateTime.of(2024, 3, day, 9, 0), LocalDateTime.of(2024, 3, day, 17, 0));
+        }
+        long overtime = insert(LocalDateTime.of(2024, 3, 8, 8, 0), LocalDateTime.of(2024, 3, 8, 18, 0));
+        insert(LocalDateTime.of(2024, 3, 9, 20, 0), LocalDateTime.of(2024, 3, 10, 4, 0)); // 토 -> 일
+        insert(LocalDateTime.of(2024, 3, 31, 22, 0), LocalDateTime.of(2024, 4, 1, 6, 0)); // 월말
+        assertMatches("추가");
+
+        db.getOpenHelper().getWritableDatabase().execSQL(
+                "UPDATE Shift SET endMinute = endMinute - 180 WHERE id = ?", new Object[] {overtime});
+        assertMatches("수정");
+
+        db.shiftDao().deleteShift(holiday);
+        assertMatches("삭제");
+
+        db.getOpenHelper().getWritableDatabase().execSQL(
+                "UPDATE Shift SET startMinute = startMinute + 1440, endMinute = endMinute + 1440 WHERE id = ?",
+                new Object[] {overtime});
+        assertMatches("다른 날로 이동");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.alba_pay_manager.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.alba_pay_manager.data.Shift;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SpanRecorder 를 설치했을 때 TraceSections 구간이 이름, 중첩 깊이, 끝난 순서대로 남는지 확인
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TraceSectionsTest {
+    private SpanRecorder recorder;
+
+    @Before
+    public void setUp() {
+        recorder = new SpanRecorder(4);
+        TraceSections.setRecorder(recorder);
+    }
+
+    @After
+    public void tearDown() {
+        TraceSections.setRecorder(null);
+    }
+
+    @Test
+    public void nestedSectionsRecordDepthInEndOrder() {
+        int outer = TraceSections.begin("outer");
+        String value = TraceSections.trace("inner", () -> "done");
+        TraceSections.end(outer);
+
+        assertEquals("done", value);
+        List<SpanRecorder.Span> spans = recorder.spans();
+        assertEquals(2, spans.size());
+        assertEquals("inner", spans.get(0).name);
+        assertEquals(1, spans.get(0).depth);
+        assertEquals("outer", spans.get(1).name);
+        assertEquals(0, spans.get(1).depth);
+        assertEquals(Thread.currentThread().getName(), spans.get(1).thread);
+        assertTrue(spans.get(1).durationNanos >= spans.get(0).durationNanos);
+    }
+
+    @Test
+    public void sectionIsClosedWhenBodyThrows() {
+        try {
+            TraceSections.trace("failing", (Runnable) () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException expected) {
+            // 구간은 finally 에서 닫힌다
+        }
+        TraceSections.trace("after", () -> { });
+
+        assertEquals(1, recorder.spans("failing").size());
+        assertEquals(0, recorder.spans("after").get(0).depth);
+    }
+
+    @Test
+    public void ringBufferKeepsLatestSpans() {
+        for (int i = 0; i < 6; i++) {
+            TraceSections.trace("span" + i, () -> { });
+        }
+        assertEquals(6, recorder.getRecordedCount());
+        List<SpanRecorder.Span> spans = recorder.spans();
+        assertEquals(4, spans.size());
+        assertEquals("span2", spans.get(0).name);
+        assertEquals("span5", spans.get(3).name);
+
+        recorder.clear();
+        assertTrue(recorder.spans().isEmpty());
+        assertEquals(0, recorder.getRecordedCount());
+    }
+
+    @Test
+    public void calculatePayrollOpensSection() {
+        LocalDate day = LocalDate.of(2024, 3, 11);
+        Shift shift = new Shift(1, LocalDateTime.of(2024, 3, 11, 9, 0), LocalDateTime.of(2024, 3, 11, 17, 0));
+        PayrollCalculator.calculatePayroll(WageSchedule.of(10_000), Collections.singletonList(shift),
+                day.toEpochDay(), day.plusDays(1).toEpochDay(), PayRuleSet.DEFAULT);
+
+        List<SpanRecorder.Span> spans = recorder.spans("PayrollCalculator.calculatePayroll");
+        assertEquals(1, spans.size());
+        assertEquals(0, spans.get(0).depth);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyCapacity() {
+        new SpanRecorder(0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.alba_pay_manager.bench;
+
+import com.example.alba_pay_manager.payroll.NightMinutes;
+import com.example.alba_pay_manager.payroll.PayPlan;
+import com.example.alba_pay_manager.payroll.PayRuleSet;
+import com.example.alba_pay_manager.payroll.PayrollEngine;
+import com.example.alba_pay_manager.payroll.WageSchedule;
+import com.example.alba_pay_manager.payroll.WeekAccumulator;
+import com.example.alba_pay_manager.payroll.WeekKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 급여 엔진 처리량/할당 벤치마크
+ *
+ * 근무 1건 ~ 10만 건의 합성 근무로 근무 배열 계산(calculatePayroll 경로), 일자별 집계 계산(월 급여 경로),
+ * 야간 분 계산, 주휴 정산을 따로 잰다. Breakdown 과 누적 맵은 재사용하므로
+ * 정상 상태의 gc.alloc.rate.norm 은 0 에 가까워야 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayrollEngineBenchmark {
+    @Param({"1", "100", "1000", "10000", "100000"})
+    public int shifts;
+
+    private ShiftWorkload workload;
+    private PayPlan plan;
+    private WageSchedule wages;
+    private WageSchedule wageHistory;
+    private final PayrollEngine.Breakdown breakdown = new PayrollEngine.Breakdown();
+    private final WeekAccumulator weeks = new WeekAccumulator();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new ShiftWorkload(shifts, 42L);
+        plan = PayRuleSet.DEFAULT.compile();
+        wages = WageSchedule.of(10_030);
+        // 매년 1월 1일에 시급이 오르는 이력 (근무 기간 동안 여러 번 바뀐다)
+        int years = (int) ((workload.lastDay - ShiftWorkload.FIRST_DAY) / 365) + 1;
+        long[] effectiveFrom = new long[years];
+        int[] history = new int[years];
+        for (int i = 0; i < years; i++) {
+            effectiveFrom[i] = ShiftWorkload.FIRST_DAY + i * 365L;
+            history[i] = 9_620 + i * 300;
+        }
+        wageHistory = WageSchedule.of(effectiveFrom, history, 0, years, 9_860);
+    }
+
+    /** 근무 배열 계산 (CalculatePayrollActivity 의 calculatePayroll 경로) */
+    @Benchmark
+    public long calculateShifts() {
+        breakdown.reset();
+        PayrollEngine.calculateShifts(workload.startMinutes, workload.endMinutes, 0, shifts,
+                ShiftWorkload.FIRST_DAY, workload.lastDay, wages, plan, breakdown);
+        return breakdown.totalPay;
+    }
+
+    /** 근무 배열 계산, 시급 이력 적용 */
+    @Benchmark
+    public long calculateShiftsWithWageHistory() {
+        breakdown.reset();
+        PayrollEngine.calculateShifts(workload.startMinutes, workload.endMinutes, 0, shifts,
+                ShiftWorkload.FIRST_DAY, workload.lastDay, wageHistory, plan, breakdown);
+        return breakdown.totalPay;
+    }
+
+    /** 일자별 집계 계산 (월 급여 / 기간 조회 경로) */
+    @Benchmark
+    public long calculateDays() {
+        breakdown.reset();
+        PayrollEngine.calculateDays(workload.days, workload.dayMinutes, workload.dayNightMinutes,
+                0, workload.dayCount, ShiftWorkload.FIRST_DAY, workload.lastDay, wages, plan, breakdown);
+        return breakdown.totalPay;
+    }
+
+    /** 근무별 야간 분 */
+    @Benchmark
+    public long nightMinutes() {
+        long total = 0;
+        long[] starts = workload.startMinutes;
+        long[] ends = workload.endMinutes;
+        for (int i = 0; i < shifts; i++) {
+            total += NightMinutes.between(starts[i], ends[i]);
+        }
+        return total;
+    }
+
+    /** 주 합계 누적 후 주휴 분 정산 */
+    @Benchmark
+    public long weeklyAllowance() {
+        weeks.clear();
+        long[] starts = workload.startMinutes;
+        long[] ends = workload.endMinutes;
+        for (int i = 0; i < shifts; i++) {
+            weeks.add(WeekKey.of(Math.floorDiv(starts[i], 1440)), (int) (ends[i] - starts[i]));
+        }
+        long total = 0;
+        for (int i = 0; i < weeks.size(); i++) {
+            total += PayrollEngine.weeklyAllowanceMinutes(weeks.valueAt(i));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.alba_pay_manager.bench;
+
+import com.example.alba_pay_manager.payroll.NightMinutes;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 근무 (같은 seed 면 항상 같은 근무)
+ *
+ * 알바생 한 명이 주 5일 가량 근무하며, 오전/오후/저녁/야간(자정 넘김) 근무가 섞인다.
+ * 근무는 시작 시각 오름차순이고, 일자별 집계 배열(자정에서 나눈 분, 야간 분)도 함께 만든다.
+ */
+final class ShiftWorkload {
+    static final long FIRST_DAY = 19_358; // 2023-01-01
+    private static final int[] START_HOURS = {9, 14, 18, 22};
+
+    final long[] startMinutes;
+    final long[] endMinutes;
+    final long[] days;
+    final int[] dayMinutes;
+    final int[] dayNightMinutes;
+    final int dayCount;
+    final long lastDay;
+
+    ShiftWorkload(int shiftCount, long seed) {
+        Random random = new Random(seed);
+        startMinutes = new long[shiftCount];
+        endMinutes = new long[shiftCount];
+        long day = FIRST_DAY;
+        for (int i = 0; i < shiftCount; i++) {
+            day += random.nextInt(10) < 7 ? 1 : 2; // 평균 주 5일 남짓
+            int hour = START_HOURS[random.nextInt(START_HOURS.length)];
+            int duration = (4 + random.nextInt(7)) * 60 + random.nextInt(4) * 15; // 4~10시간 45분
+            startMinutes[i] = day * 1440 + hour * 60;
+            endMinutes[i] = startMinutes[i] + duration;
+        }
+        lastDay = day + 1;
+
+        // 자정에서 나눠 일자별로 누적 (근무는 하루 이상 겹치지 않으므로 일자는 오름차순)
+        long[] rollupDays = new long[shiftCount * 2];
+        int[] minutes = new int[shiftCount * 2];
+        int[] night = new int[shiftCount * 2];
+        int count = 0;
+        for (int i = 0; i < shiftCount; i++) {
+            long start = startMinutes[i];
+            long end = endMinutes[i];
+            while (end > start) {
+                long d = Math.floorDiv(start, 1440);
+                long partEnd = Math.min(end, (d + 1) * 1440);
+                if (count == 0 || rollupDays[count - 1] != d) {
+                    rollupDays[count++] = d;
+                }
+                minutes[count - 1] += (int) (partEnd - start);
+                night[count - 1] += (int) NightMinutes.between(start, partEnd);
+                start = partEnd;
+            }
+        }
+        days = rollupDays;
+        dayMinutes = minutes;
+        dayNightMinutes = night;
+        dayCount = count;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.alba_pay_manager.payroll;
+
+/**
+ * 급여 공제 계산 (4대보험, 원천징수 소득세, 지방소득세)
+ *
+ * 간이세액표와 보험 요율표는 불변이므로 엔진 하나를 모든 스레드가 공유한다.
+ * 결과는 호출자가 넘긴 {@link Result} 에 채우므로 일괄 계산에서 재사용하면 객체를 만들지 않는다.
+ */
+public final class DeductionEngine {
+    private final WithholdingTaxTable taxTable;
+    private final InsuranceRates insuranceRates;
+    private final int localTaxPercent;
+
+    /**
+     * 공제 결과 (가변, 재사용 가능, 원 단위)
+     */
+    public static final class Result {
+        public int pension;       // 국민연금
+        public int health;        // 건강보험
+        public int longTermCare;  // 장기요양보험
+        public int employment;    // 고용보험
+        public int insurance;     // 4대보험 합계
+        public int incomeTax;     // 소득세
+        public int localTax;      // 지방소득세
+        public int netPay;        // 실수령액
+    }
+
+    /**
+     * @param localTaxPercent 소득세 대비 지방소득세율 (%)
+     */
+    public DeductionEngine(WithholdingTaxTable taxTable, InsuranceRates insuranceRates,
+                           int localTaxPercent) {
+        this.taxTable = taxTable;
+        this.insuranceRates = insuranceRates;
+        this.localTaxPercent = localTaxPercent;
+    }
+
+    /**
+     * 월 총 급여에 대한 공제액과 실수령액 계산
+     *
+     * @param grossPay   월 총 급여 (원)
+     * @param dependents 공제대상가족 수 (본인 포함)
+     */
+    public void deduct(int year, int month, int grossPay, int dependents, Result out) {
+        if (grossPay < 0) {
+            throw new IllegalArgumentException("총 급여는 음수가 될 수 없습니다.");
+        }
+        insuranceRates.contributions(year, month, grossPay, out);
+        out.insurance = out.pension + out.health + out.longTermCare + out.employment;
+        out.incomeTax = taxTable.lookup(grossPay, dependents);
+        out.localTax = InsuranceRates.truncate10((long) out.incomeTax * localTaxPercent / 100);
+        out.netPay = Math.max(0, grossPay - out.insurance - out.incomeTax - out.localTax);
+    }
+}
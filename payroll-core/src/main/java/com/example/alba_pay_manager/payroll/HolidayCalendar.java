@@ -0,0 +1,283 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 휴일 달력 (토/일요일, 대한민국 공휴일, 대체공휴일, 매장 휴무일)
+ *
+ * 연도마다 1월 1일을 0번 비트로 하는 366비트 BitSet 을 한 번 만들어 두고
+ * {@link #isHoliday(long)} 는 비트 하나만 확인한다.
+ * 음력 공휴일(설날, 부처님오신날, 추석)은 아래 표에 있는 연도만 반영하며,
+ * 표 밖의 연도나 임시공휴일은 매장 휴무일로 등록해 반영한다.
+ * 매장 휴무일은 저장소가 {@link #setClosureDays(long[])} 로 통째로 넘겨 주며, 그때 만들어 둔 연도를 버린다.
+ * 연도를 만들 때는 넘겨받은 배열만 보므로 급여 계산 중(트랜잭션 안, ForkJoinPool 작업)에 DB 에 접근하지 않는다.
+ */
+public final class HolidayCalendar {
+    private HolidayCalendar() {} // 인스턴스화 방지
+
+    // 음력 공휴일 양력 날짜 (월 * 100 + 일), FIRST_LUNAR_YEAR 부터 연도순
+    private static final int FIRST_LUNAR_YEAR = 2015;
+    private static final short[] SEOLLAL = {
+        219, 208, 128, 216, 205, 125, 212, 201, 122, 210, 129, 217, 207, 127, 213, 203, 123, 211
+    };
+    private static final short[] BUDDHAS_BIRTHDAY = {
+        525, 514, 503, 522, 512, 430, 519, 508, 527, 515, 505, 524, 513, 502, 520, 509, 528, 516
+    };
+    private static final short[] CHUSEOK = {
+        927, 915, 1004, 924, 913, 1001, 921, 910, 929, 917, 1006, 925, 915, 1003, 922, 912, 1001, 919
+    };
+
+    /** 음력 공휴일 표의 마지막 연도 */
+    public static final int LAST_LUNAR_YEAR = FIRST_LUNAR_YEAR + SEOLLAL.length - 1;
+
+    /**
+     * 공휴일 표 버전 (음력 표, 공휴일 목록, 대체공휴일 규칙을 고치면 올린다)
+     * 저장소는 이 값이 바뀌었을 때만 DB 의 공휴일 표를 다시 맞춘다.
+     */
+    public static final int TABLE_VERSION = 1;
+
+    // 대체공휴일 적용 시작 연도
+    private static final int SUBSTITUTE_SINCE = 2014;              // 설날, 추석, 어린이날
+    private static final int NATIONAL_DAY_SUBSTITUTE_SINCE = 2021; // 삼일절, 광복절, 개천절, 한글날
+    private static final int BUDDHA_CHRISTMAS_SUBSTITUTE_SINCE = 2023;
+
+    private static final AtomicInteger version = new AtomicInteger();
+    private static final Map<Integer, Year> years = new ConcurrentHashMap<>();
+    private static volatile Year last;
+    private static volatile long[] closureDays = new long[0]; // 오름차순 (epoch 일)
+
+    /**
+     * 한 해의 휴일 비트 (불변)
+     */
+    private static final class Year {
+        final int version;
+        final long firstDay; // 1월 1일 (epoch 일)
+        final int length;    // 365 또는 366
+        final BitSet holidays;
+
+        Year(int version, long firstDay, int length, BitSet holidays) {
+            this.version = version;
+            this.firstDay = firstDay;
+            this.length = length;
+            this.holidays = holidays;
+        }
+
+        boolean contains(long epochDay) {
+            return epochDay >= firstDay && epochDay < firstDay + length;
+        }
+    }
+
+    /**
+     * 휴일 여부 (epoch 일)
+     */
+    public static boolean isHoliday(long epochDay) {
+        Year year = last;
+        if (year == null || !year.contains(epochDay) || year.version != version.get()) {
+            year = year(WeekKey.yearOf(epochDay));
+            last = year;
+        }
+        return year.holidays.get((int) (epochDay - year.firstDay));
+    }
+
+    /**
+     * [fromDay, toDay) 중 평일(월~금)인 휴일 (epoch 일, 오름차순)
+     */
+    public static long[] weekdayHolidays(long fromDay, long toDay) {
+        int count = 0;
+        long[] days = new long[8];
+        for (long day = fromDay; day < toDay; day++) {
+            if (WeekKey.dayOfWeek(day) < 5 && isHoliday(day)) {
+                if (count == days.length) {
+                    days = Arrays.copyOf(days, count * 2);
+                }
+                days[count++] = day;
+            }
+        }
+        return Arrays.copyOf(days, count);
+    }
+
+    /**
+     * [fromYear, toYear] 의 평일 공휴일과 대체공휴일 (epoch 일, 오름차순, 매장 휴무일 제외)
+     * DB 의 공휴일 표(public_holidays)를 이 달력과 맞출 때 쓴다.
+     *
+     * @throws IllegalArgumentException toYear 가 음력 공휴일 표({@link #LAST_LUNAR_YEAR})를 넘을 때
+     */
+    public static long[] publicWeekdayHolidays(int fromYear, int toYear) {
+        if (toYear > LAST_LUNAR_YEAR) {
+            throw new IllegalArgumentException("음력 공휴일 표는 " + LAST_LUNAR_YEAR + "년까지만 있습니다: " + toYear);
+        }
+        int count = 0;
+        long[] days = new long[16 * Math.max(1, toYear - fromYear + 1)];
+        for (int y = fromYear; y <= toYear; y++) {
+            Year year = compile(y, 0, false);
+            for (int i = year.holidays.nextSetBit(0); i >= 0; i = year.holidays.nextSetBit(i + 1)) {
+                long day = year.firstDay + i;
+                if (WeekKey.dayOfWeek(day) < 5) {
+                    if (count == days.length) {
+                        days = Arrays.copyOf(days, count * 2);
+                    }
+                    days[count++] = day;
+                }
+            }
+        }
+        return Arrays.copyOf(days, count);
+    }
+
+    /**
+     * 매장 휴무일 전체를 바꾼다 (지정 전에는 휴무일 없음)
+     * 배열을 바꾼 뒤 버전을 올리므로, 새 버전으로 만드는 연도는 항상 새 휴무일을 본다.
+     *
+     * @param days 휴무일 (epoch 일, 오름차순)
+     */
+    public static void setClosureDays(long[] days) {
+        closureDays = days.clone();
+        invalidate();
+    }
+
+    /**
+     * 만들어 둔 연도를 모두 버린다
+     */
+    public static void invalidate() {
+        version.incrementAndGet();
+        years.clear();
+        last = null;
+    }
+
+    private static Year year(int year) {
+        int current = version.get();
+        Year cached = years.get(year);
+        if (cached != null && cached.version == current) {
+            return cached;
+        }
+        Year compiled = compile(year, current, true);
+        // 만드는 사이에 무효화되었으면 캐시에 남기지 않는다 (이번 조회에만 쓴다)
+        if (version.get() == current) {
+            years.put(year, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 한 해의 휴일 비트를 만든다
+     *
+     * @param withClosures 매장 휴무일을 포함할지
+     */
+    private static Year compile(int year, int version, boolean withClosures) {
+        long firstDay = WeekKey.daysFromCivil(year, 1, 1);
+        int length = (int) (WeekKey.daysFromCivil(year + 1, 1, 1) - firstDay);
+        BitSet holidays = new BitSet(366);
+
+        // 공휴일 (날짜별로 겹친 공휴일 수를 센다)
+        int[] counts = new int[length];
+        int lunar = year - FIRST_LUNAR_YEAR;
+        boolean hasLunar = lunar >= 0 && lunar < SEOLLAL.length;
+        addDay(counts, year, 1, 1);                       // 신정
+        addDay(counts, year, 3, 1);                       // 삼일절
+        addDay(counts, year, 5, 5);                       // 어린이날
+        addDay(counts, year, 6, 6);                       // 현충일
+        addDay(counts, year, 8, 15);                      // 광복절
+        addDay(counts, year, 10, 3);                      // 개천절
+        addDay(counts, year, 10, 9);                      // 한글날
+        addDay(counts, year, 12, 25);                     // 성탄절
+        if (hasLunar) {
+            addPeriod(counts, year, SEOLLAL[lunar]);      // 설날 전날~다음날
+            addDay(counts, year, BUDDHAS_BIRTHDAY[lunar] / 100, BUDDHAS_BIRTHDAY[lunar] % 100);
+            addPeriod(counts, year, CHUSEOK[lunar]);      // 추석 전날~다음날
+        }
+        for (int i = 0; i < length; i++) {
+            if (counts[i] > 0 || WeekKey.dayOfWeek(firstDay + i) >= 5) {
+                holidays.set(i);
+            }
+        }
+
+        // 대체공휴일
+        if (year >= SUBSTITUTE_SINCE) {
+            if (hasLunar) {
+                substitutePeriod(holidays, counts, firstDay, year, SEOLLAL[lunar]);
+                substitutePeriod(holidays, counts, firstDay, year, CHUSEOK[lunar]);
+            }
+            substituteDay(holidays, counts, firstDay, year, 505);
+        }
+        if (year >= NATIONAL_DAY_SUBSTITUTE_SINCE) {
+            substituteDay(holidays, counts, firstDay, year, 301);
+            substituteDay(holidays, counts, firstDay, year, 815);
+            substituteDay(holidays, counts, firstDay, year, 1003);
+            substituteDay(holidays, counts, firstDay, year, 1009);
+        }
+        if (year >= BUDDHA_CHRISTMAS_SUBSTITUTE_SINCE) {
+            if (hasLunar) {
+                substituteDay(holidays, counts, firstDay, year, BUDDHAS_BIRTHDAY[lunar]);
+            }
+            substituteDay(holidays, counts, firstDay, year, 1225);
+        }
+
+        // 매장 휴무일
+        if (withClosures) {
+            long[] closures = closureDays;
+            int from = Arrays.binarySearch(closures, firstDay);
+            for (int i = from >= 0 ? from : -from - 1; i < closures.length && closures[i] < firstDay + length; i++) {
+                holidays.set((int) (closures[i] - firstDay));
+            }
+        }
+        return new Year(version, firstDay, length, holidays);
+    }
+
+    private static int indexOf(int year, int month, int day) {
+        return (int) (WeekKey.daysFromCivil(year, month, day) - WeekKey.daysFromCivil(year, 1, 1));
+    }
+
+    private static void addDay(int[] counts, int year, int month, int day) {
+        counts[indexOf(year, month, day)]++;
+    }
+
+    /** 당일 전후 하루씩 3일 (설날, 추석) */
+    private static void addPeriod(int[] counts, int year, int monthDay) {
+        int center = indexOf(year, monthDay / 100, monthDay % 100);
+        for (int i = center - 1; i <= center + 1; i++) {
+            counts[i]++;
+        }
+    }
+
+    /**
+     * 설날/추석 연휴가 일요일 또는 다른 공휴일과 겹치면 연휴 다음 첫 비휴일을 휴일로 한다
+     * (토요일과 겹치는 것은 대체하지 않는다)
+     */
+    private static void substitutePeriod(BitSet holidays, int[] counts, long firstDay,
+                                         int year, int monthDay) {
+        int center = indexOf(year, monthDay / 100, monthDay % 100);
+        boolean substitute = false;
+        for (int i = center - 1; i <= center + 1; i++) {
+            if (WeekKey.dayOfWeek(firstDay + i) == 6 || counts[i] > 1) {
+                substitute = true;
+            }
+        }
+        if (substitute) {
+            setNextWorkday(holidays, center + 2);
+            // 겹친 공휴일에는 대체일을 한 번만 준다
+            for (int i = center - 1; i <= center + 1; i++) {
+                counts[i] = Math.min(counts[i], 1);
+            }
+        }
+    }
+
+    /**
+     * 공휴일이 토/일요일 또는 다른 공휴일과 겹치면 다음 첫 비휴일을 휴일로 한다
+     */
+    private static void substituteDay(BitSet holidays, int[] counts, long firstDay,
+                                      int year, int monthDay) {
+        int index = indexOf(year, monthDay / 100, monthDay % 100);
+        if (WeekKey.dayOfWeek(firstDay + index) >= 5 || counts[index] > 1) {
+            setNextWorkday(holidays, index + 1);
+            counts[index] = Math.min(counts[index], 1);
+        }
+    }
+
+    private static void setNextWorkday(BitSet holidays, int from) {
+        // 12월 말 공휴일의 대체일이 다음 해로 넘어가는 경우는 없다 (성탄절 대체일은 최대 12월 27일)
+        holidays.set(holidays.nextClearBit(from));
+    }
+}
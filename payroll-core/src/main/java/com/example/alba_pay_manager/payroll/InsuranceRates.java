@@ -0,0 +1,87 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 4대보험 근로자 부담 요율표 (적용 시작 연월별)
+ *
+ * 요율은 10만분율 정수(4.5% = 4500)로, 열마다 원시 배열에 두고 적용 시작 연월(yyyymm)을
+ * 이진 탐색해 행을 고른다. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 공유한다.
+ * 새 요율이 고시되면 {@link #KOREA} 에 행을 추가한다.
+ */
+public final class InsuranceRates {
+    private static final int RATE_SCALE = 100_000;
+
+    /** 국민연금/건강보험/장기요양/고용보험 근로자 부담분 (2023년 1월 이후) */
+    public static final InsuranceRates KOREA = new InsuranceRates(
+            //            적용 시작, 연금,  하한,     상한,   건강,  요양(건강보험료 대비), 고용
+            new int[] {202301, 4500, 370_000, 5_530_000, 3545, 12810, 900},
+            new int[] {202307, 4500, 370_000, 5_900_000, 3545, 12810, 900},
+            new int[] {202401, 4500, 370_000, 5_900_000, 3545, 12950, 900},
+            new int[] {202407, 4500, 390_000, 6_170_000, 3545, 12950, 900},
+            new int[] {202507, 4500, 400_000, 6_370_000, 3545, 12950, 900},
+            // 2026년: 연금 9.5%, 건강 7.19% (각 절반), 장기요양 0.9448% (건강보험료의 13.14%)
+            new int[] {202601, 4750, 400_000, 6_370_000, 3595, 13140, 900});
+
+    private final int[] effectiveFrom;    // yyyymm (오름차순)
+    private final int[] pensionRate;      // 국민연금
+    private final int[] pensionFloor;     // 국민연금 기준소득월액 하한 (원)
+    private final int[] pensionCap;       // 국민연금 기준소득월액 상한 (원)
+    private final int[] healthRate;       // 건강보험
+    private final int[] longTermCareRate; // 장기요양 (건강보험료에 곱한다)
+    private final int[] employmentRate;   // 고용보험
+
+    /**
+     * @param rows 행마다 {적용 시작 yyyymm, 연금, 연금 하한, 연금 상한, 건강, 요양, 고용} (적용 시작 오름차순)
+     */
+    public InsuranceRates(int[]... rows) {
+        int count = rows.length;
+        effectiveFrom = new int[count];
+        pensionRate = new int[count];
+        pensionFloor = new int[count];
+        pensionCap = new int[count];
+        healthRate = new int[count];
+        longTermCareRate = new int[count];
+        employmentRate = new int[count];
+        for (int i = 0; i < count; i++) {
+            int[] row = rows[i];
+            if (i > 0 && row[0] <= effectiveFrom[i - 1]) {
+                throw new IllegalArgumentException("적용 시작 연월이 오름차순이 아닙니다: " + row[0]);
+            }
+            effectiveFrom[i] = row[0];
+            pensionRate[i] = row[1];
+            pensionFloor[i] = row[2];
+            pensionCap[i] = row[3];
+            healthRate[i] = row[4];
+            longTermCareRate[i] = row[5];
+            employmentRate[i] = row[6];
+        }
+    }
+
+    /**
+     * 연월에 적용되는 행 (첫 행보다 이르면 첫 행)
+     */
+    private int rowOf(int year, int month) {
+        int row = Arrays.binarySearch(effectiveFrom, year * 100 + month);
+        if (row < 0) {
+            row = -row - 2;
+        }
+        return Math.max(row, 0);
+    }
+
+    /**
+     * 월 보수에 대한 보험료를 out 에 채운다 (각 보험료 10원 미만 절사)
+     */
+    public void contributions(int year, int month, int monthlyPay, DeductionEngine.Result out) {
+        int row = rowOf(year, month);
+        long pensionBase = Math.max(pensionFloor[row], Math.min(monthlyPay, pensionCap[row]));
+        out.pension = truncate10(pensionBase * pensionRate[row] / RATE_SCALE);
+        out.health = truncate10((long) monthlyPay * healthRate[row] / RATE_SCALE);
+        out.longTermCare = truncate10((long) out.health * longTermCareRate[row] / RATE_SCALE);
+        out.employment = truncate10((long) monthlyPay * employmentRate[row] / RATE_SCALE);
+    }
+
+    static int truncate10(long won) {
+        return (int) (Math.max(0, won) / 10 * 10);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.alba_pay_manager.payroll;
+
+/**
+ * 야간(22:00~06:00) 근무시간 계산
+ *
+ * 야간 구간은 하루 주기로 반복되므로 기준 시각부터 t 까지의 누적 야간 분 N(t) 를
+ * 나눗셈 몇 번으로 구할 수 있다. [start, end) 의 야간 분은 N(end) - N(start) 이며
+ * 근무 길이나 걸친 날 수와 무관하게 상수 시간이다.
+ */
+public final class NightMinutes {
+    private NightMinutes() {} // 인스턴스화 방지
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int NIGHT_START_MINUTE = 22 * 60; // 오후 10시
+    private static final int NIGHT_END_MINUTE = 6 * 60;    // 오전 6시
+    /** 하루 중 야간 길이 (22:00~24:00 + 00:00~06:00) */
+    private static final int NIGHT_LENGTH = MINUTES_PER_DAY - NIGHT_START_MINUTE + NIGHT_END_MINUTE;
+
+    /**
+     * [start, end) 중 야간에 해당하는 분 (epoch 분, end < start 이면 0)
+     */
+    public static long between(long start, long end) {
+        if (end <= start) {
+            return 0;
+        }
+        return cumulative(end) - cumulative(start);
+    }
+
+    /**
+     * 기준 시각부터 t 까지의 누적 야간 분
+     * 22:00 을 하루의 시작으로 옮기면 매일 앞쪽 NIGHT_LENGTH 분이 야간이 된다.
+     */
+    private static long cumulative(long t) {
+        long shifted = t + (MINUTES_PER_DAY - NIGHT_START_MINUTE);
+        long days = Math.floorDiv(shifted, MINUTES_PER_DAY);
+        long minuteOfDay = Math.floorMod(shifted, MINUTES_PER_DAY);
+        return days * NIGHT_LENGTH + Math.min(minuteOfDay, NIGHT_LENGTH);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 규칙 묶음을 배열로 펼친 평가 계획 (불변, 스레드 간 공유 가능)
+ *
+ * 근무 분의 속성 조합(야간/휴일/일 초과/주 초과, 16가지)마다 어느 지급 구간에 들어가는지를
+ * 미리 정해 두므로, 엔진은 하루를 한 번 나눈 뒤 배열 조회만으로 구간별 분을 누적한다.
+ * 규칙이 늘어도 근무를 다시 훑지 않는다.
+ */
+public final class PayPlan {
+    /** 지급 구간: 일반 근무 (100%) */
+    public static final int REGULAR = 0;
+    /** 지급 구간: 규칙 종류별 (Kind 순서 + 1) */
+    public static final int NIGHT = 1 + PayRule.Kind.NIGHT.ordinal();
+    public static final int HOLIDAY_OVERTIME = 1 + PayRule.Kind.HOLIDAY_OVERTIME.ordinal();
+    public static final int HOLIDAY = 1 + PayRule.Kind.HOLIDAY.ordinal();
+    public static final int OVERTIME = 1 + PayRule.Kind.OVERTIME.ordinal();
+    public static final int WEEKLY_OVERTIME = 1 + PayRule.Kind.WEEKLY_OVERTIME.ordinal();
+    /** 지급 구간 수 */
+    public static final int SEGMENTS = WEEKLY_OVERTIME + 1;
+
+    final byte[] segmentOf = new byte[PayRule.ATTR_COMBINATIONS]; // 속성 조합 -> 지급 구간
+    final int[] percent = new int[SEGMENTS];                      // 지급 구간 -> 배율(%)
+    final boolean separateNight;   // 야간 분을 따로 나누는지 (아니면 주간 분과 같이 일 8시간에 센다)
+    final boolean usesHoliday;     // 휴일 여부를 확인해야 하는지
+    final boolean tracksWeekly;    // 주 40시간 누계를 세야 하는지
+    final boolean weeklyAllowance; // 주휴수당 정산 여부
+    final int weeklyAllowancePercent;
+
+    PayPlan(PayRule[] rules) {
+        percent[REGULAR] = 100;
+        int usedAttributes = 0;
+        for (int attributes = 0; attributes < PayRule.ATTR_COMBINATIONS; attributes++) {
+            int segment = REGULAR;
+            // Kind 선언 순서가 우선순위이다
+            for (PayRule rule : rules) {
+                if (rule == null || rule.getKind() == PayRule.Kind.WEEKLY_ALLOWANCE) {
+                    continue;
+                }
+                int required = rule.getKind().attributes;
+                if ((attributes & required) == required) {
+                    segment = 1 + rule.getKind().ordinal();
+                    break;
+                }
+            }
+            segmentOf[attributes] = (byte) segment;
+        }
+        for (PayRule rule : rules) {
+            if (rule != null && rule.getKind() != PayRule.Kind.WEEKLY_ALLOWANCE) {
+                percent[1 + rule.getKind().ordinal()] = rule.getPercent();
+                usedAttributes |= rule.getKind().attributes;
+            }
+        }
+        PayRule allowance = rules[PayRule.Kind.WEEKLY_ALLOWANCE.ordinal()];
+        separateNight = (usedAttributes & PayRule.ATTR_NIGHT) != 0;
+        usesHoliday = (usedAttributes & PayRule.ATTR_HOLIDAY) != 0;
+        tracksWeekly = (usedAttributes & PayRule.ATTR_WEEKLY_OVER) != 0;
+        weeklyAllowance = allowance != null;
+        weeklyAllowancePercent = allowance != null ? allowance.getPercent() : 0;
+    }
+
+    /** 지급 구간의 배율(%) */
+    public int percent(int segment) {
+        return percent[segment];
+    }
+
+    /**
+     * 두 계획이 같은 분류와 배율로 계산하는지
+     */
+    public boolean sameAs(PayPlan other) {
+        return Arrays.equals(segmentOf, other.segmentOf)
+                && Arrays.equals(percent, other.percent)
+                && separateNight == other.separateNight
+                && usesHoliday == other.usesHoliday
+                && tracksWeekly == other.tracksWeekly
+                && weeklyAllowancePercent == other.weeklyAllowancePercent
+                && weeklyAllowance == other.weeklyAllowance;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.alba_pay_manager.payroll;
+
+/**
+ * 수당 규칙 하나 (어떤 근무 분에 몇 % 를 지급하는지)
+ *
+ * 근무 분은 야간/휴일/일 8시간 초과/주 40시간 초과 속성으로 나뉘고,
+ * 규칙은 필요한 속성을 모두 가진 분에 적용된다. 여러 규칙이 맞으면 {@link Kind} 선언 순서가 앞선 규칙을 쓴다.
+ */
+public final class PayRule {
+    // 근무 분의 속성 비트 (PayPlan 의 구간 번호가 된다)
+    static final int ATTR_NIGHT = 1;
+    static final int ATTR_HOLIDAY = 1 << 1;
+    static final int ATTR_DAILY_OVER = 1 << 2;
+    static final int ATTR_WEEKLY_OVER = 1 << 3;
+    static final int ATTR_COMBINATIONS = 1 << 4;
+
+    /**
+     * 규칙 종류 (우선순위 순)
+     */
+    public enum Kind {
+        /** 야간근로 (22:00~06:00) */
+        NIGHT(ATTR_NIGHT, 150),
+        /** 휴일근로 중 하루 8시간 초과분 */
+        HOLIDAY_OVERTIME(ATTR_HOLIDAY | ATTR_DAILY_OVER, 200),
+        /** 휴일근로 */
+        HOLIDAY(ATTR_HOLIDAY, 150),
+        /** 하루 8시간 초과 연장근로 */
+        OVERTIME(ATTR_DAILY_OVER, 150),
+        /** 주 40시간 초과 연장근로 (일 단위 연장분 제외) */
+        WEEKLY_OVERTIME(ATTR_WEEKLY_OVER, 150),
+        /** 주휴수당 (근무 분이 아니라 주 합계로 정산) */
+        WEEKLY_ALLOWANCE(0, 100);
+
+        final int attributes;
+        final int defaultPercent;
+
+        Kind(int attributes, int defaultPercent) {
+            this.attributes = attributes;
+            this.defaultPercent = defaultPercent;
+        }
+    }
+
+    private final Kind kind;
+    private final int percent;
+
+    private PayRule(Kind kind, int percent) {
+        if (percent < 0) {
+            throw new IllegalArgumentException("배율은 음수가 될 수 없습니다: " + percent);
+        }
+        this.kind = kind;
+        this.percent = percent;
+    }
+
+    /**
+     * @param percent 지급 배율 (백분율, 150 = 1.5배)
+     */
+    public static PayRule of(Kind kind, int percent) {
+        return new PayRule(kind, percent);
+    }
+
+    /** 기본 배율의 규칙 */
+    public static PayRule of(Kind kind) {
+        return new PayRule(kind, kind.defaultPercent);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getPercent() {
+        return percent;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PayRule)) {
+            return false;
+        }
+        PayRule other = (PayRule) o;
+        return kind == other.kind && percent == other.percent;
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + percent;
+    }
+
+    @Override
+    public String toString() {
+        return kind.name() + ":" + percent;
+    }
+}
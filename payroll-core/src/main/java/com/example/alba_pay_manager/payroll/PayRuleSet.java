@@ -0,0 +1,149 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 매장이 적용하는 수당 규칙 묶음 (불변)
+ *
+ * 종류별로 규칙을 하나씩 가지며, {@link #compile()} 로 한 번 만든 {@link PayPlan} 을
+ * 같은 묶음으로 계산하는 모든 알바생에게 재사용한다.
+ * 문자열 형식은 "NIGHT:150,HOLIDAY:150,..." 이다.
+ */
+public final class PayRuleSet {
+    /** 기존 기본 규칙 (야간, 휴일, 연장 1.5배와 주휴수당) */
+    public static final PayRuleSet DEFAULT = of(
+            PayRule.of(PayRule.Kind.NIGHT),
+            PayRule.of(PayRule.Kind.HOLIDAY),
+            PayRule.of(PayRule.Kind.OVERTIME),
+            PayRule.of(PayRule.Kind.WEEKLY_ALLOWANCE));
+
+    // PayrollEngine 의 수당 플래그 조합별 규칙 (플래그 API 용)
+    private static final PayRuleSet[] BY_FLAGS = new PayRuleSet[PayrollEngine.ALL + 1];
+
+    static {
+        for (int flags = 0; flags < BY_FLAGS.length; flags++) {
+            PayRule[] rules = new PayRule[PayRule.Kind.values().length];
+            if ((flags & PayrollEngine.NIGHT) != 0) {
+                rules[PayRule.Kind.NIGHT.ordinal()] = PayRule.of(PayRule.Kind.NIGHT);
+            }
+            if ((flags & PayrollEngine.OVERTIME) != 0) {
+                rules[PayRule.Kind.OVERTIME.ordinal()] = PayRule.of(PayRule.Kind.OVERTIME);
+            }
+            if ((flags & PayrollEngine.HOLIDAY) != 0) {
+                rules[PayRule.Kind.HOLIDAY.ordinal()] = PayRule.of(PayRule.Kind.HOLIDAY);
+            }
+            if ((flags & PayrollEngine.WEEKLY_ALLOWANCE) != 0) {
+                rules[PayRule.Kind.WEEKLY_ALLOWANCE.ordinal()] = PayRule.of(PayRule.Kind.WEEKLY_ALLOWANCE);
+            }
+            BY_FLAGS[flags] = new PayRuleSet(rules);
+        }
+    }
+
+    private final PayRule[] rules; // Kind 순서, 없으면 null
+    private volatile PayPlan plan;
+
+    private PayRuleSet(PayRule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * 규칙 묶음 (같은 종류가 여러 번 나오면 뒤의 것을 쓴다)
+     */
+    public static PayRuleSet of(PayRule... rules) {
+        PayRule[] byKind = new PayRule[PayRule.Kind.values().length];
+        for (PayRule rule : rules) {
+            byKind[rule.getKind().ordinal()] = rule;
+        }
+        return new PayRuleSet(byKind);
+    }
+
+    /**
+     * PayrollEngine 의 수당 플래그 조합에 해당하는 규칙 묶음 (기본 배율)
+     */
+    public static PayRuleSet fromFlags(int flags) {
+        return BY_FLAGS[flags & PayrollEngine.ALL];
+    }
+
+    /**
+     * 이 묶음에 규칙 하나를 더하거나 바꾼 새 묶음
+     */
+    public PayRuleSet with(PayRule rule) {
+        PayRule[] copy = rules.clone();
+        copy[rule.getKind().ordinal()] = rule;
+        return new PayRuleSet(copy);
+    }
+
+    /**
+     * 이 묶음에서 한 종류를 뺀 새 묶음
+     */
+    public PayRuleSet without(PayRule.Kind kind) {
+        PayRule[] copy = rules.clone();
+        copy[kind.ordinal()] = null;
+        return new PayRuleSet(copy);
+    }
+
+    /** 종류별 규칙 (없으면 null) */
+    public PayRule get(PayRule.Kind kind) {
+        return rules[kind.ordinal()];
+    }
+
+    public boolean has(PayRule.Kind kind) {
+        return rules[kind.ordinal()] != null;
+    }
+
+    /**
+     * 평가 계획 (처음 한 번만 만든다)
+     */
+    public PayPlan compile() {
+        PayPlan compiled = plan;
+        if (compiled == null) {
+            compiled = new PayPlan(rules);
+            plan = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * "NIGHT:150,HOLIDAY:150" 형식 문자열을 읽는다 (빈 문자열은 규칙 없음)
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 알 수 없는 종류인 경우
+     */
+    public static PayRuleSet parse(String spec) {
+        PayRule[] byKind = new PayRule[PayRule.Kind.values().length];
+        if (!spec.trim().isEmpty()) {
+            for (String token : spec.split(",")) {
+                String[] parts = token.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("잘못된 수당 규칙: " + token);
+                }
+                PayRule.Kind kind = PayRule.Kind.valueOf(parts[0].trim());
+                byKind[kind.ordinal()] = PayRule.of(kind, Integer.parseInt(parts[1].trim()));
+            }
+        }
+        return new PayRuleSet(byKind);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PayRuleSet && Arrays.equals(rules, ((PayRuleSet) o).rules));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rules);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder();
+        for (PayRule rule : rules) {
+            if (rule != null) {
+                if (spec.length() > 0) {
+                    spec.append(',');
+                }
+                spec.append(rule);
+            }
+        }
+        return spec.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.alba_pay_manager.payroll;
+
+/**
+ * 급여 모의 계산의 시나리오 하나 (불변)
+ *
+ * 수당 규칙 묶음, 시급 비율, 최저시급을 바꿔 "시급 3% 인상", "야간수당 없음" 같은 경우를 나타낸다.
+ * with 계열 메서드는 값을 하나 바꾼 새 시나리오를 돌려준다.
+ */
+public final class PayScenario {
+    private final String name;
+    private final PayRuleSet rules;
+    private final int wageScale;   // 시급 비율 (만분율, WageSchedule.SCALE_ONE = 그대로)
+    private final int minimumWage; // 최저시급 (0 이면 실제 최저시급)
+
+    private PayScenario(String name, PayRuleSet rules, int wageScale, int minimumWage) {
+        this.name = name;
+        this.rules = rules;
+        this.wageScale = wageScale;
+        this.minimumWage = minimumWage;
+    }
+
+    /**
+     * 규칙 묶음만 정한 시나리오 (시급, 최저시급은 실제 값)
+     */
+    public static PayScenario of(String name, PayRuleSet rules) {
+        return new PayScenario(name, rules, WageSchedule.SCALE_ONE, 0);
+    }
+
+    public PayScenario withName(String name) {
+        return new PayScenario(name, rules, wageScale, minimumWage);
+    }
+
+    public PayScenario withRules(PayRuleSet rules) {
+        return new PayScenario(name, rules, wageScale, minimumWage);
+    }
+
+    /**
+     * 모든 시급을 바꾼 시나리오
+     *
+     * @param basisPoints 변동률 (만분율, 300 = 3% 인상, -500 = 5% 인하)
+     */
+    public PayScenario withWageChange(int basisPoints) {
+        return new PayScenario(name, rules, WageSchedule.SCALE_ONE + basisPoints, minimumWage);
+    }
+
+    /**
+     * 최저시급을 바꾼 시나리오 (이보다 낮은 시급은 이 값으로 올린다)
+     */
+    public PayScenario withMinimumWage(int minimumWage) {
+        return new PayScenario(name, rules, wageScale, minimumWage);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PayRuleSet getRules() {
+        return rules;
+    }
+
+    public int getWageScale() {
+        return wageScale;
+    }
+
+    public int getMinimumWage() {
+        return minimumWage;
+    }
+
+    /**
+     * 실제 시급 이력에 이 시나리오의 시급 비율과 최저시급을 적용한 이력
+     */
+    WageSchedule applyTo(WageSchedule wages) {
+        WageSchedule scaled = wages.scaled(wageScale);
+        return minimumWage > 0 ? scaled.withFloor(minimumWage) : scaled;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
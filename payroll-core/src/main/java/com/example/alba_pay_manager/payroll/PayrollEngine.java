@@ -0,0 +1,434 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 급여 계산 엔진
+ *
+ * 근무(epoch 분 배열) 또는 일자별 집계(epoch 일 배열)를 받아 정수 분 단위로 시간을 나누고
+ * 원 단위 정수 연산으로 수당을 계산한다. 결과는 호출자가 넘긴 {@link Breakdown} 에 누적되므로
+ * Breakdown 을 재사용하면 근무 수와 무관하게 객체를 만들지 않는다.
+ * 근무 배열은 자정에서 나눠 날짜별로 합친 뒤 일자별 집계와 같은 경로로 계산하므로, 일 8시간과 휴일은
+ * 어느 입력이든 달력 날짜 단위로 판정된다 (같은 근무면 두 경로의 결과가 같다).
+ * 어떤 수당을 몇 % 로 줄지는 {@link PayPlan} 이 정하며, 하루를 한 번 나눠 계획의 구간 배열에 누적한다.
+ *
+ * 주휴수당은 ISO 주(월~일) 전체 근무시간으로 정산하고, 그 주의 일요일이 속한 기간에 지급한다.
+ * 기간이 주 중간에서 시작하면 호출자가 그 주 월요일부터의 근무를 함께 넘기고
+ * [payFromDay, payToDay) 로 지급 기간을 지정한다. 기간 밖의 근무는 주 합계에만 쓰인다.
+ * 시각은 {@code Converters} 와 같은 벽시계 epoch 분이며, 분 % 1440 이 하루 중 시각이다.
+ *
+ * 시급은 {@link WageSchedule} 로 날짜마다 다를 수 있다. 구간별로 (분 x 시급)을 누적해 두었다가
+ * 마지막에 배율을 곱하므로, 시급이 하나뿐이면 분 합계 x 시급으로 계산한 것과 같다.
+ * 주휴수당은 그 주 일요일의 시급으로 계산한다.
+ */
+public final class PayrollEngine {
+    private PayrollEngine() {} // 인스턴스화 방지
+
+    // 아래 플래그는 기본 배율 규칙 묶음의 줄임 표기이다 (PayRuleSet.fromFlags)
+    /** 야간수당 적용 */
+    public static final int NIGHT = 1;
+    /** 연장근로수당 적용 */
+    public static final int OVERTIME = 1 << 1;
+    /** 휴일근로수당 적용 */
+    public static final int HOLIDAY = 1 << 2;
+    /** 주휴수당 적용 */
+    public static final int WEEKLY_ALLOWANCE = 1 << 3;
+    /** 모든 수당 적용 */
+    public static final int ALL = NIGHT | OVERTIME | HOLIDAY | WEEKLY_ALLOWANCE;
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int DAILY_MINUTES_LIMIT = 8 * 60;       // 1일 근무시간 제한
+    private static final int WEEKLY_MINUTES_THRESHOLD = 15 * 60; // 주휴수당 기준 시간
+    private static final int WEEKLY_MINUTES_LIMIT = 40 * 60;     // 1주 근무시간 제한
+    private static final int WEEKLY_ALLOWANCE_MINUTES = 8 * 60;  // 만근 시 주휴 시간
+
+    /**
+     * 계산 결과 (가변, 재사용 가능)
+     *
+     * 시간은 분, 금액은 원 단위이다. {@link #reset()} 후 calculate 계열 메서드에 넘긴다.
+     */
+    public static final class Breakdown {
+        public int regularMinutes;         // 일반 근무시간
+        public int nightMinutes;           // 야간 근무시간
+        public int overtimeMinutes;        // 연장 근무시간
+        public int holidayMinutes;         // 휴일 근무시간
+        public int weeklyAllowanceMinutes; // 주휴수당 시간
+        public int totalMinutes;           // 총 근무시간
+        public long regularPay;            // 일반 급여
+        public long nightPay;              // 야간수당
+        public long overtimePay;           // 연장근로수당
+        public long holidayPay;            // 휴일근로수당
+        public long weeklyAllowancePay;    // 주휴수당
+        public long totalPay;              // 총 급여
+        // 위 시간/금액의 지급 구간(PayPlan.REGULAR 등)별 값
+        // (휴일 시간에는 휴일 연장분, 연장 시간에는 주 40시간 초과분이 포함된다)
+        public final int[] segmentMinutes = new int[PayPlan.SEGMENTS];
+        public final long[] segmentPay = new long[PayPlan.SEGMENTS];
+
+        // 지급 구간별 (분 x 시급) 합계
+        private final long[] segmentWageMinutes = new long[PayPlan.SEGMENTS];
+        // (주 기준 연도, 주차) 별 근무시간 누적
+        private final WeekAccumulator weeks = new WeekAccumulator();
+        // 주 40시간 판정용 일반 근무시간 누적
+        private final WeekAccumulator weekRegular = new WeekAccumulator();
+        // calculateShifts 가 근무를 날짜별로 모으는 작업 배열 (모자랄 때만 늘린다)
+        private long[] shiftDays = new long[0];
+        private int[] shiftDayMinutes = new int[0];
+        private int[] shiftDayNightMinutes = new int[0];
+
+        public void reset() {
+            regularMinutes = 0;
+            nightMinutes = 0;
+            overtimeMinutes = 0;
+            holidayMinutes = 0;
+            weeklyAllowanceMinutes = 0;
+            totalMinutes = 0;
+            regularPay = 0;
+            nightPay = 0;
+            overtimePay = 0;
+            holidayPay = 0;
+            weeklyAllowancePay = 0;
+            totalPay = 0;
+            Arrays.fill(segmentMinutes, 0);
+            Arrays.fill(segmentPay, 0);
+            Arrays.fill(segmentWageMinutes, 0);
+            weeks.clear();
+            weekRegular.clear();
+        }
+    }
+
+    /**
+     * 근무 배열로 급여 계산 (주어진 근무 전체가 지급 기간)
+     *
+     * @param startMinutes 근무 시작 epoch 분
+     * @param endMinutes   근무 종료 epoch 분
+     * @param from         계산할 첫 인덱스 (포함)
+     * @param to           계산할 마지막 인덱스 (제외)
+     * @param hourlyWage   시급 (원)
+     * @param flags        {@link #NIGHT} 등 적용할 수당의 조합
+     * @param out          결과를 누적할 Breakdown (reset 된 상태)
+     */
+    public static void calculateShifts(long[] startMinutes, long[] endMinutes, int from, int to,
+                                       int hourlyWage, int flags, Breakdown out) {
+        calculateShifts(startMinutes, endMinutes, from, to, Long.MIN_VALUE, Long.MAX_VALUE,
+                hourlyWage, flags, out);
+    }
+
+    /**
+     * 근무 배열로 [payFromDay, payToDay) 기간의 급여 계산
+     * 시작일이 기간 밖인 근무는 주휴 판정용 주 합계에만 더한다.
+     */
+    public static void calculateShifts(long[] startMinutes, long[] endMinutes, int from, int to,
+                                       long payFromDay, long payToDay,
+                                       int hourlyWage, int flags, Breakdown out) {
+        calculateShifts(startMinutes, endMinutes, from, to, payFromDay, payToDay, hourlyWage,
+                PayRuleSet.fromFlags(flags).compile(), out);
+    }
+
+    /**
+     * 근무 배열로 [payFromDay, payToDay) 기간의 급여를 계획의 규칙대로 계산
+     */
+    public static void calculateShifts(long[] startMinutes, long[] endMinutes, int from, int to,
+                                       long payFromDay, long payToDay,
+                                       int hourlyWage, PayPlan plan, Breakdown out) {
+        calculateShifts(startMinutes, endMinutes, from, to, payFromDay, payToDay,
+                WageSchedule.of(hourlyWage), plan, out);
+    }
+
+    /**
+     * 근무 배열로 [payFromDay, payToDay) 기간의 급여를 날짜별 시급으로 계산
+     * 근무를 자정에서 나눠 날짜별 (분, 야간 분)으로 합친 뒤 {@link #calculateDays} 로 계산한다.
+     * 근무 순서는 상관없다 (날짜 순이 아니면 모은 뒤 정렬한다).
+     */
+    public static void calculateShifts(long[] startMinutes, long[] endMinutes, int from, int to,
+                                       long payFromDay, long payToDay,
+                                       WageSchedule wages, PayPlan plan, Breakdown out) {
+        int count = 0;
+        boolean sorted = true;
+        for (int i = from; i < to; i++) {
+            long start = startMinutes[i];
+            long end = endMinutes[i];
+            while (end > start) {
+                long day = Math.floorDiv(start, MINUTES_PER_DAY);
+                long partEnd = Math.min(end, (day + 1) * MINUTES_PER_DAY);
+                if (count == out.shiftDays.length) {
+                    int capacity = Math.max(16, count * 2);
+                    out.shiftDays = Arrays.copyOf(out.shiftDays, capacity);
+                    out.shiftDayMinutes = Arrays.copyOf(out.shiftDayMinutes, capacity);
+                    out.shiftDayNightMinutes = Arrays.copyOf(out.shiftDayNightMinutes, capacity);
+                }
+                if (count > 0 && day < out.shiftDays[count - 1]) {
+                    sorted = false;
+                }
+                out.shiftDays[count] = day;
+                out.shiftDayMinutes[count] = (int) (partEnd - start);
+                out.shiftDayNightMinutes[count] = (int) NightMinutes.between(start, partEnd);
+                count++;
+                start = partEnd;
+            }
+        }
+        if (!sorted) {
+            sortByDay(out, count);
+        }
+        count = mergeSameDays(out, count);
+        calculateDays(out.shiftDays, out.shiftDayMinutes, out.shiftDayNightMinutes, 0, count,
+                payFromDay, payToDay, wages, plan, out);
+    }
+
+    /**
+     * 모은 날짜 조각을 날짜 순으로 정렬 (삽입 정렬, 같은 날짜는 순서 유지)
+     */
+    private static void sortByDay(Breakdown out, int count) {
+        long[] days = out.shiftDays;
+        int[] minutes = out.shiftDayMinutes;
+        int[] night = out.shiftDayNightMinutes;
+        for (int i = 1; i < count; i++) {
+            long day = days[i];
+            int dayMinutes = minutes[i];
+            int dayNight = night[i];
+            int j = i - 1;
+            while (j >= 0 && days[j] > day) {
+                days[j + 1] = days[j];
+                minutes[j + 1] = minutes[j];
+                night[j + 1] = night[j];
+                j--;
+            }
+            days[j + 1] = day;
+            minutes[j + 1] = dayMinutes;
+            night[j + 1] = dayNight;
+        }
+    }
+
+    /**
+     * 정렬된 날짜 조각에서 같은 날짜를 하나로 합치고 남은 개수를 돌려준다
+     */
+    private static int mergeSameDays(Breakdown out, int count) {
+        long[] days = out.shiftDays;
+        int[] minutes = out.shiftDayMinutes;
+        int[] night = out.shiftDayNightMinutes;
+        int merged = 0;
+        for (int i = 0; i < count; i++) {
+            if (merged > 0 && days[merged - 1] == days[i]) {
+                minutes[merged - 1] += minutes[i];
+                night[merged - 1] += night[i];
+            } else {
+                days[merged] = days[i];
+                minutes[merged] = minutes[i];
+                night[merged] = night[i];
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 일자별 집계 배열로 급여 계산 (주어진 일자 전체가 지급 기간)
+     * 날짜 단위로 야간/휴일/연장을 나누므로 자정을 넘는 근무는 날짜별로 나뉘어 계산된다.
+     *
+     * @param days         epoch 일
+     * @param minutes      일자별 근무시간(분)
+     * @param nightMinutes 일자별 야간 근무시간(분)
+     */
+    public static void calculateDays(long[] days, int[] minutes, int[] nightMinutes, int from, int to,
+                                     int hourlyWage, int flags, Breakdown out) {
+        calculateDays(days, minutes, nightMinutes, from, to, Long.MIN_VALUE, Long.MAX_VALUE,
+                hourlyWage, flags, out);
+    }
+
+    /**
+     * 일자별 집계 배열로 [payFromDay, payToDay) 기간의 급여 계산
+     * 기간 밖의 일자는 주휴 판정용 주 합계에만 더한다.
+     */
+    public static void calculateDays(long[] days, int[] minutes, int[] nightMinutes, int from, int to,
+                                     long payFromDay, long payToDay,
+                                     int hourlyWage, int flags, Breakdown out) {
+        calculateDays(days, minutes, nightMinutes, from, to, payFromDay, payToDay, hourlyWage,
+                PayRuleSet.fromFlags(flags).compile(), out);
+    }
+
+    /**
+     * 일자별 집계 배열로 [payFromDay, payToDay) 기간의 급여를 계획의 규칙대로 계산
+     */
+    public static void calculateDays(long[] days, int[] minutes, int[] nightMinutes, int from, int to,
+                                     long payFromDay, long payToDay,
+                                     int hourlyWage, PayPlan plan, Breakdown out) {
+        calculateDays(days, minutes, nightMinutes, from, to, payFromDay, payToDay,
+                WageSchedule.of(hourlyWage), plan, out);
+    }
+
+    /**
+     * 일자별 집계 배열로 [payFromDay, payToDay) 기간의 급여를 날짜별 시급으로 계산
+     * 일자가 오름차순이면 시급 이력을 한 번만 훑는다.
+     */
+    public static void calculateDays(long[] days, int[] minutes, int[] nightMinutes, int from, int to,
+                                     long payFromDay, long payToDay,
+                                     WageSchedule wages, PayPlan plan, Breakdown out) {
+        int wageIndex = wages.first();
+        for (int i = from; i < to; i++) {
+            if (minutes[i] <= 0) {
+                continue;
+            }
+            long day = days[i];
+            wageIndex = wages.indexOn(day, wageIndex);
+            int night = plan.separateNight ? nightMinutes[i] : 0;
+            addUnit(day, minutes[i], night, day >= payFromDay && day < payToDay,
+                    wages.wageAt(wageIndex, day), plan, out);
+        }
+        finish(payFromDay, payToDay, wages, plan, out);
+    }
+
+    /**
+     * 일자별 집계 배열을 한 번만 훑으며 여러 계획/시급 이력으로 동시에 계산 (모의 계산용)
+     * wages[s] 는 모두 같은 이력 배열 구간에서 만든 것이어야 한다 ({@link PayScenario#applyTo}).
+     * 결과는 outs[s] 에 누적된다.
+     */
+    static void calculateDays(long[] days, int[] minutes, int[] nightMinutes, int from, int to,
+                              long payFromDay, long payToDay,
+                              WageSchedule[] wages, PayPlan[] plans, Breakdown[] outs) {
+        int count = plans.length;
+        int wageIndex = wages[0].first();
+        for (int i = from; i < to; i++) {
+            if (minutes[i] <= 0) {
+                continue;
+            }
+            long day = days[i];
+            wageIndex = wages[0].indexOn(day, wageIndex);
+            boolean payable = day >= payFromDay && day < payToDay;
+            for (int s = 0; s < count; s++) {
+                PayPlan plan = plans[s];
+                int night = plan.separateNight ? nightMinutes[i] : 0;
+                addUnit(day, minutes[i], night, payable, wages[s].wageAt(wageIndex, day), plan, outs[s]);
+            }
+        }
+        for (int s = 0; s < count; s++) {
+            finish(payFromDay, payToDay, wages[s], plans[s], outs[s]);
+        }
+    }
+
+    /**
+     * 하루를 속성(야간/휴일/일 8시간 초과/주 40시간 초과)별 분으로 나눠
+     * 계획이 정한 지급 구간에 누적한다. 지급 기간 밖이면 주 합계에만 더한다.
+     */
+    private static void addUnit(long day, int minutes, int night, boolean payable, int wage,
+                                PayPlan plan, Breakdown out) {
+        long week = WeekKey.of(day);
+        out.weeks.add(week, minutes);
+
+        int base = plan.usesHoliday && isHoliday(day) ? PayRule.ATTR_HOLIDAY : 0;
+        int daytime = minutes - night;
+        int within = Math.min(daytime, DAILY_MINUTES_LIMIT);
+        int dailyOver = daytime - within;
+
+        // 일반 근무가 될 분만 주 40시간 누계에 센다 (순서대로 넘는 분이 주 연장)
+        int weeklyOver = 0;
+        if (plan.tracksWeekly && plan.segmentOf[base] == PayPlan.REGULAR) {
+            int before = out.weekRegular.get(week);
+            out.weekRegular.add(week, within);
+            weeklyOver = Math.min(within, Math.max(0, before + within - WEEKLY_MINUTES_LIMIT));
+        }
+        if (!payable) {
+            return;
+        }
+
+        byte[] segmentOf = plan.segmentOf;
+        out.totalMinutes += minutes;
+        credit(out, segmentOf[base | PayRule.ATTR_NIGHT], night, wage);
+        credit(out, segmentOf[base], within - weeklyOver, wage);
+        credit(out, segmentOf[base | PayRule.ATTR_WEEKLY_OVER], weeklyOver, wage);
+        credit(out, segmentOf[base | PayRule.ATTR_DAILY_OVER], dailyOver, wage);
+    }
+
+    private static void credit(Breakdown out, int segment, int minutes, int wage) {
+        out.segmentMinutes[segment] += minutes;
+        out.segmentWageMinutes[segment] += (long) minutes * wage;
+    }
+
+    /**
+     * 평일로 나눠 누적한 하루를 휴일로 다시 나눈다 (일반/연장 분을 휴일 분으로 옮김)
+     * 토/일요일만 휴일로 보는 누적 값을 공휴일/휴무일에 맞게 보정할 때 쓴다.
+     */
+    public static void reclassifyAsHoliday(int minutes, int nightMinutes, Breakdown out) {
+        int remaining = minutes - nightMinutes;
+        int regular = Math.min(remaining, DAILY_MINUTES_LIMIT);
+        out.regularMinutes -= regular;
+        out.overtimeMinutes -= remaining - regular;
+        out.holidayMinutes += remaining;
+    }
+
+    /**
+     * 주 합계에 대한 주휴 분
+     * 15시간 이상이면 40시간 기준 비례(40시간 이상은 8시간), 분 미만은 절사한다.
+     */
+    public static int weeklyAllowanceMinutes(int weekMinutes) {
+        if (weekMinutes < WEEKLY_MINUTES_THRESHOLD) {
+            return 0;
+        }
+        if (weekMinutes >= WEEKLY_MINUTES_LIMIT) {
+            return WEEKLY_ALLOWANCE_MINUTES;
+        }
+        return weekMinutes * WEEKLY_ALLOWANCE_MINUTES / WEEKLY_MINUTES_LIMIT;
+    }
+
+    /**
+     * 일요일이 지급 기간에 든 주의 주휴 분을 정산하고 구간별 금액을 계산
+     */
+    private static void finish(long payFromDay, long payToDay, WageSchedule wages, PayPlan plan,
+                               Breakdown out) {
+        long allowanceWageMinutes = 0;
+        if (plan.weeklyAllowance) {
+            WeekAccumulator weeks = out.weeks;
+            for (int i = 0; i < weeks.size(); i++) {
+                long sunday = WeekKey.sunday(weeks.keyAt(i));
+                if (sunday >= payFromDay && sunday < payToDay) {
+                    int allowance = weeklyAllowanceMinutes(weeks.valueAt(i));
+                    out.weeklyAllowanceMinutes += allowance;
+                    allowanceWageMinutes += (long) allowance * wages.wageOn(sunday);
+                }
+            }
+        }
+
+        int[] minutes = out.segmentMinutes;
+        long[] pays = out.segmentPay;
+        for (int segment = 0; segment < PayPlan.SEGMENTS; segment++) {
+            pays[segment] = out.segmentWageMinutes[segment] * plan.percent[segment] / (60 * 100);
+        }
+        out.regularMinutes = minutes[PayPlan.REGULAR];
+        out.nightMinutes = minutes[PayPlan.NIGHT];
+        out.overtimeMinutes = minutes[PayPlan.OVERTIME] + minutes[PayPlan.WEEKLY_OVERTIME];
+        out.holidayMinutes = minutes[PayPlan.HOLIDAY] + minutes[PayPlan.HOLIDAY_OVERTIME];
+        out.regularPay = pays[PayPlan.REGULAR];
+        out.nightPay = pays[PayPlan.NIGHT];
+        out.overtimePay = pays[PayPlan.OVERTIME] + pays[PayPlan.WEEKLY_OVERTIME];
+        out.holidayPay = pays[PayPlan.HOLIDAY] + pays[PayPlan.HOLIDAY_OVERTIME];
+        out.weeklyAllowancePay = allowanceWageMinutes * plan.weeklyAllowancePercent / (60 * 100);
+        out.totalPay = out.regularPay + out.nightPay + out.overtimePay
+                + out.holidayPay + out.weeklyAllowancePay;
+    }
+
+    /**
+     * Breakdown 의 분 단위 시간을 {@link PayRuleSet#DEFAULT} 배율로 원 단위 금액으로 환산 (원 미만 절사)
+     * 분 값을 이미 알고 있을 때(누적 테이블 등) 금액만 채우는 데 쓴다.
+     */
+    public static void price(int hourlyWage, Breakdown out) {
+        PayPlan plan = PayRuleSet.DEFAULT.compile();
+        out.regularPay = pay(out.regularMinutes, hourlyWage, plan.percent[PayPlan.REGULAR]);
+        out.nightPay = pay(out.nightMinutes, hourlyWage, plan.percent[PayPlan.NIGHT]);
+        out.overtimePay = pay(out.overtimeMinutes, hourlyWage, plan.percent[PayPlan.OVERTIME]);
+        out.holidayPay = pay(out.holidayMinutes, hourlyWage, plan.percent[PayPlan.HOLIDAY]);
+        out.weeklyAllowancePay = pay(out.weeklyAllowanceMinutes, hourlyWage, plan.weeklyAllowancePercent);
+        out.totalPay = out.regularPay + out.nightPay + out.overtimePay
+                + out.holidayPay + out.weeklyAllowancePay;
+    }
+
+    private static long pay(int minutes, int hourlyWage, int percent) {
+        return (long) minutes * hourlyWage * percent / (60 * 100);
+    }
+
+    /**
+     * 휴일 여부 (토/일요일, 공휴일, 대체공휴일, 매장 휴무일)
+     */
+    static boolean isHoliday(long day) {
+        return HolidayCalendar.isHoliday(day);
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 급여 모의 계산기 (같은 근무 집합을 여러 시나리오로 다시 계산해 비교)
+ *
+ * 일자별 집계를 (알바생, 일자) 순의 열 배열로 한 번 받아, 알바생마다 일자를 한 번만 훑으며
+ * 모든 시나리오의 Breakdown 을 함께 누적한다. 알바생 구간은 ForkJoinPool 에서 나눠 계산하며
+ * 잎 작업은 시나리오 수만큼의 Breakdown 을 재사용한다. DB 에는 접근하지 않는다.
+ */
+public final class ScenarioSimulator {
+    private ScenarioSimulator() {} // 인스턴스화 방지
+
+    /**
+     * 시나리오별 비교 결과 (불변)
+     * 금액은 원, 시간은 분이며 첫 시나리오를 기준으로 차이를 계산한다.
+     */
+    public static final class Comparison {
+        private final PayScenario[] scenarios;
+        private final long[] employeeIds;
+        private final long[] employeePay;  // [알바생 * 시나리오 수 + 시나리오] 총 급여
+        private final long[][] segmentPay; // [시나리오][지급 구간]
+        private final long[] weeklyAllowancePay;
+        private final long[] totalPay;
+
+        Comparison(PayScenario[] scenarios, long[] employeeIds, long[] employeePay) {
+            this.scenarios = scenarios;
+            this.employeeIds = employeeIds;
+            this.employeePay = employeePay;
+            this.segmentPay = new long[scenarios.length][PayPlan.SEGMENTS];
+            this.weeklyAllowancePay = new long[scenarios.length];
+            this.totalPay = new long[scenarios.length];
+        }
+
+        // 잎 작업의 합계를 더한다 (작업이 끝난 뒤 한 스레드에서만 호출)
+        void add(int scenario, PayrollEngine.Breakdown breakdown) {
+            for (int segment = 0; segment < PayPlan.SEGMENTS; segment++) {
+                segmentPay[scenario][segment] += breakdown.segmentPay[segment];
+            }
+            weeklyAllowancePay[scenario] += breakdown.weeklyAllowancePay;
+            totalPay[scenario] += breakdown.totalPay;
+        }
+
+        public int scenarioCount() {
+            return scenarios.length;
+        }
+
+        public PayScenario scenario(int scenario) {
+            return scenarios[scenario];
+        }
+
+        public int employeeCount() {
+            return employeeIds.length;
+        }
+
+        public long employeeId(int employee) {
+            return employeeIds[employee];
+        }
+
+        /** 알바생 한 명의 시나리오별 총 급여 */
+        public long employeePay(int employee, int scenario) {
+            return employeePay[employee * scenarios.length + scenario];
+        }
+
+        /** 시나리오의 전체 총 급여 */
+        public long totalPay(int scenario) {
+            return totalPay[scenario];
+        }
+
+        /** 시나리오의 지급 구간(PayPlan.REGULAR 등)별 합계 */
+        public long segmentPay(int scenario, int segment) {
+            return segmentPay[scenario][segment];
+        }
+
+        public long weeklyAllowancePay(int scenario) {
+            return weeklyAllowancePay[scenario];
+        }
+
+        /** 첫 시나리오 대비 총 급여 차이 */
+        public long difference(int scenario) {
+            return totalPay[scenario] - totalPay[0];
+        }
+
+        /**
+         * 시나리오별 합계 표 (시나리오, 일반, 야간, 휴일, 연장, 주휴, 총액, 차이, 차이율)
+         */
+        @Override
+        public String toString() {
+            StringBuilder table = new StringBuilder(
+                    "시나리오\t일반\t야간\t휴일\t연장\t주휴\t총액\t차이\t차이율\n");
+            for (int s = 0; s < scenarios.length; s++) {
+                long[] pay = segmentPay[s];
+                double rate = totalPay[0] == 0 ? 0 : difference(s) * 100.0 / totalPay[0];
+                table.append(String.format(Locale.ROOT, "%s\t%d\t%d\t%d\t%d\t%d\t%d\t%+d\t%+.2f%%\n",
+                        scenarios[s].getName(),
+                        pay[PayPlan.REGULAR],
+                        pay[PayPlan.NIGHT],
+                        pay[PayPlan.HOLIDAY] + pay[PayPlan.HOLIDAY_OVERTIME],
+                        pay[PayPlan.OVERTIME] + pay[PayPlan.WEEKLY_OVERTIME],
+                        weeklyAllowancePay[s], totalPay[s], difference(s), rate));
+            }
+            return table.toString();
+        }
+    }
+
+    /**
+     * [payFromDay, payToDay) 기간을 시나리오마다 계산해 비교
+     *
+     * @param workerIds    계산할 알바생 id
+     * @param wages        알바생별 실제 시급 이력 (workerIds 와 같은 순서)
+     * @param employeeIds  일자별 집계의 알바생 id 열 (오름차순)
+     * @param days         일자별 집계의 epoch 일 열 (알바생 안에서 오름차순)
+     * @param minutes      일자별 근무시간(분) 열
+     * @param nightMinutes 일자별 야간 근무시간(분) 열
+     * @param scenarios    시나리오 (첫 시나리오가 비교 기준)
+     */
+    public static Comparison simulate(long[] workerIds, WageSchedule[] wages,
+                                      long[] employeeIds, long[] days, int[] minutes, int[] nightMinutes,
+                                      long payFromDay, long payToDay, List<PayScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("시나리오가 없습니다.");
+        }
+        PayScenario[] scenarioArray = scenarios.toArray(new PayScenario[0]);
+        PayPlan[] plans = new PayPlan[scenarioArray.length];
+        for (int s = 0; s < plans.length; s++) {
+            plans[s] = scenarioArray[s].getRules().compile();
+        }
+
+        long[] employeePay = new long[workerIds.length * scenarioArray.length];
+        Comparison comparison = new Comparison(scenarioArray, workerIds.clone(), employeePay);
+        Task root = new Task(workerIds, wages, employeeIds, days, minutes, nightMinutes,
+                payFromDay, payToDay, scenarioArray, plans, employeePay, 0, workerIds.length);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(root);
+        } finally {
+            pool.shutdown();
+        }
+        root.collect(comparison);
+        return comparison;
+    }
+
+    /**
+     * 알바생 구간을 반으로 나눠가며 모든 시나리오를 계산하는 작업
+     * 잎 작업은 시나리오별 구간 합계를 자기 Breakdown 에 모아 두고, 끝난 뒤 한 번에 합친다.
+     */
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 16;
+
+        private final long[] workerIds;
+        private final WageSchedule[] wages;
+        private final long[] employeeIds;
+        private final long[] days;
+        private final int[] minutes;
+        private final int[] nightMinutes;
+        private final long payFromDay;
+        private final long payToDay;
+        private final PayScenario[] scenarios;
+        private final PayPlan[] plans;
+        private final long[] employeePay;
+        private final int from;
+        private final int to;
+
+        private Task left;
+        private Task right;
+        private PayrollEngine.Breakdown[] totals; // 잎 작업의 시나리오별 합계
+
+        Task(long[] workerIds, WageSchedule[] wages,
+             long[] employeeIds, long[] days, int[] minutes, int[] nightMinutes,
+             long payFromDay, long payToDay, PayScenario[] scenarios, PayPlan[] plans,
+             long[] employeePay, int from, int to) {
+            this.workerIds = workerIds;
+            this.wages = wages;
+            this.employeeIds = employeeIds;
+            this.days = days;
+            this.minutes = minutes;
+            this.nightMinutes = nightMinutes;
+            this.payFromDay = payFromDay;
+            this.payToDay = payToDay;
+            this.scenarios = scenarios;
+            this.plans = plans;
+            this.employeePay = employeePay;
+            this.from = from;
+            this.to = to;
+        }
+
+        private Task child(int childFrom, int childTo) {
+            return new Task(workerIds, wages, employeeIds, days, minutes, nightMinutes,
+                    payFromDay, payToDay, scenarios, plans, employeePay, childFrom, childTo);
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                left = child(from, mid);
+                right = child(mid, to);
+                invokeAll(left, right);
+                return;
+            }
+
+            int count = scenarios.length;
+            PayrollEngine.Breakdown[] breakdowns = new PayrollEngine.Breakdown[count];
+            WageSchedule[] scenarioWages = new WageSchedule[count];
+            totals = new PayrollEngine.Breakdown[count];
+            for (int s = 0; s < count; s++) {
+                breakdowns[s] = new PayrollEngine.Breakdown();
+                totals[s] = new PayrollEngine.Breakdown();
+            }
+            for (int w = from; w < to; w++) {
+                // 정렬된 employeeId 열에서 이 알바생의 구간을 이진 탐색
+                int start = lowerBound(employeeIds, workerIds[w]);
+                int end = lowerBound(employeeIds, workerIds[w] + 1);
+                for (int s = 0; s < count; s++) {
+                    breakdowns[s].reset();
+                    scenarioWages[s] = scenarios[s].applyTo(wages[w]);
+                }
+                PayrollEngine.calculateDays(days, minutes, nightMinutes, start, end,
+                        payFromDay, payToDay, scenarioWages, plans, breakdowns);
+                for (int s = 0; s < count; s++) {
+                    employeePay[w * count + s] = breakdowns[s].totalPay;
+                    addTo(totals[s], breakdowns[s]);
+                }
+            }
+        }
+
+        private static void addTo(PayrollEngine.Breakdown total, PayrollEngine.Breakdown part) {
+            for (int segment = 0; segment < PayPlan.SEGMENTS; segment++) {
+                total.segmentPay[segment] += part.segmentPay[segment];
+            }
+            total.weeklyAllowancePay += part.weeklyAllowancePay;
+            total.totalPay += part.totalPay;
+        }
+
+        void collect(Comparison comparison) {
+            if (left != null) {
+                left.collect(comparison);
+                right.collect(comparison);
+                return;
+            }
+            for (int s = 0; s < totals.length; s++) {
+                comparison.add(s, totals[s]);
+            }
+        }
+
+        private static int lowerBound(long[] sorted, long key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 알바생 한 명의 시급 이력 (적용 시작일 -> 시급, 불변)
+ *
+ * 적용 시작일(epoch 일) 오름차순 배열의 [start, end) 구간을 그대로 가리키므로,
+ * 여러 알바생의 이력을 (employeeId, 적용 시작일) 순으로 한 번 읽은 열 배열을 복사 없이 나눠 쓸 수 있다.
+ * 첫 이력보다 이른 날에는 첫 이력의 시급을 쓰고, 모든 시급에 최저시급(floor)을 하한으로 적용한다.
+ * 최저시급은 연도마다 다르므로 하한도 적용 시작일별로 둘 수 있다 (첫 하한보다 이른 날에는 첫 하한).
+ * 시나리오 계산용으로 모든 시급에 비율(scale, 만분율)을 곱한 이력도 배열을 공유해 만든다.
+ *
+ * 엔진은 날짜 순으로 근무를 읽으며 {@link #indexOn(long, int)} 에 직전 위치를 넘겨
+ * 이력을 앞으로만 훑는다 (정렬된 두 열의 병합). 순서가 어긋나면 이진 탐색으로 찾는다.
+ * 하한은 몇 개뿐이므로 {@link #wageAt(int, long)} 에서 날짜로 바로 찾는다.
+ */
+public final class WageSchedule {
+    /** 비율 100% (만분율) */
+    public static final int SCALE_ONE = 10_000;
+
+    private final long[] effectiveFrom; // 적용 시작일 (epoch 일, 구간 안에서 오름차순)
+    private final int[] wages;
+    private final int start;
+    private final int end;
+    private final long[] floorFrom; // 하한 적용 시작일 (epoch 일, 오름차순)
+    private final int[] floors;
+    private final int scale; // 만분율
+
+    private WageSchedule(long[] effectiveFrom, int[] wages, int start, int end,
+                         long[] floorFrom, int[] floors, int scale) {
+        if (start >= end) {
+            throw new IllegalArgumentException("시급 이력이 비어 있습니다.");
+        }
+        this.effectiveFrom = effectiveFrom;
+        this.wages = wages;
+        this.start = start;
+        this.end = end;
+        this.floorFrom = floorFrom;
+        this.floors = floors;
+        this.scale = scale;
+    }
+
+    private WageSchedule(long[] effectiveFrom, int[] wages, int start, int end, int floor, int scale) {
+        this(effectiveFrom, wages, start, end, new long[] {Long.MIN_VALUE}, new int[] {floor}, scale);
+    }
+
+    /**
+     * 기간 내내 같은 시급
+     */
+    public static WageSchedule of(int hourlyWage) {
+        return new WageSchedule(new long[] {Long.MIN_VALUE}, new int[] {hourlyWage}, 0, 1, 0, SCALE_ONE);
+    }
+
+    /**
+     * 열 배열의 [start, end) 구간을 가리키는 이력 (배열은 복사하지 않으므로 이후 바꾸지 않는다)
+     *
+     * @param effectiveFrom 적용 시작일 (epoch 일, 구간 안에서 오름차순)
+     * @param floor         하한 시급 (최저시급, 없으면 0)
+     */
+    public static WageSchedule of(long[] effectiveFrom, int[] wages, int start, int end, int floor) {
+        for (int i = start + 1; i < end; i++) {
+            if (effectiveFrom[i] <= effectiveFrom[i - 1]) {
+                throw new IllegalArgumentException("적용 시작일이 오름차순이 아닙니다: " + effectiveFrom[i]);
+            }
+        }
+        return new WageSchedule(effectiveFrom, wages, start, end, floor, SCALE_ONE);
+    }
+
+    /**
+     * 하한 시급만 바꾼 이력 (기간 내내 같은 하한, 배열은 공유)
+     */
+    public WageSchedule withFloor(int floor) {
+        return floors.length == 1 && floor == floors[0] ? this
+                : new WageSchedule(effectiveFrom, wages, start, end, floor, scale);
+    }
+
+    /**
+     * 날짜별 하한 시급으로 바꾼 이력 (연도가 바뀌는 기간의 최저시급)
+     *
+     * @param fromDays 하한 적용 시작일 (epoch 일, 오름차순)
+     * @param floors   하한 시급 (첫 적용 시작일보다 이른 날에도 첫 하한을 쓴다)
+     */
+    public WageSchedule withFloors(long[] fromDays, int[] floors) {
+        if (fromDays.length == 0 || fromDays.length != floors.length) {
+            throw new IllegalArgumentException("하한 시급 이력이 비어 있거나 길이가 다릅니다.");
+        }
+        for (int i = 1; i < fromDays.length; i++) {
+            if (fromDays[i] <= fromDays[i - 1]) {
+                throw new IllegalArgumentException("하한 적용 시작일이 오름차순이 아닙니다: " + fromDays[i]);
+            }
+        }
+        return new WageSchedule(effectiveFrom, wages, start, end, fromDays.clone(), floors.clone(), scale);
+    }
+
+    /**
+     * 모든 시급에 비율을 곱한 이력 (원 미만 절사 후 하한 적용, 배열은 공유)
+     *
+     * @param scale 만분율 (10300 = 3% 인상)
+     */
+    public WageSchedule scaled(int scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("시급 비율은 음수가 될 수 없습니다: " + scale);
+        }
+        return scale == this.scale ? this
+                : new WageSchedule(effectiveFrom, wages, start, end, floorFrom, floors, scale);
+    }
+
+    /**
+     * 해당 날짜의 하한 시급
+     */
+    public int floorOn(long day) {
+        int index = floorFrom.length - 1;
+        while (index > 0 && floorFrom[index] > day) {
+            index--;
+        }
+        return floors[index];
+    }
+
+    /**
+     * 해당 날짜의 시급
+     */
+    public int wageOn(long day) {
+        return wageAt(indexOn(day, start), day);
+    }
+
+    /**
+     * [fromDay, toDay) 동안 시급이 바뀌지 않는지 (하한이 바뀌는 날도 포함)
+     */
+    public boolean isConstant(long fromDay, long toDay) {
+        int index = indexOn(fromDay, start);
+        if (nextChange(index) < toDay) {
+            return false;
+        }
+        for (long from : floorFrom) {
+            if (from > fromDay && from < toDay) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 해당 날짜에 적용되는 이력 위치
+     * 직전 위치(hint)부터 앞으로 훑고, day 가 hint 보다 앞이면 이진 탐색한다.
+     */
+    int indexOn(long day, int hint) {
+        int index = Math.max(hint, start);
+        if (day < effectiveFrom[index]) {
+            index = Arrays.binarySearch(effectiveFrom, start, end, day);
+            return index >= 0 ? index : Math.max(start, -index - 2);
+        }
+        while (index + 1 < end && effectiveFrom[index + 1] <= day) {
+            index++;
+        }
+        return index;
+    }
+
+    /** 위치의 시급 (비율, 그 날짜의 하한 적용) */
+    int wageAt(int index, long day) {
+        int wage = scale == SCALE_ONE ? wages[index] : (int) ((long) wages[index] * scale / SCALE_ONE);
+        return Math.max(wage, floorOn(day));
+    }
+
+    /** 위치 다음 이력의 적용 시작일 (없으면 Long.MAX_VALUE) */
+    long nextChange(int index) {
+        return index + 1 < end ? effectiveFrom[index + 1] : Long.MAX_VALUE;
+    }
+
+    /** 첫 위치 (indexOn 의 첫 hint) */
+    int first() {
+        return start;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.util.Arrays;
+
+/**
+ * 주 키({@link WeekKey}) -> 근무시간(분) 누적 맵
+ *
+ * long 키와 int 값을 원시 배열에 두는 개방 주소법 해시이므로 값을 넣을 때 박싱하지 않는다.
+ * {@link #clear()} 는 배열을 유지한 채 비우므로 재사용하면 용량이 늘어날 때 외에는 할당이 없다.
+ */
+public final class WeekAccumulator {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int[] usedSlots; // 삽입 순서대로의 슬롯 번호 (순회/비우기용)
+    private int size;
+
+    public WeekAccumulator() {
+        this(16);
+    }
+
+    public WeekAccumulator(int expectedWeeks) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedWeeks) * 2 - 1) << 1;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        usedSlots = new int[capacity];
+    }
+
+    /**
+     * 주에 분을 더한다
+     */
+    public void add(long weekKey, int minutes) {
+        int slot = slotOf(weekKey);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = weekKey;
+            usedSlots[size++] = slot;
+            if (size * 2 > keys.length) {
+                grow();
+                slot = slotOf(weekKey);
+            }
+        }
+        values[slot] += minutes;
+    }
+
+    /**
+     * 주의 누적 분 (없으면 0)
+     */
+    public int get(long weekKey) {
+        int slot = slotOf(weekKey);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** i 번째(삽입 순서)로 들어온 주의 키 */
+    public long keyAt(int i) {
+        return keys[usedSlots[i]];
+    }
+
+    /** i 번째(삽입 순서)로 들어온 주의 누적 분 */
+    public int valueAt(int i) {
+        return values[usedSlots[i]];
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int slot = usedSlots[i];
+            keys[slot] = EMPTY;
+            values[slot] = 0;
+        }
+        size = 0;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldSlots = usedSlots;
+        int oldSize = size;
+
+        keys = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        values = new int[keys.length];
+        usedSlots = new int[keys.length];
+        size = 0;
+        for (int i = 0; i < oldSize; i++) {
+            int oldSlot = oldSlots[i];
+            int slot = slotOf(oldKeys[oldSlot]);
+            keys[slot] = oldKeys[oldSlot];
+            values[slot] = oldValues[oldSlot];
+            usedSlots[size++] = slot;
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
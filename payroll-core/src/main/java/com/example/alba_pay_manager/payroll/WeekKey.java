@@ -0,0 +1,92 @@
+package com.example.alba_pay_manager.payroll;
+
+/**
+ * ISO 주(월요일 시작)를 (주 기준 연도, 주차) 한 개의 long 으로 묶은 키
+ *
+ * 상위 비트에 주 기준 연도, 하위 6비트에 주차(1~53)를 두므로 키의 대소가 곧 시간 순서이다.
+ * 연말연시에 걸친 기간에서도 서로 다른 해의 같은 주차가 섞이지 않는다.
+ * LocalDate 를 만들지 않고 epoch 일 정수 연산만으로 계산한다.
+ */
+public final class WeekKey {
+    private WeekKey() {} // 인스턴스화 방지
+
+    private static final int WEEK_BITS = 6;
+    private static final long WEEK_MASK = (1L << WEEK_BITS) - 1;
+
+    /**
+     * epoch 일이 속한 주의 키
+     */
+    public static long of(long epochDay) {
+        // 그 주의 목요일이 속한 해가 주 기준 연도이다
+        long thursday = epochDay - dayOfWeek(epochDay) + 3;
+        int weekBasedYear = yearOf(thursday);
+        int week = (int) ((thursday - daysFromCivil(weekBasedYear, 1, 1)) / 7) + 1;
+        return pack(weekBasedYear, week);
+    }
+
+    public static long pack(int weekBasedYear, int week) {
+        return ((long) weekBasedYear << WEEK_BITS) | week;
+    }
+
+    public static int weekBasedYear(long key) {
+        return (int) (key >> WEEK_BITS);
+    }
+
+    public static int week(long key) {
+        return (int) (key & WEEK_MASK);
+    }
+
+    /**
+     * 주의 월요일 (epoch 일)
+     */
+    public static long monday(long key) {
+        // 1월 4일이 들어 있는 주가 1주차
+        long january4 = daysFromCivil(weekBasedYear(key), 1, 4);
+        return january4 - dayOfWeek(january4) + (week(key) - 1) * 7L;
+    }
+
+    /**
+     * 주의 일요일 (epoch 일)
+     */
+    public static long sunday(long key) {
+        return monday(key) + 6;
+    }
+
+    /**
+     * epoch 일이 속한 주의 월요일 (epoch 일)
+     */
+    public static long mondayOf(long epochDay) {
+        return epochDay - dayOfWeek(epochDay);
+    }
+
+    /** 요일 (월요일 0 ~ 일요일 6, 1970-01-01 은 목요일) */
+    static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7);
+    }
+
+    /**
+     * epoch 일의 연도 (그레고리력, 1970-01-01 = 0)
+     */
+    static int yearOf(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153; // 3월 = 0
+        long year = yearOfEra + era * 400;
+        return (int) (monthIndex >= 10 ? year + 1 : year);
+    }
+
+    /**
+     * 연/월/일의 epoch 일
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
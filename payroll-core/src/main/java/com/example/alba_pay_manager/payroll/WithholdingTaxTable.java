@@ -0,0 +1,127 @@
+package com.example.alba_pay_manager.payroll;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * 근로소득 간이세액표 (월 급여 구간 x 공제대상가족 수 -> 원천징수 소득세)
+ *
+ * 구간 하한을 정렬된 int 배열에, 세액을 (구간, 가족 수) 순의 평탄한 int 배열에 둔다.
+ * 조회는 이진 탐색 한 번과 배열 접근 한 번이며, 만든 뒤에는 바뀌지 않으므로 여러 스레드가 공유한다.
+ */
+public final class WithholdingTaxTable {
+    /** 표의 공제대상가족 수 열 (1~11명) */
+    public static final int MAX_DEPENDENTS = 11;
+
+    private final int[] lowerBounds; // 구간 하한 (원, 오름차순)
+    private final int[] taxes;       // [구간 * MAX_DEPENDENTS + 가족 수 - 1] (원)
+
+    private WithholdingTaxTable(int[] lowerBounds, int[] taxes) {
+        this.lowerBounds = lowerBounds;
+        this.taxes = taxes;
+    }
+
+    /**
+     * 월 급여에 대한 소득세 (첫 구간 미만은 0, 마지막 구간 이상은 마지막 구간 값)
+     *
+     * @param monthlyPay 월 급여 (비과세 제외, 원)
+     * @param dependents 공제대상가족 수 (본인 포함, 11명 초과는 11명으로 본다)
+     */
+    public int lookup(int monthlyPay, int dependents) {
+        int band = Arrays.binarySearch(lowerBounds, monthlyPay);
+        if (band < 0) {
+            band = -band - 2; // 하한이 monthlyPay 이하인 마지막 구간
+        }
+        if (band < 0) {
+            return 0;
+        }
+        int column = Math.max(1, Math.min(dependents, MAX_DEPENDENTS)) - 1;
+        return taxes[band * MAX_DEPENDENTS + column];
+    }
+
+    public int bandCount() {
+        return lowerBounds.length;
+    }
+
+    /**
+     * 국세청 간이세액표를 CSV 로 옮긴 파일을 읽는다
+     *
+     * 한 줄이 "이상(천원),미만(천원),1명,2명,...,11명(원)" 인 행만 읽고 머리글 등 숫자로 시작하지 않는 줄은 건너뛴다.
+     * 세액 열이 11개보다 적으면 마지막 값을 나머지 열에 채운다.
+     * 금액에는 자릿수 구분 쉼표가 없어야 한다.
+     *
+     * @throws IOException 읽기 실패 또는 구간이 오름차순이 아닌 경우
+     */
+    public static WithholdingTaxTable parse(Reader csv) throws IOException {
+        int[] bounds = new int[1024];
+        int[] taxes = new int[bounds.length * MAX_DEPENDENTS];
+        int count = 0;
+        BufferedReader reader = new BufferedReader(csv);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || !Character.isDigit(line.charAt(0))) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length < 3) {
+                throw new IOException("간이세액표 행 형식 오류: " + line);
+            }
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+                taxes = Arrays.copyOf(taxes, bounds.length * MAX_DEPENDENTS);
+            }
+            int lower = parseAmount(fields[0]) * 1000;
+            if (count > 0 && lower <= bounds[count - 1]) {
+                throw new IOException("간이세액표 구간이 오름차순이 아닙니다: " + line);
+            }
+            bounds[count] = lower;
+            int tax = 0;
+            for (int column = 0; column < MAX_DEPENDENTS; column++) {
+                if (column + 2 < fields.length) {
+                    tax = parseAmount(fields[column + 2]);
+                }
+                taxes[count * MAX_DEPENDENTS + column] = tax;
+            }
+            count++;
+        }
+        return new WithholdingTaxTable(Arrays.copyOf(bounds, count),
+                Arrays.copyOf(taxes, count * MAX_DEPENDENTS));
+    }
+
+    private static int parseAmount(String field) {
+        String digits = field.trim().replace("\"", "");
+        return digits.isEmpty() || "-".equals(digits) ? 0 : Integer.parseInt(digits);
+    }
+
+    /**
+     * 공식 표가 없을 때 쓰는 근사 표
+     * 10,000원 구간마다 중간값에서 (급여 - 기본공제 - 가족 1명당 월 12.5만원) x 세율 - 월 세액공제 를
+     * 10원 미만 절사해 채운다.
+     *
+     * @param basicDeduction 월 기본공제액 (원)
+     * @param rate           세율
+     * @param annualCredit   연 세액공제액 (원, 12로 나눠 월 단위로 뺀다)
+     */
+    public static WithholdingTaxTable approximate(int basicDeduction, double rate, int annualCredit) {
+        final int first = 770_000;
+        final int last = 10_000_000;
+        final int width = 10_000;
+        final int dependentDeduction = 125_000; // 인적공제 연 150만원의 월 환산
+        int count = (last - first) / width;
+        int[] bounds = new int[count];
+        int[] taxes = new int[count * MAX_DEPENDENTS];
+        for (int band = 0; band < count; band++) {
+            bounds[band] = first + band * width;
+            long middle = bounds[band] + width / 2;
+            for (int column = 0; column < MAX_DEPENDENTS; column++) {
+                long taxable = middle - basicDeduction - (long) column * dependentDeduction;
+                long tax = (long) (taxable * rate) - annualCredit / 12;
+                taxes[band * MAX_DEPENDENTS + column] = (int) (Math.max(0, tax) / 10 * 10);
+            }
+        }
+        return new WithholdingTaxTable(bounds, taxes);
+    }
+}
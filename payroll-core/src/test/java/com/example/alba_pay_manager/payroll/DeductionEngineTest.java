@@ -0,0 +1,85 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+public class DeductionEngineTest {
+    // 2024년 7월 요율 한 행: 연금 4.5% (하한 39만, 상한 617만), 건강 3.545%, 요양 12.95%, 고용 0.9%
+    private static final InsuranceRates RATES = new InsuranceRates(
+            new int[] {202407, 4500, 390_000, 6_170_000, 3545, 12950, 900});
+
+    private static WithholdingTaxTable table() throws IOException {
+        // 100만원 이상 구간: 1명 10,000원, 2명 이상 5,000원
+        return WithholdingTaxTable.parse(new StringReader("이상,미만,1명,2명\n1000,2000,10000,5000\n"));
+    }
+
+    @Test
+    public void deductsInsuranceAndTaxes() throws IOException {
+        DeductionEngine engine = new DeductionEngine(table(), RATES, 10);
+        DeductionEngine.Result out = new DeductionEngine.Result();
+        engine.deduct(2024, 7, 2_000_000, 1, out);
+
+        assertEquals(90_000, out.pension);
+        assertEquals(70_900, out.health);
+        assertEquals(9_180, out.longTermCare); // 9,181.55 -> 10원 미만 절사
+        assertEquals(18_000, out.employment);
+        assertEquals(188_080, out.insurance);
+        assertEquals(10_000, out.incomeTax);
+        assertEquals(1_000, out.localTax);
+        assertEquals(2_000_000 - 188_080 - 10_000 - 1_000, out.netPay);
+    }
+
+    @Test
+    public void dependentsUseLaterColumns() throws IOException {
+        DeductionEngine engine = new DeductionEngine(table(), RATES, 10);
+        DeductionEngine.Result out = new DeductionEngine.Result();
+        engine.deduct(2024, 7, 2_000_000, 11, out);
+        assertEquals(5_000, out.incomeTax); // 없는 열은 마지막 값으로 채운다
+    }
+
+    @Test
+    public void lowPayUsesPensionFloorAndNeverGoesNegative() throws IOException {
+        DeductionEngine engine = new DeductionEngine(table(), RATES, 10);
+        DeductionEngine.Result out = new DeductionEngine.Result();
+        engine.deduct(2024, 7, 10_000, 1, out);
+        assertEquals(17_550, out.pension); // 하한 39만원 기준
+        assertEquals(0, out.incomeTax);
+        assertEquals(0, out.netPay);
+    }
+
+    @Test
+    public void ratesFollowEffectiveMonth() {
+        DeductionEngine.Result out = new DeductionEngine.Result();
+        InsuranceRates.KOREA.contributions(2024, 6, 100_000, out);
+        assertEquals(16_650, out.pension); // 2024년 6월 하한 37만원
+        InsuranceRates.KOREA.contributions(2024, 7, 100_000, out);
+        assertEquals(17_550, out.pension); // 2024년 7월 하한 39만원
+    }
+
+    @Test
+    public void rates2026() {
+        DeductionEngine.Result out = new DeductionEngine.Result();
+        InsuranceRates.KOREA.contributions(2025, 12, 2_000_000, out);
+        assertEquals(90_000, out.pension);
+        assertEquals(70_900, out.health);
+        InsuranceRates.KOREA.contributions(2026, 1, 2_000_000, out);
+        assertEquals(95_000, out.pension); // 4.75%
+        assertEquals(71_900, out.health); // 3.595%
+        assertEquals(9_440, out.longTermCare); // 건강보험료의 13.14%
+        assertEquals(18_000, out.employment);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeGrossPay() throws IOException {
+        new DeductionEngine(table(), RATES, 10).deduct(2024, 7, -1, 1, new DeductionEngine.Result());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsUnsortedTaxTable() throws IOException {
+        WithholdingTaxTable.parse(new StringReader("2000,3000,100\n1000,2000,50\n"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public class HolidayCalendarTest {
+    private static long day(int year, int month, int dayOfMonth) {
+        return LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    @After
+    public void clearClosureDays() {
+        HolidayCalendar.setClosureDays(new long[0]);
+    }
+
+    @Test
+    public void weekendsAndFixedHolidays() {
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 1, 1)));   // 신정 (월)
+        assertFalse(HolidayCalendar.isHoliday(day(2024, 1, 2)));  // 화
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 1, 6)));   // 토
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 1, 7)));   // 일
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 6, 6)));   // 현충일 (목)
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 12, 25))); // 성탄절 (수)
+    }
+
+    @Test
+    public void lunarHolidaysAndSubstitutes() {
+        // 2024 설날 2/9~2/11 (금~일), 일요일과 겹쳐 2/12 대체공휴일
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 2, 9)));
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 2, 12)));
+        assertFalse(HolidayCalendar.isHoliday(day(2024, 2, 13)));
+        // 2024 어린이날이 일요일이라 5/6 대체공휴일
+        assertTrue(HolidayCalendar.isHoliday(day(2024, 5, 6)));
+        assertFalse(HolidayCalendar.isHoliday(day(2024, 5, 7)));
+        // 2025 추석 10/5~10/7 (일~화), 10/8 대체공휴일, 10/9 한글날
+        assertTrue(HolidayCalendar.isHoliday(day(2025, 10, 6)));
+        assertTrue(HolidayCalendar.isHoliday(day(2025, 10, 8)));
+        assertTrue(HolidayCalendar.isHoliday(day(2025, 10, 9)));
+        assertFalse(HolidayCalendar.isHoliday(day(2025, 10, 10)));
+    }
+
+    @Test
+    public void weekdayHolidaysSkipWeekends() {
+        assertArrayEquals(new long[] {day(2024, 2, 9), day(2024, 2, 12)},
+                HolidayCalendar.weekdayHolidays(day(2024, 2, 1), day(2024, 3, 1)));
+    }
+
+    @Test
+    public void closureDaysAreHolidaysUntilReplaced() {
+        long wednesday = day(2024, 3, 13);
+        assertFalse(HolidayCalendar.isHoliday(wednesday));
+
+        HolidayCalendar.setClosureDays(new long[] {day(2023, 12, 29), wednesday});
+        assertTrue(HolidayCalendar.isHoliday(wednesday));
+        assertTrue(HolidayCalendar.isHoliday(day(2023, 12, 29)));
+        assertFalse(HolidayCalendar.isHoliday(day(2024, 3, 14)));
+        // 공휴일 표에는 매장 휴무일이 들어가지 않는다
+        assertTrue(Arrays.binarySearch(HolidayCalendar.publicWeekdayHolidays(2024, 2024), wednesday) < 0);
+
+        HolidayCalendar.setClosureDays(new long[0]);
+        assertFalse(HolidayCalendar.isHoliday(wednesday));
+    }
+
+    @Test
+    public void publicWeekdayHolidaysMatchIsHoliday() {
+        long[] days = HolidayCalendar.publicWeekdayHolidays(2015, HolidayCalendar.LAST_LUNAR_YEAR);
+        int index = 0;
+        for (long d = day(2015, 1, 1); d < day(HolidayCalendar.LAST_LUNAR_YEAR + 1, 1, 1); d++) {
+            boolean weekdayHoliday = WeekKey.dayOfWeek(d) < 5 && HolidayCalendar.isHoliday(d);
+            if (weekdayHoliday) {
+                assertEquals(d, days[index++]);
+            }
+        }
+        assertEquals(days.length, index);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void publicWeekdayHolidaysRejectYearsPastLunarTable() {
+        HolidayCalendar.publicWeekdayHolidays(2024, HolidayCalendar.LAST_LUNAR_YEAR + 1);
+    }
+}
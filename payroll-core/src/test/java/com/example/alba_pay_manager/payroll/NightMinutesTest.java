@@ -0,0 +1,77 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * {@link NightMinutes#between} 을 1분씩 세는 기준 구현과 비교
+ */
+public class NightMinutesTest {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int NIGHT_START_MINUTE = 22 * 60;
+    private static final int NIGHT_END_MINUTE = 6 * 60;
+
+    /**
+     * 1분씩 세는 기준 구현 (느림)
+     */
+    private static long reference(long start, long end) {
+        long night = 0;
+        for (long minute = start; minute < end; minute++) {
+            long minuteOfDay = Math.floorMod(minute, MINUTES_PER_DAY);
+            if (minuteOfDay >= NIGHT_START_MINUTE || minuteOfDay < NIGHT_END_MINUTE) {
+                night++;
+            }
+        }
+        return night;
+    }
+
+    @Test
+    public void emptyOrReversedRangeIsZero() {
+        assertEquals(0, NightMinutes.between(100, 100));
+        assertEquals(0, NightMinutes.between(200, 100));
+    }
+
+    @Test
+    public void fullNight() {
+        // 22:00 ~ 다음날 06:00
+        assertEquals(8 * 60, NightMinutes.between(NIGHT_START_MINUTE, MINUTES_PER_DAY + NIGHT_END_MINUTE));
+        // 하루 전체
+        assertEquals(8 * 60, NightMinutes.between(0, MINUTES_PER_DAY));
+    }
+
+    @Test
+    public void daytimeIsZero() {
+        assertEquals(0, NightMinutes.between(NIGHT_END_MINUTE, NIGHT_START_MINUTE));
+    }
+
+    @Test
+    public void negativeEpochMinutes() {
+        // 1969-12-31 23:00 ~ 1970-01-01 01:00
+        assertEquals(120, NightMinutes.between(-60, 60));
+    }
+
+    /**
+     * 정각이 아닌 시작, 자정/06시/22시 경계, 여러 날에 걸친 구간을 골고루 만든다
+     */
+    @Test
+    public void matchesReferenceOnRandomRanges() {
+        Random random = new Random(20240101L);
+        int[] boundaries = {0, NIGHT_END_MINUTE, NIGHT_START_MINUTE};
+        for (int i = 0; i < 2_000; i++) {
+            long day = random.nextInt(40_000) - 20_000;
+            long start;
+            if (random.nextBoolean()) {
+                // 경계 전후 몇 분
+                start = day * MINUTES_PER_DAY + boundaries[random.nextInt(boundaries.length)]
+                        + random.nextInt(5) - 2;
+            } else {
+                start = day * MINUTES_PER_DAY + random.nextInt(MINUTES_PER_DAY);
+            }
+            long end = start + random.nextInt(3 * MINUTES_PER_DAY + 1);
+            assertEquals("[" + start + ", " + end + ")", reference(start, end), NightMinutes.between(start, end));
+        }
+    }
+}
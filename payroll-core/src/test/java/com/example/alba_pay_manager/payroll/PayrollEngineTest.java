@@ -0,0 +1,259 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+/**
+ * 시급 10,000원, 2024년 3월 11일(월)~17일(일) 주를 기준으로 수당별 분과 금액 확인
+ */
+public class PayrollEngineTest {
+    private static final int WAGE = 10_000;
+    private static final PayPlan DEFAULT = PayRuleSet.DEFAULT.compile();
+    private static final long MONDAY = LocalDate.of(2024, 3, 11).toEpochDay();
+    private static final long MARCH = LocalDate.of(2024, 3, 1).toEpochDay();
+    private static final long APRIL = LocalDate.of(2024, 4, 1).toEpochDay();
+
+    /** 날짜와 시의 epoch 분 (벽시계 시각) */
+    private static long minute(long day, int hour) {
+        return day * 24 * 60 + hour * 60;
+    }
+
+    /** day 부터 count 일 동안 매일 startHour 부터 hours 시간 근무 */
+    private static PayrollEngine.Breakdown daily(long day, int count, int startHour, int hours,
+                                                 long payFromDay, long payToDay,
+                                                 WageSchedule wages, PayPlan plan) {
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = minute(day + i, startHour);
+            ends[i] = starts[i] + hours * 60L;
+        }
+        PayrollEngine.Breakdown out = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateShifts(starts, ends, 0, count, payFromDay, payToDay, wages, plan, out);
+        return out;
+    }
+
+    private static PayrollEngine.Breakdown daily(long day, int count, int startHour, int hours) {
+        return daily(day, count, startHour, hours, MARCH, APRIL, WageSchedule.of(WAGE), DEFAULT);
+    }
+
+    @Test
+    public void regularDay() {
+        PayrollEngine.Breakdown out = daily(MONDAY + 1, 1, 9, 8);
+        assertEquals(480, out.totalMinutes);
+        assertEquals(480, out.regularMinutes);
+        assertEquals(80_000, out.regularPay);
+        assertEquals(0, out.weeklyAllowanceMinutes); // 주 15시간 미만
+        assertEquals(80_000, out.totalPay);
+    }
+
+    @Test
+    public void nightShiftAcrossMidnight() {
+        PayrollEngine.Breakdown out = daily(MONDAY + 1, 1, 22, 8);
+        assertEquals(480, out.nightMinutes);
+        assertEquals(0, out.regularMinutes);
+        assertEquals(120_000, out.nightPay);
+    }
+
+    @Test
+    public void dailyOvertimeOverEightHours() {
+        PayrollEngine.Breakdown out = daily(MONDAY + 1, 1, 8, 11);
+        assertEquals(480, out.regularMinutes);
+        assertEquals(180, out.overtimeMinutes);
+        assertEquals(80_000 + 45_000, out.totalPay);
+    }
+
+    @Test
+    public void weekendIsHoliday() {
+        PayrollEngine.Breakdown out = daily(MONDAY + 5, 1, 9, 8);
+        assertEquals(480, out.holidayMinutes);
+        assertEquals(120_000, out.holidayPay);
+    }
+
+    @Test
+    public void fullWeekEarnsWeeklyAllowance() {
+        PayrollEngine.Breakdown out = daily(MONDAY, 5, 9, 8);
+        assertEquals(2400, out.regularMinutes);
+        assertEquals(480, out.weeklyAllowanceMinutes);
+        assertEquals(80_000, out.weeklyAllowancePay);
+        assertEquals(480_000, out.totalPay);
+    }
+
+    @Test
+    public void daysBeforePayPeriodCountOnlyTowardsWeeklyAllowance() {
+        // 수요일부터 지급 기간, 주휴는 일요일이 기간 안이므로 주 전체로 판정
+        PayrollEngine.Breakdown out = daily(MONDAY, 5, 9, 8, MONDAY + 2, APRIL,
+                WageSchedule.of(WAGE), DEFAULT);
+        assertEquals(3 * 480, out.totalMinutes);
+        assertEquals(480, out.weeklyAllowanceMinutes);
+    }
+
+    @Test
+    public void weeklyOvertimeWhenRuleEnabled() {
+        // 휴일 규칙 없이 주 40시간 초과 규칙만 더하면 토요일 8시간이 주 연장이 된다
+        PayPlan plan = PayRuleSet.DEFAULT.without(PayRule.Kind.HOLIDAY)
+                .with(PayRule.of(PayRule.Kind.WEEKLY_OVERTIME)).compile();
+        PayrollEngine.Breakdown out = daily(MONDAY, 6, 9, 8, MARCH, APRIL, WageSchedule.of(WAGE), plan);
+        assertEquals(2400, out.regularMinutes);
+        assertEquals(480, out.overtimeMinutes);
+        assertEquals(0, out.holidayMinutes);
+    }
+
+    @Test
+    public void wageChangeAppliesFromEffectiveDay() {
+        WageSchedule wages = WageSchedule.of(new long[] {0, MONDAY + 2}, new int[] {WAGE, 12_000}, 0, 2, 0);
+        PayrollEngine.Breakdown out = daily(MONDAY, 5, 9, 8, MARCH, APRIL, wages, DEFAULT);
+        assertEquals(2 * 80_000 + 3 * 96_000, out.regularPay);
+        assertEquals(96_000, out.weeklyAllowancePay); // 일요일 시급
+    }
+
+    @Test
+    public void minimumWageFloor() {
+        WageSchedule wages = WageSchedule.of(new long[] {0}, new int[] {9_000}, 0, 1, WAGE);
+        PayrollEngine.Breakdown out = daily(MONDAY + 1, 1, 9, 8, MARCH, APRIL, wages, DEFAULT);
+        assertEquals(80_000, out.regularPay);
+    }
+
+    @Test
+    public void minimumWageFloorChangesOnEffectiveDay() {
+        // 수요일부터 최저시급이 12,000원으로 오르는 기간 (연도가 바뀌는 주)
+        WageSchedule wages = WageSchedule.of(new long[] {0}, new int[] {9_000}, 0, 1, 0)
+                .withFloors(new long[] {0, MONDAY + 2}, new int[] {WAGE, 12_000});
+        assertEquals(WAGE, wages.floorOn(MONDAY + 1));
+        assertEquals(12_000, wages.floorOn(MONDAY + 2));
+        assertFalse(wages.isConstant(MONDAY, MONDAY + 7));
+        PayrollEngine.Breakdown out = daily(MONDAY, 5, 9, 8, MARCH, APRIL, wages, DEFAULT);
+        assertEquals(2 * 80_000 + 3 * 96_000, out.regularPay);
+    }
+
+    @Test
+    public void dayRollupsMatchShiftsForDaytimeWork() {
+        long[] days = new long[5];
+        int[] minutes = new int[5];
+        int[] night = new int[5];
+        for (int i = 0; i < 5; i++) {
+            days[i] = MONDAY + i;
+            minutes[i] = 480;
+        }
+        PayrollEngine.Breakdown fromDays = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateDays(days, minutes, night, 0, 5, MARCH, APRIL,
+                WageSchedule.of(WAGE), DEFAULT, fromDays);
+        PayrollEngine.Breakdown fromShifts = daily(MONDAY, 5, 9, 8);
+        assertEquals(fromShifts.regularMinutes, fromDays.regularMinutes);
+        assertEquals(fromShifts.weeklyAllowanceMinutes, fromDays.weeklyAllowanceMinutes);
+        assertEquals(fromShifts.totalPay, fromDays.totalPay);
+    }
+
+    /**
+     * 같은 근무를 근무 배열과 (직접 나눈) 일자별 집계로 계산해 모든 분과 금액이 같은지 확인
+     */
+    private static PayrollEngine.Breakdown assertShiftsMatchDays(long[] starts, long[] ends,
+                                                                 long[] days, int[] minutes, int[] night) {
+        PayrollEngine.Breakdown fromShifts = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateShifts(starts, ends, 0, starts.length, MARCH, APRIL,
+                WageSchedule.of(WAGE), DEFAULT, fromShifts);
+        PayrollEngine.Breakdown fromDays = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateDays(days, minutes, night, 0, days.length, MARCH, APRIL,
+                WageSchedule.of(WAGE), DEFAULT, fromDays);
+        assertEquals(fromDays.totalMinutes, fromShifts.totalMinutes);
+        assertEquals(fromDays.regularMinutes, fromShifts.regularMinutes);
+        assertEquals(fromDays.nightMinutes, fromShifts.nightMinutes);
+        assertEquals(fromDays.overtimeMinutes, fromShifts.overtimeMinutes);
+        assertEquals(fromDays.holidayMinutes, fromShifts.holidayMinutes);
+        assertEquals(fromDays.weeklyAllowanceMinutes, fromShifts.weeklyAllowanceMinutes);
+        assertArrayEquals(fromDays.segmentMinutes, fromShifts.segmentMinutes);
+        assertArrayEquals(fromDays.segmentPay, fromShifts.segmentPay);
+        assertEquals(fromDays.weeklyAllowancePay, fromShifts.weeklyAllowancePay);
+        assertEquals(fromDays.totalPay, fromShifts.totalPay);
+        return fromShifts;
+    }
+
+    @Test
+    public void splitShiftsShareDailyLimit() {
+        // 화요일 10~14시, 17~23시: 하루 주간 9시간이므로 1시간이 연장
+        long day = MONDAY + 1;
+        PayrollEngine.Breakdown out = assertShiftsMatchDays(
+                new long[] {minute(day, 10), minute(day, 17)}, new long[] {minute(day, 14), minute(day, 23)},
+                new long[] {day}, new int[] {600}, new int[] {60});
+        assertEquals(60, out.overtimeMinutes);
+        assertEquals(60, out.nightMinutes);
+    }
+
+    @Test
+    public void overnightShiftIsSplitAtMidnight() {
+        // 화요일 20시 ~ 수요일 06시
+        long day = MONDAY + 1;
+        PayrollEngine.Breakdown out = assertShiftsMatchDays(
+                new long[] {minute(day, 20)}, new long[] {minute(day + 1, 6)},
+                new long[] {day, day + 1}, new int[] {240, 360}, new int[] {120, 360});
+        assertEquals(600, out.totalMinutes);
+        assertEquals(480, out.nightMinutes);
+    }
+
+    @Test
+    public void fridayToSaturdayShiftIsHolidayAfterMidnight() {
+        // 금요일 18시 ~ 토요일 10시: 토요일 분은 휴일
+        long friday = MONDAY + 4;
+        PayrollEngine.Breakdown out = assertShiftsMatchDays(
+                new long[] {minute(friday, 18)}, new long[] {minute(friday + 1, 10)},
+                new long[] {friday, friday + 1}, new int[] {360, 600}, new int[] {120, 360});
+        assertEquals(240, out.holidayMinutes);
+        assertEquals(240, out.regularMinutes);
+    }
+
+    @Test
+    public void unsortedShiftsGiveSameResult() {
+        // 같은 주 근무를 거꾸로 넘겨도 날짜 순으로 계산한다 (주 40시간 초과분 순서 포함)
+        PayPlan plan = PayRuleSet.DEFAULT.with(PayRule.of(PayRule.Kind.WEEKLY_OVERTIME)).compile();
+        long[] starts = new long[5];
+        long[] ends = new long[5];
+        for (int i = 0; i < 5; i++) {
+            starts[4 - i] = minute(MONDAY + i, 8);
+            ends[4 - i] = minute(MONDAY + i, 18);
+        }
+        PayrollEngine.Breakdown reversed = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateShifts(starts, ends, 0, 5, MARCH, APRIL, WageSchedule.of(WAGE), plan, reversed);
+        PayrollEngine.Breakdown ordered = daily(MONDAY, 5, 8, 10, MARCH, APRIL, WageSchedule.of(WAGE), plan);
+        assertArrayEquals(ordered.segmentMinutes, reversed.segmentMinutes);
+        assertEquals(ordered.totalPay, reversed.totalPay);
+    }
+
+    @Test
+    public void weeklyAllowanceMinutesIsProportional() {
+        assertEquals(0, PayrollEngine.weeklyAllowanceMinutes(899));
+        assertEquals(180, PayrollEngine.weeklyAllowanceMinutes(900));
+        assertEquals(480, PayrollEngine.weeklyAllowanceMinutes(2400));
+        assertEquals(480, PayrollEngine.weeklyAllowanceMinutes(3000));
+    }
+
+    @Test
+    public void reclassifyAsHolidayMovesDaytimeMinutes() {
+        PayrollEngine.Breakdown out = new PayrollEngine.Breakdown();
+        out.regularMinutes = 480;
+        out.overtimeMinutes = 120;
+        out.nightMinutes = 60;
+        PayrollEngine.reclassifyAsHoliday(660, 60, out);
+        assertEquals(0, out.regularMinutes);
+        assertEquals(0, out.overtimeMinutes);
+        assertEquals(600, out.holidayMinutes);
+        assertEquals(60, out.nightMinutes);
+    }
+
+    @Test
+    public void priceUsesDefaultRates() {
+        PayrollEngine.Breakdown out = new PayrollEngine.Breakdown();
+        out.regularMinutes = 60;
+        out.nightMinutes = 60;
+        out.weeklyAllowanceMinutes = 60;
+        PayrollEngine.price(WAGE, out);
+        assertEquals(10_000, out.regularPay);
+        assertEquals(15_000, out.nightPay);
+        assertEquals(10_000, out.weeklyAllowancePay);
+        assertEquals(35_000, out.totalPay);
+    }
+}
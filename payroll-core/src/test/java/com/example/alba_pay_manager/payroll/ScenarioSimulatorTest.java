@@ -0,0 +1,113 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시나리오별 결과가 알바생마다 따로 계산한 PayrollEngine 결과와 같은지 확인
+ * 알바생 수는 작업 분할 기준(16명)을 넘게 잡는다.
+ */
+public class ScenarioSimulatorTest {
+    private static final int WORKERS = 40;
+    private static final long FROM = LocalDate.of(2024, 3, 1).toEpochDay();
+    private static final long TO = LocalDate.of(2024, 4, 1).toEpochDay();
+
+    private final long[] workerIds = new long[WORKERS];
+    private final WageSchedule[] wages = new WageSchedule[WORKERS];
+    private long[] employeeIds;
+    private long[] days;
+    private int[] minutes;
+    private int[] nightMinutes;
+
+    public ScenarioSimulatorTest() {
+        Random random = new Random(7);
+        int capacity = WORKERS * (int) (TO - FROM + 7);
+        employeeIds = new long[capacity];
+        days = new long[capacity];
+        minutes = new int[capacity];
+        nightMinutes = new int[capacity];
+        int count = 0;
+        for (int w = 0; w < WORKERS; w++) {
+            workerIds[w] = w + 1;
+            wages[w] = WageSchedule.of(new long[] {0, FROM + 10}, new int[] {9_860, 10_000 + w * 100}, 0, 2, 0);
+            if (w == WORKERS - 1) {
+                continue; // 근무 없는 알바생
+            }
+            // 첫 주 월요일부터
+            for (long day = WeekKey.mondayOf(FROM); day < TO; day++) {
+                if (random.nextInt(3) == 0) {
+                    continue;
+                }
+                employeeIds[count] = w + 1;
+                days[count] = day;
+                minutes[count] = 240 + random.nextInt(9) * 60;
+                nightMinutes[count] = random.nextInt(4) == 0 ? Math.min(minutes[count], 120) : 0;
+                count++;
+            }
+        }
+        employeeIds = Arrays.copyOf(employeeIds, count);
+        days = Arrays.copyOf(days, count);
+        minutes = Arrays.copyOf(minutes, count);
+        nightMinutes = Arrays.copyOf(nightMinutes, count);
+    }
+
+    private long expectedPay(int worker, WageSchedule schedule, PayRuleSet rules) {
+        int start = 0;
+        while (start < employeeIds.length && employeeIds[start] < workerIds[worker]) {
+            start++;
+        }
+        int end = start;
+        while (end < employeeIds.length && employeeIds[end] == workerIds[worker]) {
+            end++;
+        }
+        PayrollEngine.Breakdown out = new PayrollEngine.Breakdown();
+        PayrollEngine.calculateDays(days, minutes, nightMinutes, start, end, FROM, TO,
+                schedule, rules.compile(), out);
+        return out.totalPay;
+    }
+
+    @Test
+    public void scenariosMatchPerWorkerCalculation() {
+        PayRuleSet noNight = PayRuleSet.DEFAULT.without(PayRule.Kind.NIGHT);
+        List<PayScenario> scenarios = Arrays.asList(
+                PayScenario.of("현재", PayRuleSet.DEFAULT),
+                PayScenario.of("시급 3% 인상", PayRuleSet.DEFAULT).withWageChange(300),
+                PayScenario.of("야간수당 없음", noNight),
+                PayScenario.of("최저시급 11,000원", PayRuleSet.DEFAULT).withMinimumWage(11_000));
+        ScenarioSimulator.Comparison comparison = ScenarioSimulator.simulate(workerIds, wages,
+                employeeIds, days, minutes, nightMinutes, FROM, TO, scenarios);
+
+        assertEquals(4, comparison.scenarioCount());
+        assertEquals(WORKERS, comparison.employeeCount());
+        long[] totals = new long[4];
+        for (int w = 0; w < WORKERS; w++) {
+            assertEquals(workerIds[w], comparison.employeeId(w));
+            assertEquals(expectedPay(w, wages[w], PayRuleSet.DEFAULT), comparison.employeePay(w, 0));
+            assertEquals(expectedPay(w, wages[w].scaled(10_300), PayRuleSet.DEFAULT), comparison.employeePay(w, 1));
+            assertEquals(expectedPay(w, wages[w], noNight), comparison.employeePay(w, 2));
+            assertEquals(expectedPay(w, wages[w].withFloor(11_000), PayRuleSet.DEFAULT), comparison.employeePay(w, 3));
+            for (int s = 0; s < 4; s++) {
+                totals[s] += comparison.employeePay(w, s);
+            }
+        }
+        assertEquals(0, comparison.employeePay(WORKERS - 1, 0));
+        for (int s = 0; s < 4; s++) {
+            assertEquals(totals[s], comparison.totalPay(s));
+            assertEquals(totals[s] - totals[0], comparison.difference(s));
+        }
+        assertEquals(0, comparison.segmentPay(2, PayPlan.NIGHT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyScenarioList() {
+        ScenarioSimulator.simulate(workerIds, wages, employeeIds, days, minutes, nightMinutes, FROM, TO,
+                Collections.<PayScenario>emptyList());
+    }
+}
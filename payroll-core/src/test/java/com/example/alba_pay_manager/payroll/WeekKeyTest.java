@@ -0,0 +1,63 @@
+package com.example.alba_pay_manager.payroll;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * WeekKey 의 정수 연산을 java.time 의 ISO 주와 비교
+ */
+public class WeekKeyTest {
+    private static final int FROM_DAY = -20_000; // 1915년
+    private static final int TO_DAY = 40_000;    // 2079년
+
+    @Test
+    public void matchesIsoWeekFields() {
+        for (long day = FROM_DAY; day < TO_DAY; day++) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            long key = WeekKey.of(day);
+            assertEquals(date.toString(), date.get(IsoFields.WEEK_BASED_YEAR), WeekKey.weekBasedYear(key));
+            assertEquals(date.toString(), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), WeekKey.week(key));
+        }
+    }
+
+    @Test
+    public void mondayAndSundayBoundTheWeek() {
+        for (long day = FROM_DAY; day < TO_DAY; day += 3) {
+            long key = WeekKey.of(day);
+            long monday = WeekKey.monday(key);
+            assertEquals(DayOfWeek.MONDAY, LocalDate.ofEpochDay(monday).getDayOfWeek());
+            assertEquals(monday, WeekKey.mondayOf(day));
+            assertEquals(monday + 6, WeekKey.sunday(key));
+            assertTrue(day >= monday && day <= monday + 6);
+        }
+    }
+
+    @Test
+    public void keysFollowTimeOrder() {
+        // 2020-12-31 (2020년 53주차) 다음 주가 2021년 1주차
+        long lastWeek = WeekKey.of(LocalDate.of(2020, 12, 31).toEpochDay());
+        long firstWeek = WeekKey.of(LocalDate.of(2021, 1, 4).toEpochDay());
+        assertEquals(WeekKey.pack(2020, 53), lastWeek);
+        assertEquals(WeekKey.pack(2021, 1), firstWeek);
+        assertTrue(lastWeek < firstWeek);
+        for (long day = FROM_DAY; day < TO_DAY; day++) {
+            assertTrue(WeekKey.of(day) <= WeekKey.of(day + 1));
+        }
+    }
+
+    @Test
+    public void civilDatesMatchLocalDate() {
+        for (long day = FROM_DAY; day < TO_DAY; day++) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            assertEquals(date.getYear(), WeekKey.yearOf(day));
+            assertEquals(day, WeekKey.daysFromCivil(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            assertEquals(date.getDayOfWeek().getValue() - 1, WeekKey.dayOfWeek(day));
+        }
+    }
+}
@@ -15,4 +15,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "Alba_pay_manager"
 include(":app")
+include(":payroll-core")
+include(":payroll-bench")
  
\ No newline at end of file